@@ -37,12 +37,14 @@ dependencies {
     annotationProcessor("org.projectlombok:lombok")
     testImplementation("org.springframework.boot:spring-boot-starter-test")
     testImplementation("org.springframework.security:spring-security-test")
+    testImplementation("com.icegreen:greenmail-junit5:2.1.5") // 알림 메일 발송 테스트용 SMTP 서버
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
     implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:2.8.13")
     implementation("io.jsonwebtoken:jjwt-api:0.12.6")
     runtimeOnly("io.jsonwebtoken:jjwt-impl:0.12.6")
     runtimeOnly("io.jsonwebtoken:jjwt-jackson:0.12.6")
     implementation("org.springframework.boot:spring-boot-starter-websocket")
+    implementation("org.springframework.boot:spring-boot-starter-reactor-netty") // STOMP 브로커 릴레이 TCP 연결
     implementation("com.fasterxml.jackson.core:jackson-databind")
     implementation(platform("software.amazon.awssdk:bom:2.20.26"))
     implementation("software.amazon.awssdk:s3")
@@ -50,4 +52,15 @@ dependencies {
 
 tasks.withType<Test> {
     useJUnitPlatform()
+    // 테스트 실행 중 채팅 메시지 저널은 빌드 디렉터리에
+    systemProperty("custom.chat.journal-dir", layout.buildDirectory.dir("trade-chat-journal").get().asFile.path)
+    // 컨텍스트마다 알림 아웃박스 발송/어항 알림 타이머가 돌지 않도록 (DB가 내려간 컨텍스트에서도 계속 폴링함)
+    systemProperty("custom.mail.scheduling.enabled", "false")
+}
+
+// 이메일 템플릿 렌더링 마이크로벤치마크 (gradle emailTemplateBenchmark --args=replace|render|renderTo)
+tasks.register<JavaExec>("emailTemplateBenchmark") {
+    group = "verification"
+    classpath = sourceSets["test"].runtimeClasspath
+    mainClass = "org.example.backend.domain.notification.service.EmailTemplateBenchmark"
 }
@@ -0,0 +1,25 @@
+package org.example.backend.domain.aquarium.dto;
+
+import java.time.LocalDateTime;
+import org.example.backend.domain.aquarium.entity.Aquarium;
+
+// 관리 알림 메일에 필요한 어항/회원 정보
+public record AquariumReminderDto(
+    Long aquariumId,
+    String aquariumName,
+    int cycleDate,
+    LocalDateTime nextDate,
+    String email,
+    String nickname
+) {
+  public AquariumReminderDto(Aquarium aquarium) {
+    this (
+        aquarium.getId(),
+        aquarium.getName(),
+        aquarium.getCycleDate(),
+        aquarium.getNextDate(),
+        aquarium.getMember().getEmail(),
+        aquarium.getMember().getNickname()
+    );
+  }
+}
@@ -0,0 +1,11 @@
+package org.example.backend.domain.aquarium.dto;
+
+import java.time.LocalDateTime;
+
+// 알림이 설정된 어항의 다음 알림일
+public record AquariumScheduleDto(
+    Long aquariumId,
+    LocalDateTime nextDate
+) {
+
+}
@@ -1,9 +1,13 @@
 package org.example.backend.domain.aquarium.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.example.backend.domain.aquarium.dto.AquariumReminderDto;
+import org.example.backend.domain.aquarium.dto.AquariumScheduleDto;
 import org.example.backend.domain.aquarium.entity.Aquarium;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -17,13 +21,42 @@ public interface AquariumRepository extends JpaRepository<Aquarium, Long> {
   Optional<Aquarium> findByMember_MemberIdAndOwnedAquariumTrue(Long memberId);
 
   /**
-   * 이메일 알림을 보낼 어항들을 조회
+   * 이메일 알림을 보낼 어항들을 ID 순으로 afterId 이후부터 조회 (회원 정보를 같은 쿼리에서 함께 조회)
    * - cycleDate가 0보다 큰 어항 (알림 활성화)
    * - nextDate가 현재 시간보다 이전이거나 같은 어항 (알림 시간 도래)
    * - 회원의 이메일이 존재하는 어항
    */
-  @Query("SELECT a FROM Aquarium a WHERE a.cycleDate > 0 " +
-         "AND a.nextDate <= :now " +
-         "AND a.member.email IS NOT NULL")
-  List<Aquarium> findAquariumsForNotification(@Param("now") LocalDateTime now);
+  @Query("SELECT new org.example.backend.domain.aquarium.dto.AquariumReminderDto("
+      + "a.id, a.name, a.cycleDate, a.nextDate, m.email, m.nickname) "
+      + "FROM Aquarium a JOIN a.member m "
+      + "WHERE a.cycleDate > 0 "
+      + "AND a.nextDate <= :now "
+      + "AND m.email IS NOT NULL "
+      + "AND a.id > :afterId "
+      + "ORDER BY a.id")
+  List<AquariumReminderDto> findAquariumsForNotification(@Param("now") LocalDateTime now,
+      @Param("afterId") Long afterId, Pageable pageable);
+
+  /**
+   * 알림이 설정된 어항의 다음 알림일을 ID 순으로 afterId 이후부터 조회 (알림 타이머 복구용)
+   */
+  @Query("SELECT new org.example.backend.domain.aquarium.dto.AquariumScheduleDto(a.id, a.nextDate) "
+      + "FROM Aquarium a "
+      + "WHERE a.cycleDate > 0 "
+      + "AND a.nextDate IS NOT NULL "
+      + "AND a.id > :afterId "
+      + "ORDER BY a.id")
+  List<AquariumScheduleDto> findReminderSchedules(@Param("afterId") Long afterId, Pageable pageable);
+
+  /**
+   * 알림이 설정된 어항들을 회원 정보와 함께 조회 (알림 시간이 도래했는지는 호출하는 쪽에서 확인)
+   */
+  @Query("SELECT new org.example.backend.domain.aquarium.dto.AquariumReminderDto("
+      + "a.id, a.name, a.cycleDate, a.nextDate, m.email, m.nickname) "
+      + "FROM Aquarium a JOIN a.member m "
+      + "WHERE a.id IN :ids "
+      + "AND a.cycleDate > 0 "
+      + "AND a.nextDate IS NOT NULL "
+      + "AND m.email IS NOT NULL")
+  List<AquariumReminderDto> findReminderTargets(@Param("ids") Collection<Long> ids);
 }
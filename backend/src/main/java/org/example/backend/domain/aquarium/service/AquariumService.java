@@ -14,6 +14,7 @@ import org.example.backend.domain.fish.entity.Fish;
 import org.example.backend.domain.fish.repository.FishRepository;
 import org.example.backend.domain.member.entity.Member;
 import org.example.backend.domain.member.repository.MemberRepository;
+import org.example.backend.domain.notification.service.AquariumReminderScheduler;
 import org.example.backend.global.exception.BusinessException;
 import org.example.backend.global.exception.ErrorCode;
 import org.example.backend.global.security.CustomUserDetails;
@@ -28,6 +29,7 @@ public class AquariumService {
   private final AquariumLogRepository aquariumLogRepository;
   private final MemberRepository memberRepository;
   private final FishRepository fishRepository;
+  private final AquariumReminderScheduler reminderScheduler;
 
   public long count() {
     return aquariumRepository.count();
@@ -128,6 +130,7 @@ public class AquariumService {
 
     aquariumLogRepository.deleteAllByAquarium(aquarium);
     aquariumRepository.deleteById(id);
+    reminderScheduler.cancelAfterCommit(id);
   }
 
   /*
@@ -158,6 +161,7 @@ public class AquariumService {
     if (cycleDate == 0) {
       aquarium.changeSchedule(cycleDate, null, null);
       aquariumRepository.save(aquarium);
+      reminderScheduler.cancelAfterCommit(aquariumId);
 
       AquariumResponseDto responseDto = new AquariumResponseDto(aquarium);
       return responseDto;
@@ -181,6 +185,8 @@ public class AquariumService {
     }
 
     aquariumRepository.save(aquarium);
+    // 알림 타이머를 새 다음 알림일로 변경
+    reminderScheduler.scheduleAfterCommit(aquariumId, aquarium.getNextDate());
 
     AquariumResponseDto responseDto = new AquariumResponseDto(aquarium);
     return responseDto;
@@ -0,0 +1,10 @@
+package org.example.backend.domain.follow.dto;
+
+// 팔로우 그래프 적재용 간선 (연관 엔티티 없이 ID만 조회)
+public record FollowEdge(
+    Long id,
+    Long followerId,
+    Long followeeId
+) {
+
+}
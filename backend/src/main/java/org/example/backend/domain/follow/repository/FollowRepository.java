@@ -1,9 +1,12 @@
 package org.example.backend.domain.follow.repository;
 
 import java.util.List;
+import org.example.backend.domain.follow.dto.FollowEdge;
 import org.example.backend.domain.follow.entity.Follow;
 import org.example.backend.domain.member.entity.Member;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -14,8 +17,11 @@ public interface FollowRepository extends JpaRepository<Follow, Long> {
     // 사용자가 다른 사용자를 팔로우하고 있는지 확인
     boolean existsByFollowerMemberIdAndFolloweeMemberId(Long followerId, Long followeeId);
     
-    // 팔로우 관계 삭제
-    void deleteByFollowerMemberIdAndFolloweeMemberId(Long followerId, Long followeeId);
+    // 팔로우 관계 삭제 (삭제된 행 수 반환, 동시에 언팔로우하면 한쪽만 1)
+    @Modifying
+    @Query("DELETE FROM Follow f WHERE f.follower.memberId = :followerId AND f.followee.memberId = :followeeId")
+    int deleteByFollowerMemberIdAndFolloweeMemberId(@Param("followerId") Long followerId,
+        @Param("followeeId") Long followeeId);
 
     // 팔로워 수 조회
     long countByFolloweeMemberId(Long followeeId);
@@ -34,4 +40,20 @@ public interface FollowRepository extends JpaRepository<Follow, Long> {
     boolean existsByFollowerAndFollowee(Member member, Member member2);
 
     @Query("SELECT f.followee.memberId FROM Follow f WHERE f.follower = :member")
-    List<Long> findFolloweeIdsByFollower(@Param("member") Member member);}
\ No newline at end of file
+    List<Long> findFolloweeIdsByFollower(@Param("member") Member member);
+
+    // 팔로워 ID 목록 (타임라인 fan-out 용)
+    @Query("SELECT f.follower.memberId FROM Follow f WHERE f.followee.memberId = :followeeId")
+    List<Long> findFollowerIds(@Param("followeeId") Long followeeId);
+
+    // 주어진 회원 중 팔로우하고 있는 회원 ID
+    @Query("SELECT f.followee.memberId FROM Follow f WHERE f.follower = :member AND f.followee.memberId IN :memberIds")
+    List<Long> findFolloweeIdsIn(@Param("member") Member member,
+        @Param("memberIds") List<Long> memberIds);
+
+    // 팔로우 그래프 재구성용 간선 목록 (id 기준 keyset 페이징)
+    @Query("SELECT new org.example.backend.domain.follow.dto.FollowEdge(" +
+        "f.id, f.follower.memberId, f.followee.memberId) " +
+        "FROM Follow f WHERE f.id > :lastId ORDER BY f.id ASC")
+    List<FollowEdge> findEdgesAfter(@Param("lastId") Long lastId, Pageable pageable);
+}
@@ -0,0 +1,95 @@
+package org.example.backend.domain.follow.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 회원 팔로워/팔로잉 수 보정 작업.
+ * 평소에는 팔로우/언팔로우 트랜잭션에서 증감하지만, 직접 넣은 데이터나 장애로 어긋난 값이 있을 수 있어
+ * 회원 ID 구간별로 실제 follow 건수와 비교하고 다른 회원만 다시 계산한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FollowCountReconciler {
+
+    private static final String FIND_DRIFTED_SQL = """
+        SELECT m.member_id
+        FROM member m
+        WHERE m.member_id > ?
+          AND m.member_id <= ?
+          AND (m.follower_count <> (SELECT COUNT(*) FROM follow f WHERE f.followee_id = m.member_id)
+            OR m.following_count <> (SELECT COUNT(*) FROM follow f WHERE f.follower_id = m.member_id))
+        """;
+
+    // 조회와 수정 사이에 팔로우가 생겨도 덮어쓰지 않도록 수정 시점에 다시 센다
+    private static final String RECOUNT_SQL = """
+        UPDATE member
+        SET follower_count = (SELECT COUNT(*) FROM follow f WHERE f.followee_id = ?),
+            following_count = (SELECT COUNT(*) FROM follow f WHERE f.follower_id = ?)
+        WHERE member_id = ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${custom.follow.reconcile-batch-size:1000}")
+    private int batchSize;
+
+    // 셀럽 목록 등 팔로워 수를 읽는 다른 시작 작업보다 먼저 실행
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        reconcile();
+    }
+
+    @Scheduled(cron = "${custom.follow.reconcile-cron:0 30 4 * * *}")
+    public void reconcile() {
+        Long maxMemberId = jdbcTemplate.queryForObject("SELECT MAX(member_id) FROM member",
+            Long.class);
+        if (maxMemberId == null) {
+            return;
+        }
+
+        int fixed = 0;
+        try {
+            for (long from = 0; from < maxMemberId; from += batchSize) {
+                fixed += reconcileRange(from, Math.min(from + batchSize, maxMemberId));
+            }
+        } catch (RuntimeException e) {
+            log.error("팔로워/팔로잉 수 보정 실패 - 다음 주기에 다시 시도합니다.", e);
+            return;
+        }
+
+        if (fixed > 0) {
+            log.info("팔로워/팔로잉 수 보정 완료 - {}명", fixed);
+        }
+    }
+
+    // (from, to] 구간의 어긋난 회원을 한 번의 배치 UPDATE로 다시 계산
+    private int reconcileRange(long from, long to) {
+        List<Long> driftedIds = jdbcTemplate.queryForList(FIND_DRIFTED_SQL, Long.class, from, to);
+        if (driftedIds.isEmpty()) {
+            return 0;
+        }
+
+        List<Object[]> batchArgs = new ArrayList<>(driftedIds.size());
+        for (Long memberId : driftedIds) {
+            batchArgs.add(new Object[]{memberId, memberId, memberId});
+        }
+        transactionTemplate.executeWithoutResult(
+            status -> jdbcTemplate.batchUpdate(RECOUNT_SQL, batchArgs));
+        return driftedIds.size();
+    }
+}
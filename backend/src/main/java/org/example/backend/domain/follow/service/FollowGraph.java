@@ -0,0 +1,209 @@
+package org.example.backend.domain.follow.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.domain.follow.dto.FollowEdge;
+import org.example.backend.domain.follow.repository.FollowRepository;
+import org.example.backend.global.collection.LongHashSet;
+import org.example.backend.global.transaction.AfterCommit;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인메모리 팔로우 그래프.
+ * 회원별 팔로잉(정방향)/팔로워(역방향) ID를 LongHashSet 으로 보관해 팔로우 여부, 팔로잉/팔로워 목록을 DB 조회 없이 처리한다.
+ * 시작 시 follow 테이블에서 다시 만들고, 이후에는 팔로우/언팔로우 커밋 시점에 함께 갱신한다 (write-through).
+ * 재구성이 끝나기 전에는 isReady()가 false 이므로 호출하는 쪽에서 DB 조회로 대체해야 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FollowGraph {
+
+    private static final int REBUILD_CHUNK_SIZE = 5000;
+
+    private final FollowRepository followRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private GraphData data = new GraphData();
+    // 재구성 중에 들어온 변경 사항 (재구성 완료 후 새 그래프에 다시 적용)
+    private List<Consumer<GraphData>> pendingChanges;
+    private volatile boolean ready = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+
+        lock.writeLock().lock();
+        try {
+            pendingChanges = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        GraphData rebuilt = new GraphData();
+        try {
+            Long lastId = 0L;
+            List<FollowEdge> chunk;
+            do {
+                chunk = followRepository.findEdgesAfter(lastId,
+                    PageRequest.of(0, REBUILD_CHUNK_SIZE));
+                for (FollowEdge edge : chunk) {
+                    rebuilt.add(edge.followerId(), edge.followeeId());
+                }
+                if (!chunk.isEmpty()) {
+                    lastId = chunk.get(chunk.size() - 1).id();
+                }
+            } while (chunk.size() == REBUILD_CHUNK_SIZE);
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingChanges = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.error("팔로우 그래프 재구성 실패 - DB 조회로 대체합니다.", e);
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            pendingChanges.forEach(change -> change.accept(rebuilt));
+            pendingChanges = null;
+            data = rebuilt;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("팔로우 그래프 재구성 완료 - 간선 {}건, {}ms", rebuilt.edgeCount,
+            System.currentTimeMillis() - start);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 팔로우 커밋 후 간선 추가
+    public void addAfterCommit(Long followerId, Long followeeId) {
+        AfterCommit.run(() -> apply(graph -> graph.add(followerId, followeeId)));
+    }
+
+    // 언팔로우 커밋 후 간선 제거
+    public void removeAfterCommit(Long followerId, Long followeeId) {
+        AfterCommit.run(() -> apply(graph -> graph.remove(followerId, followeeId)));
+    }
+
+    public boolean contains(Long followerId, Long followeeId) {
+        lock.readLock().lock();
+        try {
+            LongHashSet followees = data.followings.get(followerId);
+            return followees != null && followees.contains(followeeId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Long> findFolloweeIds(Long followerId) {
+        return toList(graph -> graph.followings, followerId);
+    }
+
+    public List<Long> findFollowerIds(Long followeeId) {
+        return toList(graph -> graph.followers, followeeId);
+    }
+
+    // 주어진 회원 중 followerId 가 팔로우하고 있는 회원 ID
+    public LongHashSet filterFollowees(Long followerId, Collection<Long> memberIds) {
+        LongHashSet followed = new LongHashSet();
+        lock.readLock().lock();
+        try {
+            LongHashSet followees = data.followings.get(followerId);
+            if (followees == null) {
+                return followed;
+            }
+            for (Long memberId : memberIds) {
+                if (followees.contains(memberId)) {
+                    followed.add(memberId);
+                }
+            }
+            return followed;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Long> toList(Function<GraphData, Map<Long, LongHashSet>> adjacency,
+        Long memberId) {
+        lock.readLock().lock();
+        try {
+            LongHashSet ids = adjacency.apply(data).get(memberId);
+            if (ids == null) {
+                return new ArrayList<>();
+            }
+            List<Long> result = new ArrayList<>(ids.size());
+            ids.forEach(result::add);
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void apply(Consumer<GraphData> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(data);
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static class GraphData {
+
+        // 팔로워 ID -> 팔로잉 ID 집합
+        private final Map<Long, LongHashSet> followings = new HashMap<>();
+        // 팔로잉 ID -> 팔로워 ID 집합
+        private final Map<Long, LongHashSet> followers = new HashMap<>();
+        private long edgeCount;
+
+        void add(Long followerId, Long followeeId) {
+            if (followings.computeIfAbsent(followerId, key -> new LongHashSet()).add(followeeId)) {
+                followers.computeIfAbsent(followeeId, key -> new LongHashSet()).add(followerId);
+                edgeCount++;
+            }
+        }
+
+        void remove(Long followerId, Long followeeId) {
+            if (removeFrom(followings, followerId, followeeId)) {
+                removeFrom(followers, followeeId, followerId);
+                edgeCount--;
+            }
+        }
+
+        // 비어 있는 집합은 맵에서 제거해 회원 수만큼 빈 배열이 남지 않게 한다
+        private static boolean removeFrom(Map<Long, LongHashSet> adjacency, Long key,
+            Long value) {
+            LongHashSet ids = adjacency.get(key);
+            if (ids == null || !ids.remove(value)) {
+                return false;
+            }
+            if (ids.isEmpty()) {
+                adjacency.remove(key);
+            }
+            return true;
+        }
+    }
+}
@@ -6,9 +6,12 @@ import org.example.backend.domain.follow.entity.Follow;
 import org.example.backend.domain.follow.repository.FollowRepository;
 import org.example.backend.domain.member.entity.Member;
 import org.example.backend.domain.member.service.MemberService;
+import org.example.backend.domain.post.service.FollowingTimeline;
+import org.example.backend.global.collection.LongHashSet;
 import org.example.backend.global.exception.BusinessException;
 import org.example.backend.global.exception.ErrorCode;
 import org.example.backend.global.response.ApiResponse;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +25,8 @@ public class FollowService {
 
     private final FollowRepository followRepository;
     private final MemberService memberService;
+    private final FollowingTimeline followingTimeline;
+    private final FollowGraph followGraph;
 
     // 팔로우하기
     public ApiResponse<FollowResponseDto> follow(Long followerId, Long followeeId) {
@@ -30,7 +35,7 @@ public class FollowService {
             throw new BusinessException(ErrorCode.FOLLOW_SELF_FOLLOW);
         }
         // 이미 팔로우하고 있는지 확인
-        if (followRepository.existsByFollowerMemberIdAndFolloweeMemberId(followerId, followeeId)) {
+        if (existsFollow(followerId, followeeId)) {
             throw new BusinessException(ErrorCode.FOLLOW_ALREADY_EXISTS);
         }
 
@@ -45,7 +50,16 @@ public class FollowService {
             .followee(followee)
             .build();
 
-        Follow savedFollow = followRepository.save(followEntity);
+        Follow savedFollow;
+        try {
+            savedFollow = followRepository.saveAndFlush(followEntity);
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 같은 팔로우 요청이 들어와 유니크 제약에 걸린 경우
+            throw new BusinessException(ErrorCode.FOLLOW_ALREADY_EXISTS);
+        }
+        memberService.addFollowCounts(followerId, followeeId, 1);
+        followGraph.addAfterCommit(followerId, followeeId);
+        followingTimeline.invalidateAfterCommit(followerId);
 
         // 팔로우 완료 후 간단한 응답
         FollowResponseDto responseDto = FollowResponseDto.builder()
@@ -59,24 +73,26 @@ public class FollowService {
 
     public ApiResponse<Void> unfollow(Long followerId, Long followeeId) {
 
-        if (!followRepository.existsByFollowerMemberIdAndFolloweeMemberId(followerId, followeeId)) {
+        // 실제로 삭제한 요청만 팔로우 수를 줄인다 (동시에 언팔로우해도 한 번만 감소)
+        if (followRepository.deleteByFollowerMemberIdAndFolloweeMemberId(followerId, followeeId) == 0) {
             throw new BusinessException(ErrorCode.FOLLOW_NOT_FOUND);
         }
 
-        followRepository.deleteByFollowerMemberIdAndFolloweeMemberId(followerId, followeeId);
+        memberService.addFollowCounts(followerId, followeeId, -1);
+        followGraph.removeAfterCommit(followerId, followeeId);
+        followingTimeline.invalidateAfterCommit(followerId);
         return ApiResponse.ok("언팔로우가 완료되었습니다.");
     }
 
 
     @Transactional(readOnly = true)
     public ApiResponse<FollowListResponseDto> getFollowers(Long memberId) {
-        if (memberService.notExistsById(memberId)) {
-            throw new BusinessException(ErrorCode.MEMBER_NOT_FOUND);
-        }
+        Member member = memberService.findByMemberId(memberId).orElseThrow(
+            () -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
 
         // 팔로워 목록과 멤버 정보를 함께 조회 (Fetch Join)
         List<Follow> follows = followRepository.findFollowersWithMemberInfo(memberId);
-        long totalCount = followRepository.countByFolloweeMemberId(memberId);
+        long totalCount = member.getFollowerCount();
 
         List<FollowResponseDto> userDtos = follows.stream()
             .map(follow -> {
@@ -100,13 +116,12 @@ public class FollowService {
     // 팔로잉 목록 조회
     @Transactional(readOnly = true)
     public ApiResponse<FollowListResponseDto> getFollowings(Long memberId) {
-        if (memberService.notExistsById(memberId)) {
-            throw new BusinessException(ErrorCode.MEMBER_NOT_FOUND);
-        }
+        Member member = memberService.findByMemberId(memberId).orElseThrow(
+            () -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
 
         // 팔로잉 목록과 멤버 정보를 함께 조회 (Fetch Join)
         List<Follow> follows = followRepository.findFollowingsWithMemberInfo(memberId);
-        long totalCount = followRepository.countByFollowerMemberId(memberId);
+        long totalCount = member.getFollowingCount();
 
         List<FollowResponseDto> userDtos = follows.stream()
             .map(follow -> {
@@ -136,14 +151,40 @@ public class FollowService {
         if (followerId.equals(followeeId)) {
             return false; // 자기 자신은 팔로잉하지 않은 것으로 처리
         }
-        return followRepository.existsByFollowerMemberIdAndFolloweeMemberId(followerId, followeeId);
+        return existsFollow(followerId, followeeId);
     }
 
     public List<Long> findFolloweeIdsByFollower(Member member) {
+        if (followGraph.isReady()) {
+            return followGraph.findFolloweeIds(member.getMemberId());
+        }
         return followRepository.findFolloweeIdsByFollower(member);
     }
 
+    // 주어진 회원 중 팔로우하고 있는 회원 ID (조회 범위가 페이지 크기로 제한됨)
+    @Transactional(readOnly = true)
+    public LongHashSet findFollowedMemberIds(Member member, List<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return new LongHashSet();
+        }
+        if (followGraph.isReady()) {
+            return followGraph.filterFollowees(member.getMemberId(), memberIds);
+        }
+        return LongHashSet.of(followRepository.findFolloweeIdsIn(member, memberIds));
+    }
+
     public boolean existsByFollowerAndFollowee(Member member, Member author) {
+        if (followGraph.isReady()) {
+            return followGraph.contains(member.getMemberId(), author.getMemberId());
+        }
         return  followRepository.existsByFollowerAndFollowee(member, author);
     }
+
+    // 팔로우 그래프가 준비되기 전에는 DB에서 확인
+    private boolean existsFollow(Long followerId, Long followeeId) {
+        if (followGraph.isReady()) {
+            return followGraph.contains(followerId, followeeId);
+        }
+        return followRepository.existsByFollowerMemberIdAndFolloweeMemberId(followerId, followeeId);
+    }
 }
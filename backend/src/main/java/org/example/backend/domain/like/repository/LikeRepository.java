@@ -19,6 +19,8 @@ public interface LikeRepository extends JpaRepository<Like,Long> {
 
     boolean existsByMemberAndPost(Member member, Post post);
 
-    @Query("SELECT l.post.id FROM Like l WHERE l.member = :member")
-    List<Long> findPostIdsByMember(@Param("member") Member member);
+    // 현재 페이지 게시글 중 회원이 좋아요한 게시글 ID
+    @Query("SELECT l.post.id FROM Like l WHERE l.member = :member AND l.post.id IN :postIds")
+    List<Long> findLikedPostIdsIn(@Param("member") Member member,
+        @Param("postIds") List<Long> postIds);
 }
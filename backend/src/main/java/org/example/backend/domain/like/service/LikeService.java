@@ -12,6 +12,7 @@ import org.example.backend.domain.member.entity.Member;
 import org.example.backend.domain.member.repository.MemberRepository;
 import org.example.backend.domain.post.entity.Post;
 import org.example.backend.domain.post.repository.PostRepository;
+import org.example.backend.global.collection.LongHashSet;
 import org.example.backend.global.exception.BusinessException;
 import org.example.backend.global.exception.ErrorCode;
 import org.springframework.stereotype.Service;
@@ -24,6 +25,7 @@ public class LikeService {
     private final LikeRepository likeRepository;
     private final PostRepository postRepository;
     private final MemberRepository memberRepository;
+    private final PostLikeCounter postLikeCounter;
 
     @Transactional
     public Map<String, Object> toggleLike(Long postId, Long memberId) {
@@ -33,23 +35,26 @@ public class LikeService {
             .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND_DATA));
 
         Optional<Like> existingLike = likeRepository.findByMemberAndPost(member, post);
+        // 이미 읽은 post 행의 값에 미반영 증감분을 더함 (추가 조회 없음)
+        int likeCount = postLikeCounter.currentCount(postId, post.getLikeCount());
 
+        // post 행은 수정하지 않고 좋아요 수 증감분만 카운터에 등록 (커밋되면 반영, 롤백되면 버림)
         boolean liked;
+        long delta;
         if (existingLike.isPresent()) {
             likeRepository.delete(existingLike.get());
-            post.decreaseLikeCount();
             liked = false;
+            delta = -1;
         } else {
             likeRepository.save(new Like(member, post));
-            post.increaseLikeCount();
             liked = true;
+            delta = 1;
         }
-
-        postRepository.save(post); // 변경된 likeCount 반영
+        postLikeCounter.register(postId, delta);
 
         Map<String, Object> result = new HashMap<>();
         result.put("liked", liked);
-        result.put("likeCount", post.getLikeCount());
+        result.put("likeCount", Math.max(likeCount + delta, 0));
         return result;
     }
 
@@ -74,8 +79,12 @@ public class LikeService {
         return  likeRepository.existsByMemberAndPost(member, post);
     }
 
+    // 주어진 게시글 중 좋아요한 게시글 ID (조회 범위가 페이지 크기로 제한됨)
     @Transactional(readOnly = true)
-    public List<Long> findPostIdsByMember(Member member) {
-        return likeRepository.findPostIdsByMember(member);
+    public LongHashSet findLikedPostIds(Member member, List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return new LongHashSet();
+        }
+        return LongHashSet.of(likeRepository.findLikedPostIdsIn(member, postIds));
     }
 }
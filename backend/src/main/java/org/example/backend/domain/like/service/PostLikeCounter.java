@@ -0,0 +1,302 @@
+package org.example.backend.domain.like.service;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 게시글 좋아요 수 write-behind 카운터.
+ * 좋아요/취소 시 post 행을 바로 수정하지 않고 게시글별 LongAdder에 증감분만 쌓아두고,
+ * 스케줄러가 주기적으로 모아서 UPDATE 배치로 반영한다. (인기 게시글의 행 잠금 경합 방지)
+ * 조회는 이미 읽어 온 post.like_count 에 아직 반영되지 않은 증감분(대기 + 반영 중)을 메모리에서 더한다.
+ * 락은 증감분 맵을 교체하는 순간에만 잡고, DB 반영은 락 밖에서 한다.
+ * 증감분은 좋아요 트랜잭션 안에서 커밋 전으로 등록하고 커밋되면 반영 대상, 롤백되면 버린다.
+ * 서버가 종료되면 반영 전 증감분은 사라지므로, 시작 시와 매일 likes 테이블 기준으로 어긋난 값을 다시 센다.
+ * 이때 커밋 전이거나 반영 전 증감분이 있는 게시글은 건너뛰고, 다시 세는 도중 좋아요가 바뀐 게시글은 다시 센다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostLikeCounter {
+
+    private static final String FLUSH_SQL =
+        "UPDATE post SET like_count = GREATEST(like_count + ?, 0) WHERE id = ?";
+
+    private static final String FIND_DRIFTED_SQL = """
+        SELECT p.id
+        FROM post p
+        WHERE p.id > ?
+          AND p.id <= ?
+          AND p.like_count <> (SELECT COUNT(*) FROM likes l WHERE l.post_id = p.id)
+        """;
+    private static final String RECOUNT_SQL =
+        "UPDATE post SET like_count = (SELECT COUNT(*) FROM likes l WHERE l.post_id = ?) WHERE id = ?";
+    // 다시 세는 도중 좋아요가 바뀐 게시글을 다시 세는 최대 횟수 (남으면 다음 보정 주기에)
+    private static final int RECOUNT_ATTEMPTS = 3;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${custom.like.reconcile-batch-size:1000}")
+    private int reconcileBatchSize;
+
+    // 증감 기록/조회는 읽기 락(공유), 맵 교체와 보정 대상 표시는 쓰기 락 (DB 작업 중에는 잡지 않음)
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private volatile Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    // DB에 반영 중인 증감분 (커밋이 끝날 때까지 조회에 포함)
+    private volatile Map<Long, LongAdder> flushing = Map.of();
+    // 커밋 전인 좋아요 트랜잭션 수
+    private final Map<Long, LongAdder> inDoubt = new ConcurrentHashMap<>();
+    // 다시 세는 중인 게시글과 그동안 좋아요가 바뀌었는지
+    private final Map<Long, Boolean> recounting = new ConcurrentHashMap<>();
+    // 반영과 보정은 한 번에 하나씩 (좋아요/조회는 막지 않음)
+    private final Lock flushLock = new ReentrantLock();
+
+    /*
+    좋아요 트랜잭션 안에서 증감분 등록
+        - 커밋되면 반영 대상에 더하고 롤백되면 버린다
+        - 커밋 전까지는 보정 대상에서 빠지므로, 보정이 커밋된 likes 행을 센 뒤 증감분이 또 더해지는 일이 없다
+        - 트랜잭션이 없으면 바로 반영 대상에 더한다
+     */
+    public void register(Long postId, long delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            add(postId, delta);
+            return;
+        }
+
+        swapLock.readLock().lock();
+        try {
+            inDoubt.computeIfAbsent(postId, key -> new LongAdder()).increment();
+            recounting.computeIfPresent(postId, (key, changed) -> true);
+        } finally {
+            swapLock.readLock().unlock();
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                swapLock.readLock().lock();
+                try {
+                    if (status == STATUS_COMMITTED) {
+                        pending.computeIfAbsent(postId, key -> new LongAdder()).add(delta);
+                    }
+                    inDoubt.get(postId).decrement();
+                } finally {
+                    swapLock.readLock().unlock();
+                }
+            }
+        });
+    }
+
+    /**
+     * 이미 읽어 온 DB 값(post.like_count) + 미반영 증감분.
+     * 반영 커밋 직후 증감분을 비우기 전의 짧은 순간에 읽은 값에는 반영 중 증감분이 한 번 더 더해질 수 있다.
+     */
+    public int currentCount(Long postId, int storedCount) {
+        swapLock.readLock().lock();
+        try {
+            return (int) Math.max(storedCount + sumOf(pending.get(postId)) + sumOf(flushing.get(postId)), 0);
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${custom.like.flush-interval-ms:1000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushPending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        reconcile();
+    }
+
+    // 반영 전에 종료되어 사라진 증감분 등으로 어긋난 좋아요 수를 게시글 ID 구간별로 다시 센다
+    @Scheduled(cron = "${custom.like.reconcile-cron:0 40 4 * * *}")
+    public void reconcile() {
+        Long maxPostId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM post", Long.class);
+        if (maxPostId == null) {
+            return;
+        }
+
+        int fixed = 0;
+        flushLock.lock();
+        try {
+            for (long from = 0; from < maxPostId; from += reconcileBatchSize) {
+                fixed += reconcileRange(from, Math.min(from + reconcileBatchSize, maxPostId));
+            }
+        } catch (RuntimeException e) {
+            log.error("좋아요 수 보정 실패 - 다음 주기에 다시 시도합니다.", e);
+            return;
+        } finally {
+            flushLock.unlock();
+        }
+
+        if (fixed > 0) {
+            log.info("좋아요 수 보정 완료 - 게시글 {}건", fixed);
+        }
+    }
+
+    // (from, to] 구간 보정 (flushLock 을 잡은 상태에서 호출)
+    private int reconcileRange(long from, long to) {
+        flushPending();
+        List<Long> remaining = jdbcTemplate.queryForList(FIND_DRIFTED_SQL, Long.class, from, to);
+        int fixed = 0;
+        for (int attempt = 0; attempt < RECOUNT_ATTEMPTS && !remaining.isEmpty(); attempt++) {
+            if (attempt > 0) {
+                flushPending();
+            }
+            List<Long> quiet = markQuiet(remaining);
+            List<Long> changed;
+            try {
+                if (!quiet.isEmpty()) {
+                    List<Object[]> batchArgs = new ArrayList<>(quiet.size());
+                    for (Long postId : quiet) {
+                        batchArgs.add(new Object[]{postId, postId});
+                    }
+                    transactionTemplate.executeWithoutResult(
+                        status -> jdbcTemplate.batchUpdate(RECOUNT_SQL, batchArgs));
+                }
+            } finally {
+                changed = unmark(quiet);
+            }
+            fixed += quiet.size() - changed.size();
+
+            List<Long> next = new ArrayList<>(changed);
+            for (Long postId : remaining) {
+                if (!quiet.contains(postId)) {
+                    next.add(postId);
+                }
+            }
+            remaining = next;
+        }
+
+        if (!remaining.isEmpty()) {
+            log.info("좋아요가 계속 바뀌는 게시글 {}건은 다음 보정 주기에 다시 셉니다.", remaining.size());
+        }
+        return fixed;
+    }
+
+    // 커밋 전/반영 전 증감분이 없는 게시글만 다시 세는 중으로 표시
+    private List<Long> markQuiet(List<Long> postIds) {
+        List<Long> quiet = new ArrayList<>(postIds.size());
+        swapLock.writeLock().lock();
+        try {
+            for (Long postId : postIds) {
+                if (sumOf(inDoubt.get(postId)) == 0 && sumOf(pending.get(postId)) == 0) {
+                    recounting.put(postId, false);
+                    quiet.add(postId);
+                }
+            }
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+        return quiet;
+    }
+
+    // 표시를 지우고 다시 세는 도중 좋아요가 바뀐 게시글을 반환
+    private List<Long> unmark(List<Long> postIds) {
+        List<Long> changed = new ArrayList<>();
+        swapLock.writeLock().lock();
+        try {
+            for (Long postId : postIds) {
+                if (recounting.remove(postId)) {
+                    changed.add(postId);
+                }
+            }
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+        return changed;
+    }
+
+    // 쌓인 증감분을 교체한 뒤 락 밖에서 DB에 반영 (flushLock 을 잡은 상태에서 호출)
+    private void flushPending() {
+        Map<Long, LongAdder> drained;
+        swapLock.writeLock().lock();
+        try {
+            if (pending.isEmpty()) {
+                return;
+            }
+            drained = pending;
+            pending = new ConcurrentHashMap<>();
+            flushing = drained;
+            // 끝난 트랜잭션의 빈 항목 정리 (등록은 읽기 락 안에서만 하므로 안전)
+            inDoubt.values().removeIf(count -> count.sum() == 0);
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+
+        List<Object[]> batchArgs = new ArrayList<>(drained.size());
+        drained.forEach((postId, adder) -> {
+            long delta = adder.sum();
+            if (delta != 0) {
+                batchArgs.add(new Object[]{delta, postId});
+            }
+        });
+
+        boolean saved = batchArgs.isEmpty();
+        if (!saved) {
+            try {
+                // 배치 전체를 한 트랜잭션으로 반영해 일부만 적용된 채 재시도되는 일이 없도록 함
+                transactionTemplate.executeWithoutResult(
+                    status -> jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs));
+                saved = true;
+            } catch (RuntimeException e) {
+                // 실패한 증감분은 다음 주기에 다시 반영
+                log.warn("좋아요 수 반영 실패 - {}건 재시도 예정", batchArgs.size(), e);
+            }
+        }
+
+        swapLock.writeLock().lock();
+        try {
+            if (!saved) {
+                drained.forEach((postId, adder) ->
+                    pending.computeIfAbsent(postId, key -> new LongAdder()).add(adder.sum()));
+            }
+            flushing = Map.of();
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+    }
+
+    private void add(Long postId, long delta) {
+        swapLock.readLock().lock();
+        try {
+            pending.computeIfAbsent(postId, key -> new LongAdder()).add(delta);
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    private static long sumOf(LongAdder adder) {
+        return adder == null ? 0 : adder.sum();
+    }
+}
@@ -38,6 +38,13 @@ public class Member {
     @Column(nullable = false)
     private Long points = 0L;
 
+    // 팔로워/팔로잉 수는 팔로우/언팔로우 시 UPDATE 쿼리로 직접 증감하므로 엔티티 수정 시에는 덮어쓰지 않는다
+    @Column(nullable = false, updatable = false)
+    private long followerCount = 0L;
+
+    @Column(nullable = false, updatable = false)
+    private long followingCount = 0L;
+
     @Builder
     public Member(String email, String password, String nickname, String profileImage) {
         this.email = email;
@@ -46,6 +53,14 @@ public class Member {
         this.profileImage = profileImage;
     }
 
+    // 인증 정보로 만드는 비영속 회원 (연관관계 지정/ID 비교용이며 저장하지 않는다)
+    public static Member reference(Long memberId, String email, String nickname,
+        String profileImage) {
+        Member member = new Member(email, null, nickname, profileImage);
+        member.memberId = memberId;
+        return member;
+    }
+
     public void updatePoints(Long newPoint) {
         this.points = newPoint;
     }
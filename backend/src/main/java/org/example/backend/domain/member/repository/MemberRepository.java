@@ -2,6 +2,7 @@ package org.example.backend.domain.member.repository;
 
 import org.example.backend.domain.member.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -23,4 +24,23 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
            "WHERE m.nickname LIKE %:nickname% AND m.memberId != :currentMemberId")
     List<Object[]> findByNicknameContainingWithFollowStatus(@Param("nickname") String nickname,
                                                            @Param("currentMemberId") Long currentMemberId);
+
+    // 닉네임으로 회원 검색 (팔로우 상태는 팔로우 그래프에서 확인)
+    @Query("SELECT m FROM Member m WHERE m.nickname LIKE %:nickname% AND m.memberId != :currentMemberId")
+    List<Member> findByNicknameContainingExcept(@Param("nickname") String nickname,
+                                                @Param("currentMemberId") Long currentMemberId);
+
+    // 팔로워 수 증감 (읽고 쓰지 않고 DB에서 원자적으로 증감)
+    @Modifying
+    @Query("UPDATE Member m SET m.followerCount = m.followerCount + :delta WHERE m.memberId = :memberId")
+    int addFollowerCount(@Param("memberId") Long memberId, @Param("delta") long delta);
+
+    // 팔로잉 수 증감
+    @Modifying
+    @Query("UPDATE Member m SET m.followingCount = m.followingCount + :delta WHERE m.memberId = :memberId")
+    int addFollowingCount(@Param("memberId") Long memberId, @Param("delta") long delta);
+
+    // 팔로워 수가 기준을 넘는 회원 ID
+    @Query("SELECT m.memberId FROM Member m WHERE m.followerCount > :threshold")
+    List<Long> findMemberIdsWithFollowersOver(@Param("threshold") long threshold);
 }
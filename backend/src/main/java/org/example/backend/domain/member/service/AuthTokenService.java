@@ -1,15 +1,20 @@
 package org.example.backend.domain.member.service;
 
+import lombok.RequiredArgsConstructor;
 import org.example.backend.domain.member.entity.Member;
 import org.example.backend.global.security.JwtUtil;
+import org.example.backend.global.security.JwtVerifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.Map;
 
 @Service
+@RequiredArgsConstructor
 public class AuthTokenService {
 
+    private final JwtVerifier jwtVerifier;
+
     @Value("${custom.jwt.secretPattern}")
     private String secretPattern;
     @Value("${custom.jwt.expireSeconds}")
@@ -41,7 +46,8 @@ public class AuthTokenService {
     }
 
     public Map<String, Object> payloadOrNull(String jwt) {
-        Map<String, Object> payload = JwtUtil.jwt.payloadOrNull(jwt, secretPattern);
+        // 검증된 토큰은 만료 전까지 캐시된 클레임을 사용
+        Map<String, Object> payload = jwtVerifier.claimsOrNull(jwt);
 
         if(payload == null) {
             return null;
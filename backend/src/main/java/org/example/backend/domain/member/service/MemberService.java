@@ -4,7 +4,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
-import org.example.backend.domain.follow.repository.FollowRepository;
+import org.example.backend.domain.follow.service.FollowGraph;
 import org.example.backend.domain.member.dto.MemberEditRequestDto;
 import org.example.backend.domain.member.dto.MemberEditResponseDto;
 import org.example.backend.domain.member.dto.MemberJoinRequestDto;
@@ -21,6 +21,7 @@ import org.example.backend.global.exception.ErrorCode;
 import org.example.backend.global.image.ImageService;
 import org.example.backend.global.response.ApiResponse;
 import org.example.backend.global.security.CustomUserDetails;
+import org.example.backend.global.security.PrincipalCache;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -35,8 +36,9 @@ public class MemberService {
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
     private final AuthTokenService authTokenService;
-    private final FollowRepository followRepository;
+    private final FollowGraph followGraph;
     private final ImageService imageService;
+    private final PrincipalCache principalCache;
 
     public Optional<Member> findById(Long id) {
         return memberRepository.findById(id);
@@ -54,6 +56,13 @@ public class MemberService {
         return memberRepository.findByMemberId(memberId);
     }
 
+    // 팔로우/언팔로우 시 양쪽 회원의 팔로워/팔로잉 수 증감
+    @Transactional
+    public void addFollowCounts(Long followerId, Long followeeId, long delta) {
+        memberRepository.addFollowingCount(followerId, delta);
+        memberRepository.addFollowerCount(followeeId, delta);
+    }
+
     // 멤버 존재하지 않음 확인
     public boolean notExistsById(Long memberId) {
         return !memberRepository.existsById(memberId);
@@ -63,7 +72,7 @@ public class MemberService {
     private Long getCurrentMemberId() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
-        return userDetails.getMember().getMemberId();
+        return userDetails.getId();
     }
 
     @Transactional
@@ -175,6 +184,7 @@ public class MemberService {
 
         // 데이터베이스에 저장
         Member updatedMember = memberRepository.save(member);
+        principalCache.invalidateAfterCommit(updatedMember.getMemberId());
 
         // 토큰 정보가 변경된 경우 새로운 토큰 발급 (컨트롤러에서 처리)
         String newAccessToken = null;
@@ -191,9 +201,8 @@ public class MemberService {
         // 현재 로그인한 사용자 조회
         Member member = memberRepository.findByMemberId(getCurrentMemberId())
             .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
-        long followerCount = followRepository.countByFolloweeMemberId(member.getMemberId());
-        long followingCount = followRepository.countByFollowerMemberId(member.getMemberId());
-        MemberResponseDto response = new MemberResponseDto(member, followerCount, followingCount);
+        MemberResponseDto response = new MemberResponseDto(member, member.getFollowerCount(),
+            member.getFollowingCount());
         return ApiResponse.ok("회원 정보 조회에 성공했습니다.", response);
     }
 
@@ -221,6 +230,7 @@ public class MemberService {
 
         // 데이터베이스에 저장
         Member updatedMember = memberRepository.save(member);
+        principalCache.invalidateAfterCommit(updatedMember.getMemberId());
 
         // 응답 DTO 생성
         MemberEditResponseDto response = MemberEditResponseDto.from(updatedMember, null);
@@ -230,7 +240,23 @@ public class MemberService {
     @Transactional(readOnly = true)
     public ApiResponse<MemberSearchListResponseDto> searchMembers(String nickname) {
         Long currentMemberId = getCurrentMemberId();
-        
+
+        // 팔로우 그래프가 준비되어 있으면 회원만 조회하고 팔로우 상태는 메모리에서 확인
+        if (followGraph.isReady()) {
+            List<MemberSearchResponseDto> members = memberRepository
+                .findByNicknameContainingExcept(nickname, currentMemberId).stream()
+                .map(member -> MemberSearchResponseDto.builder()
+                    .memberId(member.getMemberId())
+                    .nickname(member.getNickname())
+                    .profileImage(member.getProfileImage())
+                    .isFollowing(followGraph.contains(currentMemberId, member.getMemberId()))
+                    .build())
+                .collect(Collectors.toList());
+
+            return ApiResponse.ok("회원 검색에 성공했습니다.",
+                MemberSearchListResponseDto.builder().members(members).build());
+        }
+
         // N+1 문제 해결: 한 번의 쿼리로 회원 정보와 팔로우 상태를 함께 조회
         List<Object[]> results = memberRepository.findByNicknameContainingWithFollowStatus(
             nickname, currentMemberId);
@@ -0,0 +1,19 @@
+package org.example.backend.domain.notification.dto;
+
+import java.util.List;
+
+/**
+ * 알림 메일 일괄 발송 결과 (ID는 ReminderEmail.id).
+ * retries: 재시도한 횟수 합계, elapsedMillis: 전체 발송 소요 시간
+ */
+public record EmailDispatchResult(
+        List<Long> sentIds,
+        List<Long> failedIds,
+        int retries,
+        long elapsedMillis
+) {
+    // 초당 발송 건수
+    public double throughput() {
+        return elapsedMillis == 0 ? sentIds.size() : sentIds.size() * 1000d / elapsedMillis;
+    }
+}
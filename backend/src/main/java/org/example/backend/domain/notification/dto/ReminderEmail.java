@@ -0,0 +1,19 @@
+package org.example.backend.domain.notification.dto;
+
+/**
+ * 발송 준비가 끝난 알림 메일.
+ * 엔티티 대신 본문까지 만든 값을 넘겨서 발송 스레드에서 지연 로딩이 일어나지 않게 한다.
+ * id: 발송 결과를 구분하는 ID (아웃박스로 보내면 아웃박스 ID, 바로 보내면 어항 ID)
+ */
+public record ReminderEmail(
+        Long id,
+        String to,
+        String subject,
+        String htmlContent
+) {
+    // 수신 메일 서비스 (도메인) - 발송 속도 제한 단위
+    public String provider() {
+        int at = to.lastIndexOf('@');
+        return at < 0 ? "" : to.substring(at + 1).toLowerCase();
+    }
+}
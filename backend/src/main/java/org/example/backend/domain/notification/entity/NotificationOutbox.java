@@ -0,0 +1,76 @@
+package org.example.backend.domain.notification.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 메일 아웃박스.
+ * 어항의 다음 알림일을 넘기는 트랜잭션에서 함께 저장하고 (AquariumNotificationService, JDBC 배치),
+ * NotificationOutboxRelay 가 따로 모아서 발송한다.
+ * 같은 어항의 같은 알림일은 한 번만 저장된다.
+ */
+@Entity
+@Table(name = "notification_outbox",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_notification_outbox_aquarium_due", columnNames = {"aquarium_id", "due_date"})
+        },
+        indexes = {
+                // 발송 대기 조회용
+                @Index(name = "idx_notification_outbox_status_attempt", columnList = "status, next_attempt_at")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_id")
+    private Long id;
+
+    @Column(name = "aquarium_id", nullable = false)
+    private Long aquariumId;
+
+    // 이 메일로 처리한 알림일
+    @Column(name = "due_date", nullable = false)
+    private LocalDateTime dueDate;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    @Column(nullable = false)
+    private String subject;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String htmlContent;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OutboxStatus status;
+
+    // 발송을 가져간 횟수
+    @Column(nullable = false)
+    private int attempts;
+
+    // 이 시각 이후에 발송 (가져간 동안은 임대 만료 시각)
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    private LocalDateTime sentAt;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    // 여러 노드가 같은 메일을 동시에 가져가지 않도록
+    @Version
+    private Long version;
+
+    // 발송을 위해 leaseUntil 까지 가져감 (그 전에 결과를 기록하지 못하면 다시 발송 대상이 됨)
+    public void lease(LocalDateTime leaseUntil) {
+        this.attempts++;
+        this.nextAttemptAt = leaseUntil;
+    }
+}
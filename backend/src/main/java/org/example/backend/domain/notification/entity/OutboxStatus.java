@@ -0,0 +1,7 @@
+package org.example.backend.domain.notification.entity;
+
+public enum OutboxStatus {
+    PENDING,    // 발송 대기 (재시도 대기 포함)
+    SENT,       // 발송 완료
+    FAILED      // 재시도 횟수 초과
+}
@@ -0,0 +1,46 @@
+package org.example.backend.domain.notification.repository;
+
+import org.example.backend.domain.notification.entity.NotificationOutbox;
+import org.example.backend.domain.notification.entity.OutboxStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    // 발송할 차례가 된 메일 (오래된 순, 가져간 횟수가 남은 메일만)
+    @Query("SELECT o FROM NotificationOutbox o WHERE o.status = :status AND o.nextAttemptAt <= :now "
+            + "AND o.attempts < :maxAttempts ORDER BY o.id")
+    List<NotificationOutbox> findReady(@Param("status") OutboxStatus status, @Param("now") LocalDateTime now,
+                                       @Param("maxAttempts") int maxAttempts, Pageable pageable);
+
+    // 가져간 횟수를 다 쓰고도 결과가 기록되지 않은 채 임대가 끝난 메일은 실패 처리
+    @Modifying
+    @Query("UPDATE NotificationOutbox o SET o.status = :failed "
+            + "WHERE o.status = :pending AND o.nextAttemptAt <= :now AND o.attempts >= :maxAttempts")
+    int markExhausted(@Param("now") LocalDateTime now, @Param("maxAttempts") int maxAttempts,
+                      @Param("pending") OutboxStatus pending, @Param("failed") OutboxStatus failed);
+
+    @Modifying
+    @Query("UPDATE NotificationOutbox o SET o.status = :status, o.sentAt = :sentAt WHERE o.id IN :ids")
+    int markSent(@Param("ids") Collection<Long> ids, @Param("status") OutboxStatus status,
+                 @Param("sentAt") LocalDateTime sentAt);
+
+    // 발송 실패 - 재시도 횟수가 남았으면 nextAttemptAt 이후 재시도, 아니면 실패 처리
+    @Modifying
+    @Query("UPDATE NotificationOutbox o SET o.nextAttemptAt = :nextAttemptAt, "
+            + "o.status = CASE WHEN o.attempts >= :maxAttempts THEN :failed ELSE o.status END "
+            + "WHERE o.id IN :ids")
+    int markFailed(@Param("ids") Collection<Long> ids, @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                   @Param("maxAttempts") int maxAttempts, @Param("failed") OutboxStatus failed);
+
+    @Modifying
+    @Query("DELETE FROM NotificationOutbox o WHERE o.status = :status AND o.sentAt < :before")
+    int deleteSentBefore(@Param("status") OutboxStatus status, @Param("before") LocalDateTime before);
+}
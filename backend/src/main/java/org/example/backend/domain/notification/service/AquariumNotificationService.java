@@ -3,70 +3,141 @@ package org.example.backend.domain.notification.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.backend.domain.aquarium.entity.Aquarium;
+import org.example.backend.domain.aquarium.dto.AquariumReminderDto;
 import org.example.backend.domain.aquarium.repository.AquariumRepository;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.example.backend.domain.notification.dto.ReminderEmail;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.Timestamp;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class AquariumNotificationService {
     
+    // 조회한 알림일 그대로일 때만 넘김 (다른 노드/이전 실행이 이미 넘겼으면 0건)
+    private static final String ADVANCE_SQL =
+        "UPDATE aquarium SET last_date = ?, next_date = ?, modify_date = ? WHERE id = ? AND next_date = ?";
+    private static final String OUTBOX_SQL =
+        "INSERT INTO notification_outbox (aquarium_id, due_date, recipient, subject, html_content, status, attempts, "
+            + "next_attempt_at, created_at, version) VALUES (?, ?, ?, ?, ?, 'PENDING', 0, ?, ?, 0)";
+    
     private final AquariumRepository aquariumRepository;
     private final EmailService emailService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    
+    @Value("${custom.mail.dispatch.chunk-size:500}")
+    private int chunkSize;
+    // 아웃박스 저장에 실패한 어항을 다시 확인할 때까지의 시간
+    @Value("${custom.mail.reminder.retry-delay-ms:3600000}")
+    private long retryDelayMillis;
+    
+    // 전체 발송과 타이머 발송이 같은 어항을 동시에 처리하지 않도록
+    private final ReentrantLock sendLock = new ReentrantLock();
     
     /**
-     * 매일 오전 9시에 실행되는 스케줄러
-     * 관리주기가 도래한 어항들에 대해 이메일 알림 발송
+     * 관리주기가 도래한 어항들의 알림 메일을 아웃박스에 저장
+     * 대상 어항을 ID 순으로 chunk-size 개씩 나눠서 조회하고, chunk 마다 다음 알림일 변경과 아웃박스 저장을 한 트랜잭션으로 처리한다
+     * 실제 발송은 NotificationOutboxRelay 가 따로 하므로 SMTP 지연이 DB 작업을 붙잡지 않는다
      */
-    @Scheduled(cron = "0 0 9 * * ?")
     public void sendDailyAquariumReminders() {
-        log.info("어항 관리 알림 발송 시작");
+        if (!sendLock.tryLock()) {
+            log.warn("어항 관리 알림 처리가 이미 진행 중입니다.");
+            return;
+        }
+        log.info("어항 관리 알림 처리 시작");
         
         try {
             LocalDateTime now = LocalDateTime.now();
-            List<Aquarium> aquariumsToNotify = aquariumRepository.findAquariumsForNotification(now);
+            long afterId = 0;
+            int queuedCount = 0;
+            
+            while (true) {
+                List<AquariumReminderDto> chunk = aquariumRepository.findAquariumsForNotification(
+                    now, afterId, PageRequest.of(0, chunkSize));
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                afterId = chunk.get(chunk.size() - 1).aquariumId();
+                
+                queuedCount += enqueue(chunk).size();
+                if (chunk.size() < chunkSize) {
+                    break;
+                }
+            }
             
-            if (aquariumsToNotify.isEmpty()) {
+            if (queuedCount == 0) {
                 log.info("알림을 보낼 어항이 없습니다.");
                 return;
             }
-            
-            int successCount = 0;
-            int failureCount = 0;
-            
-            for (Aquarium aquarium : aquariumsToNotify) {
-                try {
-                    // 이메일 발송
-                    emailService.sendAquariumReminderEmail(aquarium);
-                    
-                    // 다음 알림일 업데이트
-                    updateNextNotificationDate(aquarium);
-                    
-                    successCount++;
-                    log.info("어항 알림 발송 성공: {} (ID: {}) -> {}", 
-                        aquarium.getName(), aquarium.getId(), aquarium.getMember().getEmail());
-                    
-                } catch (Exception e) {
-                    failureCount++;
-                    log.error("어항 ID {} 알림 발송 실패: {}", aquarium.getId(), e.getMessage());
+            log.info("어항 관리 알림 처리 완료: 발송 대기 {}건", queuedCount);
+                
+        } catch (Exception e) {
+            log.error("어항 관리 알림 처리 중 오류 발생: {}", e.getMessage());
+        } finally {
+            sendLock.unlock();
+        }
+    }
+    
+    /**
+     * 알림 타이머가 만료된 어항들의 알림 메일을 아웃박스에 저장
+     * 타이머 등록 이후 일정이 바뀌었을 수 있으므로 DB 기준으로 알림 시간이 도래한 어항만 처리
+     * @param aquariumIds 타이머가 만료된 어항 ID
+     * @return 어항 ID → 다음 알림 시각 (알림이 해제됐거나 삭제된 어항은 제외)
+     */
+    public Map<Long, LocalDateTime> enqueueReminders(List<Long> aquariumIds) {
+        Map<Long, LocalDateTime> nextDates = new HashMap<>();
+        sendLock.lock();
+        try {
+            for (int from = 0; from < aquariumIds.size(); from += chunkSize) {
+                List<AquariumReminderDto> targets = aquariumRepository.findReminderTargets(
+                    aquariumIds.subList(from, Math.min(from + chunkSize, aquariumIds.size())));
+                
+                LocalDateTime now = LocalDateTime.now();
+                List<AquariumReminderDto> due = new ArrayList<>(targets.size());
+                for (AquariumReminderDto target : targets) {
+                    if (target.nextDate().isAfter(now)) {
+                        nextDates.put(target.aquariumId(), target.nextDate());
+                    } else {
+                        due.add(target);
+                    }
+                }
+                if (due.isEmpty()) {
+                    continue;
                 }
-            }
-            
-            log.info("어항 관리 알림 발송 완료: 성공 {}건, 실패 {}건, 전체 {}건", 
-                successCount, failureCount, aquariumsToNotify.size());
                 
+                nextDates.putAll(enqueue(due));
+                
+                // 그 사이 다른 곳에서 알림일이 바뀐 어항은 잠시 후 DB 기준으로 다시 확인
+                LocalDateTime retryDate = LocalDateTime.now().plus(Duration.ofMillis(retryDelayMillis));
+                due.forEach(target -> nextDates.putIfAbsent(target.aquariumId(), retryDate));
+            }
         } catch (Exception e) {
-            log.error("어항 관리 알림 발송 중 오류 발생: {}", e.getMessage());
+            // 처리하지 못한 어항은 잠시 후 다시 시도
+            log.error("어항 관리 알림 처리 중 오류 발생: {}", e.getMessage());
+            LocalDateTime retryDate = LocalDateTime.now().plus(Duration.ofMillis(retryDelayMillis));
+            aquariumIds.forEach(id -> nextDates.putIfAbsent(id, retryDate));
+        } finally {
+            sendLock.unlock();
         }
+        return nextDates;
     }
     
     /**
-     * 특정 어항에 대해 테스트 알림 발송
+     * 특정 어항에 대해 테스트 알림 발송 (아웃박스를 거치지 않고 바로 발송, 알림일은 바꾸지 않음)
      * @param aquariumId 어항 ID
      */
     @Transactional
@@ -83,27 +154,63 @@ public class AquariumNotificationService {
     }
     
     /**
-     * 모든 알림 대상 어항에 대해 수동으로 알림 발송 (테스트용)
+     * 모든 알림 대상 어항에 대해 수동으로 알림 처리 (테스트용)
      */
-    @Transactional
     public void sendAllNotifications() {
         log.info("수동 알림 발송 시작");
         sendDailyAquariumReminders();
     }
     
     /**
-     * 어항의 다음 알림일을 업데이트
-     * @param aquarium 어항 정보
+     * 알림일이 도래한 어항들의 다음 알림일을 넘기고 알림 메일을 아웃박스에 저장 (한 트랜잭션, JDBC 배치)
+     * 알림일은 조회한 값 그대로일 때만 넘기고 넘긴 어항만 아웃박스에 저장하므로, 중간에 서버가 종료되거나
+     * 같은 어항을 두 번 처리해도 알림일 하나에 메일은 한 번만 저장된다 (아웃박스 유니크 키로도 막음)
+     * @param due 알림일이 도래한 어항
+     * @return 알림일을 넘긴 어항 ID → 새 다음 알림일
      */
-    @Transactional
-    public void updateNextNotificationDate(Aquarium aquarium) {
-        LocalDateTime lastDate = LocalDateTime.now();
-        LocalDateTime nextDate = lastDate.plusDays(aquarium.getCycleDate());
+    Map<Long, LocalDateTime> enqueue(List<AquariumReminderDto> due) {
+        // 본문 생성은 트랜잭션 밖에서
+        List<ReminderEmail> emails = emailService.prepareAquariumReminderEmails(due);
         
-        aquarium.changeSchedule(aquarium.getCycleDate(), lastDate, nextDate);
-        aquariumRepository.save(aquarium);
+        LocalDateTime lastDate = LocalDateTime.now();
+        Timestamp now = Timestamp.valueOf(lastDate);
+        List<Object[]> advanceArgs = new ArrayList<>(due.size());
+        for (AquariumReminderDto aquarium : due) {
+            advanceArgs.add(new Object[]{
+                now,
+                Timestamp.valueOf(lastDate.plusDays(aquarium.cycleDate())),
+                now,
+                aquarium.aquariumId(),
+                Timestamp.valueOf(aquarium.nextDate())
+            });
+        }
         
-        log.debug("다음 알림일 업데이트: {} -> {}", aquarium.getName(), nextDate);
+        return transactionTemplate.execute(status -> {
+            int[] counts = jdbcTemplate.batchUpdate(ADVANCE_SQL, advanceArgs);
+            
+            Map<Long, LocalDateTime> nextDates = new HashMap<>();
+            List<Object[]> outboxArgs = new ArrayList<>(due.size());
+            for (int i = 0; i < due.size(); i++) {
+                // 0: 이미 넘어간 알림일 (드라이버가 건수를 알려주지 않는 경우(-2)는 넘긴 것으로 봄)
+                if (counts[i] == 0) {
+                    continue;
+                }
+                AquariumReminderDto aquarium = due.get(i);
+                ReminderEmail email = emails.get(i);
+                nextDates.put(aquarium.aquariumId(), lastDate.plusDays(aquarium.cycleDate()));
+                outboxArgs.add(new Object[]{
+                    aquarium.aquariumId(),
+                    Timestamp.valueOf(aquarium.nextDate()),
+                    email.to(),
+                    email.subject(),
+                    email.htmlContent(),
+                    now,
+                    now
+                });
+            }
+            jdbcTemplate.batchUpdate(OUTBOX_SQL, outboxArgs);
+            return nextDates;
+        });
     }
 
 }
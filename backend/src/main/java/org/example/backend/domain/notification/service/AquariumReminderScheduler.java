@@ -0,0 +1,153 @@
+package org.example.backend.domain.notification.service;
+
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.domain.aquarium.dto.AquariumScheduleDto;
+import org.example.backend.domain.aquarium.repository.AquariumRepository;
+import org.example.backend.global.collection.HierarchicalTimingWheel;
+import org.example.backend.global.collection.LongHashSet;
+import org.example.backend.global.transaction.AfterCommit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 어항별 관리 알림 타이머.
+ * 알림이 설정된 어항의 다음 알림일을 계층형 타이밍 휠에 올려 두고, tick-ms 마다 휠을 넘겨서 만료된 어항만 발송한다.
+ * 시작할 때 DB에서 다음 알림일을 읽어 휠을 다시 만들고 (이미 지난 알림은 바로 발송), 이후 변경은 커밋 후 휠에 반영한다.
+ * 만료된 어항은 전용 가상 스레드 하나에서 차례로 아웃박스에 저장하고 (발송은 NotificationOutboxRelay), 처리 후 DB 기준 다음 알림일로 다시 등록한다.
+ * 휠은 노드별로 관리한다.
+ * custom.mail.scheduling.enabled 가 false 면 휠을 만들지 않으므로 타이머 발송을 하지 않는다 (테스트 등).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AquariumReminderScheduler {
+
+    private static final int RECOVER_CHUNK_SIZE = 1000;
+
+    private final AquariumRepository aquariumRepository;
+    private final AquariumNotificationService notificationService;
+
+    @Value("${custom.mail.reminder.tick-ms:1000}")
+    private long tickMillis;
+    @Value("${custom.mail.scheduling.enabled:true}")
+    private boolean schedulingEnabled;
+
+    private final Object lock = new Object();
+    private HierarchicalTimingWheel wheel;
+    // 복구 중에 바뀐 어항 (복구 조회 결과보다 최신이므로 덮어쓰지 않음)
+    private LongHashSet changedDuringRecovery;
+    private final ExecutorService sender = Executors.newSingleThreadExecutor(
+            Thread.ofVirtual().name("aquarium-reminder").factory());
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        if (!schedulingEnabled) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        synchronized (lock) {
+            wheel = new HierarchicalTimingWheel(tickMillis, start);
+            changedDuringRecovery = new LongHashSet();
+        }
+
+        int recovered = 0;
+        try {
+            Long lastId = 0L;
+            List<AquariumScheduleDto> chunk;
+            do {
+                chunk = aquariumRepository.findReminderSchedules(lastId, PageRequest.of(0, RECOVER_CHUNK_SIZE));
+                synchronized (lock) {
+                    for (AquariumScheduleDto schedule : chunk) {
+                        if (!changedDuringRecovery.contains(schedule.aquariumId())) {
+                            wheel.schedule(schedule.aquariumId(), toEpochMillis(schedule.nextDate()));
+                        }
+                    }
+                }
+                recovered += chunk.size();
+                if (!chunk.isEmpty()) {
+                    lastId = chunk.get(chunk.size() - 1).aquariumId();
+                }
+            } while (chunk.size() == RECOVER_CHUNK_SIZE);
+        } finally {
+            synchronized (lock) {
+                changedDuringRecovery = null;
+            }
+        }
+
+        log.info("어항 알림 타이머 복구 완료 - {}건, {}ms", recovered, System.currentTimeMillis() - start);
+    }
+
+    // 현재 트랜잭션이 커밋된 후 다음 알림일 반영 (null 이면 알림 해제)
+    public void scheduleAfterCommit(Long aquariumId, LocalDateTime nextDate) {
+        AfterCommit.run(() -> schedule(aquariumId, nextDate));
+    }
+
+    public void cancelAfterCommit(Long aquariumId) {
+        AfterCommit.run(() -> schedule(aquariumId, null));
+    }
+
+    @Scheduled(fixedDelayString = "${custom.mail.reminder.tick-ms:1000}")
+    public void tick() {
+        List<Long> expired = new ArrayList<>();
+        synchronized (lock) {
+            if (wheel == null) {
+                return;
+            }
+            wheel.advance(System.currentTimeMillis(), expired::add);
+        }
+        if (!expired.isEmpty()) {
+            sender.execute(() -> send(expired));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+    }
+
+    private void send(List<Long> aquariumIds) {
+        Map<Long, LocalDateTime> nextDates = notificationService.enqueueReminders(aquariumIds);
+        synchronized (lock) {
+            for (Long aquariumId : aquariumIds) {
+                LocalDateTime nextDate = nextDates.get(aquariumId);
+                // 발송 중에 일정이 바뀌어 다시 등록됐으면 그대로 둠
+                if (nextDate != null && !wheel.contains(aquariumId)) {
+                    wheel.schedule(aquariumId, toEpochMillis(nextDate));
+                }
+            }
+        }
+    }
+
+    private void schedule(Long aquariumId, LocalDateTime nextDate) {
+        synchronized (lock) {
+            if (wheel == null) {
+                return;
+            }
+            if (changedDuringRecovery != null) {
+                changedDuringRecovery.add(aquariumId);
+            }
+            if (nextDate == null) {
+                wheel.cancel(aquariumId);
+            } else {
+                wheel.schedule(aquariumId, toEpochMillis(nextDate));
+            }
+        }
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
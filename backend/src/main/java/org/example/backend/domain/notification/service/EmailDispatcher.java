@@ -0,0 +1,147 @@
+package org.example.backend.domain.notification.service;
+
+import jakarta.mail.SendFailedException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.domain.notification.dto.EmailDispatchResult;
+import org.example.backend.domain.notification.dto.ReminderEmail;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 알림 메일 병렬 발송.
+ * 메일마다 가상 스레드에서 SMTP 발송을 하되 동시 발송 수는 concurrency 로 제한하고,
+ * 수신 메일 서비스(도메인)별 토큰 버킷으로 초당 발송 수를 제한한다.
+ * 일시적인 발송 실패(MailSendException)는 지수 백오프로 max-attempts 까지 재시도한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmailDispatcher {
+
+    private final EmailService emailService;
+
+    @Value("${custom.mail.dispatch.concurrency:8}")
+    private int concurrency;
+    @Value("${custom.mail.dispatch.rate-per-second:5}")
+    private double ratePerSecond;
+    @Value("${custom.mail.dispatch.burst:5}")
+    private int burst;
+    @Value("${custom.mail.dispatch.max-attempts:3}")
+    private int maxAttempts;
+    @Value("${custom.mail.dispatch.backoff-ms:1000}")
+    private long backoffMillis;
+
+    // 메일 서비스 도메인 → 속도 제한 (실행이 끝나도 유지해서 연속 실행에도 제한 적용)
+    private final Map<String, TokenBucket> limiters = new ConcurrentHashMap<>();
+
+    /**
+     * 모든 메일의 발송이 끝날 때까지 대기한 뒤 결과를 반환한다.
+     * 중간에 인터럽트되면 아직 시작하지 않은 메일은 실패로 처리한다.
+     */
+    public EmailDispatchResult dispatch(List<ReminderEmail> emails) {
+        long startedAt = System.currentTimeMillis();
+        List<Long> sent = Collections.synchronizedList(new ArrayList<>());
+        List<Long> failed = Collections.synchronizedList(new ArrayList<>());
+        Map<String, AtomicInteger> sentByProvider = new ConcurrentHashMap<>();
+        AtomicInteger retries = new AtomicInteger();
+
+        // 대기 중인 메일이 한꺼번에 가상 스레드로 만들어지지 않도록 발송 시작 전에 허가를 받는다
+        Semaphore permits = new Semaphore(concurrency);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < emails.size(); i++) {
+                ReminderEmail email = emails.get(i);
+                try {
+                    permits.acquire();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    emails.subList(i, emails.size()).forEach(rest -> failed.add(rest.id()));
+                    break;
+                }
+                executor.execute(() -> {
+                    try {
+                        if (deliver(email, retries)) {
+                            sent.add(email.id());
+                            sentByProvider.computeIfAbsent(email.provider(), key -> new AtomicInteger()).incrementAndGet();
+                        } else {
+                            failed.add(email.id());
+                        }
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        }
+
+        EmailDispatchResult result = new EmailDispatchResult(
+                List.copyOf(sent), List.copyOf(failed), retries.get(), System.currentTimeMillis() - startedAt);
+        log.info("알림 메일 발송 결과: 성공 {}건, 실패 {}건, 재시도 {}회, {}ms ({}/s), 메일 서비스별 성공 {}",
+                result.sentIds().size(), result.failedIds().size(), result.retries(),
+                result.elapsedMillis(), String.format("%.1f", result.throughput()), sentByProvider);
+        return result;
+    }
+
+    // 성공하면 true
+    private boolean deliver(ReminderEmail email, AtomicInteger retries) {
+        TokenBucket limiter = limiters.computeIfAbsent(email.provider(), key -> new TokenBucket(ratePerSecond, burst));
+        for (int attempt = 1; ; attempt++) {
+            try {
+                limiter.acquire();
+                emailService.send(email);
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            } catch (MailException e) {
+                if (attempt >= maxAttempts || !isRetryable(e)) {
+                    log.error("알림 ID {} 발송 실패 ({}회 시도): {}", email.id(), attempt, e.getMessage());
+                    return false;
+                }
+                retries.incrementAndGet();
+                log.warn("알림 ID {} 발송 재시도 예정 ({}회 실패): {}", email.id(), attempt, e.getMessage());
+                if (!sleepBackoff(attempt)) {
+                    return false;
+                }
+            }
+        }
+    }
+
+    // 연결/전송 오류는 재시도, 메일 작성 오류·인증 실패·잘못된 수신 주소는 재시도해도 같은 결과
+    private static boolean isRetryable(MailException e) {
+        if (!(e instanceof MailSendException sendException)) {
+            return false;
+        }
+        for (Exception cause : sendException.getMessageExceptions()) {
+            if (cause instanceof SendFailedException failure
+                    && failure.getInvalidAddresses() != null && failure.getInvalidAddresses().length > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // backoff-ms × 2^(attempt-1) 에 최대 절반만큼 무작위 지연 추가
+    private boolean sleepBackoff(int attempt) {
+        long delay = backoffMillis << Math.min(attempt - 1, 20);
+        delay += ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+        try {
+            Thread.sleep(delay);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
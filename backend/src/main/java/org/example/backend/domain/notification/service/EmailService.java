@@ -2,22 +2,32 @@ package org.example.backend.domain.notification.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.backend.domain.aquarium.dto.AquariumReminderDto;
 import org.example.backend.domain.aquarium.entity.Aquarium;
-import org.springframework.core.io.ClassPathResource;
+import org.example.backend.domain.notification.dto.ReminderEmail;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailPreparationException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 
+import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
-import java.nio.charset.StandardCharsets;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class EmailService {
     
+    static final String AQUARIUM_REMINDER_TEMPLATE = "aquarium-reminder";
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    
     private final JavaMailSender mailSender;
+    private final EmailTemplates emailTemplates;
     
     /**
      * 어항 관리 알림 이메일 발송
@@ -25,21 +35,7 @@ public class EmailService {
      */
     public void sendAquariumReminderEmail(Aquarium aquarium) {
         try {
-            String toEmail = aquarium.getMember().getEmail();
-            String subject = "🐠 어항 관리 알림 - " + aquarium.getName();
-            String htmlContent = createEmailTemplate(aquarium);
-            
-            MimeMessage message = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-            
-            helper.setTo(toEmail);
-            helper.setSubject(subject);
-            helper.setText(htmlContent, true);
-            
-            mailSender.send(message);
-            
-            log.info("어항 알림 이메일 발송 성공: {} -> {}", aquarium.getName(), toEmail);
-            
+            send(prepareAquariumReminderEmail(new AquariumReminderDto(aquarium)));
         } catch (Exception e) {
             log.error("어항 알림 이메일 발송 실패: {}", e.getMessage());
             throw new RuntimeException("이메일 발송에 실패했습니다.", e);
@@ -47,34 +43,73 @@ public class EmailService {
     }
     
     /**
-     * 이메일 템플릿 생성
-     * @param aquarium 어항 정보
-     * @return HTML 형식의 이메일 내용
+     * 어항 관리 알림 메일 준비 (본문 생성)
+     * @param aquarium 알림을 보낼 어항과 회원 정보
+     * @return 발송할 메일
      */
-    private String createEmailTemplate(Aquarium aquarium) {
-        String template = loadEmailTemplate();
-        
-        return template
-            .replace("{{memberName}}", aquarium.getMember().getNickname())
-            .replace("{{aquariumName}}", aquarium.getName())
-            .replace("{{cycleDate}}", String.valueOf(aquarium.getCycleDate()))
-            .replace("{{nextDate}}", aquarium.getNextDate() != null ? 
-                aquarium.getNextDate().format(DateTimeFormatter.ofPattern("yyyy-MM-dd")) : "미설정")
-            .replace("{{aquariumId}}", aquarium.getId().toString());
+    public ReminderEmail prepareAquariumReminderEmail(AquariumReminderDto aquarium) {
+        return createReminderEmail(aquarium,
+            emailTemplates.get(AQUARIUM_REMINDER_TEMPLATE).render(templateValues(aquarium)));
+    }
+    
+    /**
+     * 어항 관리 알림 메일 여러 건 준비 (본문 생성)
+     * 본문을 만드는 StringBuilder 하나를 묶음 안에서 재사용한다
+     * @param aquariums 알림을 보낼 어항과 회원 정보
+     * @return 발송할 메일 (aquariums 순서)
+     */
+    public List<ReminderEmail> prepareAquariumReminderEmails(List<AquariumReminderDto> aquariums) {
+        EmailTemplate template = emailTemplates.get(AQUARIUM_REMINDER_TEMPLATE);
+        StringBuilder body = new StringBuilder(template.initialCapacity());
+        List<ReminderEmail> emails = new ArrayList<>(aquariums.size());
+        for (AquariumReminderDto aquarium : aquariums) {
+            body.setLength(0);
+            template.renderTo(body, templateValues(aquarium));
+            emails.add(createReminderEmail(aquarium, body.toString()));
+        }
+        return emails;
     }
     
     /**
-     * 이메일 템플릿 파일 로드
-     * @return HTML 템플릿 문자열
+     * 준비된 메일 발송
+     * @param email 발송할 메일
+     * @throws MailException 발송 실패 (재시도 여부는 호출하는 쪽에서 판단)
      */
-    private String loadEmailTemplate() {
+    public void send(ReminderEmail email) {
+        MimeMessage message = mailSender.createMimeMessage();
         try {
-            ClassPathResource resource = new ClassPathResource("templates/email/aquarium-reminder.html");
-            return new String(resource.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
-        } catch (Exception e) {
-            log.error("이메일 템플릿 로드 실패: {}", e.getMessage());
-            throw new RuntimeException("이메일 템플릿을 로드할 수 없습니다.", e);
+            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+            helper.setTo(email.to());
+            helper.setSubject(email.subject());
+            helper.setText(email.htmlContent(), true);
+        } catch (MessagingException e) {
+            throw new MailPreparationException("이메일 작성에 실패했습니다.", e);
         }
+        
+        mailSender.send(message);
+        
+        log.info("어항 알림 이메일 발송 성공: {} -> {}", email.subject(), email.to());
+    }
+    
+    private ReminderEmail createReminderEmail(AquariumReminderDto aquarium, String htmlContent) {
+        return new ReminderEmail(
+            aquarium.aquariumId(),
+            aquarium.email(),
+            "🐠 어항 관리 알림 - " + aquarium.aquariumName(),
+            htmlContent);
+    }
+    
+    /**
+     * 이메일 템플릿 자리표시자 값
+     * @param aquarium 어항과 회원 정보
+     * @return 자리표시자 이름 → 값
+     */
+    private static Map<String, String> templateValues(AquariumReminderDto aquarium) {
+        return Map.of(
+            "memberName", aquarium.nickname(),
+            "aquariumName", aquarium.aquariumName(),
+            "cycleDate", String.valueOf(aquarium.cycleDate()),
+            "nextDate", aquarium.nextDate() != null ? aquarium.nextDate().format(DATE_FORMAT) : "미설정",
+            "aquariumId", aquarium.aquariumId().toString());
     }
 }
-
@@ -0,0 +1,96 @@
+package org.example.backend.domain.notification.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 미리 분석해 둔 이메일 템플릿.
+ * {{이름}} 자리표시자를 기준으로 원문을 고정 문자열 조각과 자리표시자로 나눠 두고,
+ * 발송할 때는 조각과 값을 StringBuilder 에 차례로 이어 붙이기만 한다 (값은 HTML 이스케이프).
+ */
+public final class EmailTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    private final String name;
+    // literals[i] 다음에 placeholders[i] 값이 온다 (literals 가 하나 더 많음)
+    private final String[] literals;
+    private final String[] placeholders;
+    private final int literalLength;
+
+    private EmailTemplate(String name, List<String> literals, List<String> placeholders) {
+        this.name = name;
+        this.literals = literals.toArray(String[]::new);
+        this.placeholders = placeholders.toArray(String[]::new);
+        this.literalLength = literals.stream().mapToInt(String::length).sum();
+    }
+
+    public static EmailTemplate compile(String name, String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> placeholders = new ArrayList<>();
+        int from = 0;
+        while (true) {
+            int open = source.indexOf(OPEN, from);
+            int close = open < 0 ? -1 : source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                literals.add(source.substring(from));
+                return new EmailTemplate(name, literals, placeholders);
+            }
+            literals.add(source.substring(from, open));
+            placeholders.add(source.substring(open + OPEN.length(), close).trim());
+            from = close + CLOSE.length();
+        }
+    }
+
+    public String name() {
+        return name;
+    }
+
+    // 같은 자리표시자가 여러 번 나와도 한 번만
+    public Set<String> placeholders() {
+        return Set.copyOf(Arrays.asList(placeholders));
+    }
+
+    public String render(Map<String, String> values) {
+        StringBuilder out = new StringBuilder(initialCapacity());
+        renderTo(out, values);
+        return out.toString();
+    }
+
+    // 렌더링 결과를 담을 StringBuilder 초기 크기 (값은 자리표시자당 16자로 어림)
+    public int initialCapacity() {
+        return literalLength + 16 * placeholders.length;
+    }
+
+    // 호출하는 쪽의 StringBuilder 에 이어 붙임 (여러 번 렌더링할 때 재사용)
+    public void renderTo(StringBuilder out, Map<String, String> values) {
+        for (int i = 0; i < placeholders.length; i++) {
+            out.append(literals[i]);
+            String value = values.get(placeholders[i]);
+            if (value == null) {
+                throw new IllegalArgumentException(
+                        "이메일 템플릿 " + name + " 의 " + placeholders[i] + " 값이 없습니다.");
+            }
+            appendEscaped(out, value);
+        }
+        out.append(literals[placeholders.length]);
+    }
+
+    private static void appendEscaped(StringBuilder out, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '<' -> out.append("&lt;");
+                case '>' -> out.append("&gt;");
+                case '&' -> out.append("&amp;");
+                case '"' -> out.append("&quot;");
+                case '\'' -> out.append("&#39;");
+                default -> out.append(c);
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package org.example.backend.domain.notification.service;
+
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+/**
+ * 알림 이메일 템플릿 모음.
+ * 시작할 때 templates/email/*.html 을 모두 읽어서 분석해 두고 파일 이름(확장자 제외)으로 찾는다.
+ * 템플릿을 읽지 못하거나, 발송 코드에서 쓰는 템플릿이 없거나 자리표시자가 채우는 값과 다르면 발송 시점이 아니라 시작할 때 실패한다.
+ */
+@Slf4j
+@Component
+public class EmailTemplates {
+
+    private static final String LOCATION = "classpath:templates/email/*.html";
+    // 발송 코드에서 쓰는 템플릿과 채우는 값
+    static final Map<String, Set<String>> REQUIRED = Map.of(
+        EmailService.AQUARIUM_REMINDER_TEMPLATE,
+        Set.of("memberName", "aquariumName", "cycleDate", "nextDate", "aquariumId"));
+
+    private final Map<String, EmailTemplate> templates = new HashMap<>();
+
+    @PostConstruct
+    void load() throws IOException {
+        load(LOCATION, REQUIRED);
+    }
+
+    void load(String location, Map<String, Set<String>> required) throws IOException {
+        for (Resource resource : new PathMatchingResourcePatternResolver().getResources(location)) {
+            String fileName = resource.getFilename();
+            String name = fileName.substring(0, fileName.length() - ".html".length());
+            String source = resource.getContentAsString(StandardCharsets.UTF_8);
+            templates.put(name, EmailTemplate.compile(name, source));
+        }
+
+        required.forEach((name, values) -> {
+            EmailTemplate template = templates.get(name);
+            if (template == null) {
+                throw new IllegalStateException("필수 이메일 템플릿이 없습니다: " + name);
+            }
+            if (!template.placeholders().equals(values)) {
+                throw new IllegalStateException("이메일 템플릿 " + name + " 의 자리표시자 " + template.placeholders()
+                    + " 가 채우는 값 " + values + " 와 다릅니다.");
+            }
+        });
+        log.info("이메일 템플릿 로드 완료 - {}", templates.keySet());
+    }
+
+    public EmailTemplate get(String name) {
+        EmailTemplate template = templates.get(name);
+        if (template == null) {
+            throw new IllegalArgumentException("이메일 템플릿을 찾을 수 없습니다: " + name);
+        }
+        return template;
+    }
+}
@@ -0,0 +1,89 @@
+package org.example.backend.domain.notification.service;
+
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.domain.notification.dto.EmailDispatchResult;
+import org.example.backend.domain.notification.dto.ReminderEmail;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 알림 메일 아웃박스 발송.
+ * poll-ms 마다 발송할 차례가 된 메일을 batch-size 개씩 가져가서 EmailDispatcher 로 보내고 결과를 기록하며, 남은 메일이 없을 때까지 반복한다.
+ * SMTP 발송은 전용 가상 스레드에서 하므로 다른 스케줄 작업을 붙잡지 않는다.
+ * 발송 후 결과를 기록하기 전에 서버가 종료되면 임대(lease-ms)가 끝난 뒤 다시 발송한다 (최소 한 번 발송).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationOutboxRelay {
+
+    private final NotificationOutboxStore outboxStore;
+    private final EmailDispatcher emailDispatcher;
+
+    @Value("${custom.mail.outbox.batch-size:100}")
+    private int batchSize;
+    // 한 번에 가져간 메일을 모두 보내는 데 걸리는 시간보다 충분히 길게
+    @Value("${custom.mail.outbox.lease-ms:300000}")
+    private long leaseMillis;
+    // false 면 주기 발송/정리를 하지 않음 (테스트 등)
+    @Value("${custom.mail.scheduling.enabled:true}")
+    private boolean schedulingEnabled;
+
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final ExecutorService sender = Executors.newSingleThreadExecutor(
+            Thread.ofVirtual().name("notification-outbox").factory());
+
+    @Scheduled(fixedDelayString = "${custom.mail.outbox.poll-ms:1000}")
+    public void poll() {
+        if (schedulingEnabled && draining.compareAndSet(false, true)) {
+            sender.execute(() -> {
+                try {
+                    drain();
+                } finally {
+                    draining.set(false);
+                }
+            });
+        }
+    }
+
+    // 매일 새벽 보관 기간이 지난 발송 완료 메일 정리
+    @Scheduled(cron = "0 30 4 * * ?")
+    public void purge() {
+        if (!schedulingEnabled) {
+            return;
+        }
+        int deleted = outboxStore.purgeSent();
+        if (deleted > 0) {
+            log.info("알림 아웃박스 정리 - {}건 삭제", deleted);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+    }
+
+    private void drain() {
+        try {
+            List<ReminderEmail> batch;
+            do {
+                batch = outboxStore.claim(batchSize, leaseMillis);
+                if (batch.isEmpty()) {
+                    return;
+                }
+                EmailDispatchResult result = emailDispatcher.dispatch(batch);
+                outboxStore.complete(result.sentIds(), result.failedIds());
+            } while (batch.size() == batchSize && !Thread.currentThread().isInterrupted());
+        } catch (RuntimeException e) {
+            // 가져간 메일은 임대가 끝나면 다시 발송 대상이 됨
+            log.error("알림 아웃박스 발송 중 오류 발생: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package org.example.backend.domain.notification.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.example.backend.domain.notification.dto.ReminderEmail;
+import org.example.backend.domain.notification.entity.NotificationOutbox;
+import org.example.backend.domain.notification.entity.OutboxStatus;
+import org.example.backend.domain.notification.repository.NotificationOutboxRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 알림 메일 아웃박스의 트랜잭션 처리.
+ * NotificationOutboxRelay 가 SMTP 발송 전후로 호출해서 가져가기와 결과 기록을 각각 짧은 트랜잭션으로 처리한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class NotificationOutboxStore {
+
+    private final NotificationOutboxRepository outboxRepository;
+
+    // 한 메일을 가져갈 수 있는 최대 횟수 (발송마다 EmailDispatcher 의 재시도는 별도)
+    @Value("${custom.mail.outbox.max-attempts:5}")
+    private int maxAttempts;
+    @Value("${custom.mail.outbox.retry-delay-ms:600000}")
+    private long retryDelayMillis;
+    @Value("${custom.mail.outbox.retention-days:7}")
+    private int retentionDays;
+
+    /**
+     * 발송할 차례가 된 메일을 최대 batchSize 개 가져간다.
+     * 가져간 메일은 leaseMillis 동안 다른 노드/다음 주기가 가져가지 않는다.
+     * 발송 중 서버가 종료되는 등으로 결과가 기록되지 않은 채 max-attempts 번 가져간 메일은 더 가져가지 않고 실패 처리한다.
+     */
+    @Transactional
+    public List<ReminderEmail> claim(int batchSize, long leaseMillis) {
+        LocalDateTime now = LocalDateTime.now();
+        outboxRepository.markExhausted(now, maxAttempts, OutboxStatus.PENDING, OutboxStatus.FAILED);
+        List<NotificationOutbox> ready = outboxRepository.findReady(OutboxStatus.PENDING, now, maxAttempts,
+                PageRequest.of(0, batchSize));
+
+        LocalDateTime leaseUntil = now.plus(Duration.ofMillis(leaseMillis));
+        ready.forEach(outbox -> outbox.lease(leaseUntil));
+        return ready.stream()
+                .map(outbox -> new ReminderEmail(outbox.getId(), outbox.getRecipient(), outbox.getSubject(),
+                        outbox.getHtmlContent()))
+                .toList();
+    }
+
+    // 발송 결과 기록
+    @Transactional
+    public void complete(List<Long> sentIds, List<Long> failedIds) {
+        LocalDateTime now = LocalDateTime.now();
+        if (!sentIds.isEmpty()) {
+            outboxRepository.markSent(sentIds, OutboxStatus.SENT, now);
+        }
+        if (!failedIds.isEmpty()) {
+            outboxRepository.markFailed(failedIds, now.plus(Duration.ofMillis(retryDelayMillis)), maxAttempts,
+                    OutboxStatus.FAILED);
+        }
+    }
+
+    // 보관 기간이 지난 발송 완료 메일 삭제
+    @Transactional
+    public int purgeSent() {
+        return outboxRepository.deleteSentBefore(OutboxStatus.SENT, LocalDateTime.now().minusDays(retentionDays));
+    }
+}
@@ -0,0 +1,38 @@
+package org.example.backend.domain.notification.service;
+
+/**
+ * 토큰 버킷 속도 제한.
+ * 초당 ratePerSecond 개씩 채워지고 최대 burst 개까지 쌓인다.
+ * 토큰이 없으면 다음 토큰이 채워질 때까지 기다리며, 기다리는 요청끼리는 먼저 예약한 순서대로 간격을 두고 통과한다.
+ */
+class TokenBucket {
+
+    private final double tokensPerNano;
+    private final double burst;
+    private double tokens;
+    private long refilledAt;
+
+    TokenBucket(double ratePerSecond, int burst) {
+        this.tokensPerNano = ratePerSecond / 1_000_000_000d;
+        this.burst = burst;
+        this.tokens = burst;
+        this.refilledAt = System.nanoTime();
+    }
+
+    // 토큰 하나를 받을 때까지 대기
+    void acquire() throws InterruptedException {
+        long waitNanos = reserve();
+        if (waitNanos > 0) {
+            Thread.sleep(waitNanos / 1_000_000, (int) (waitNanos % 1_000_000));
+        }
+    }
+
+    // 토큰을 미리 차감하고 (음수 허용) 채워질 때까지 남은 시간을 반환
+    private synchronized long reserve() {
+        long now = System.nanoTime();
+        tokens = Math.min(burst, tokens + (now - refilledAt) * tokensPerNano);
+        refilledAt = now;
+        tokens -= 1;
+        return tokens >= 0 ? 0 : (long) Math.ceil(-tokens / tokensPerNano);
+    }
+}
@@ -10,6 +10,9 @@ import org.example.backend.domain.point.entity.Point;
 import org.example.backend.domain.point.repository.PointRepository;
 import org.example.backend.domain.trade.entity.Trade;
 import org.example.backend.domain.trade.repository.TradeRepository;
+import org.example.backend.domain.trade.service.TradeSearchIndex;
+import org.example.backend.domain.trade.service.TradeService;
+import org.example.backend.global.cache.ListCountCache;
 import org.example.backend.global.exception.BusinessException;
 import org.example.backend.global.exception.ErrorCode;
 import org.springframework.stereotype.Service;
@@ -23,6 +26,8 @@ public class PointService {
     private final PointRepository pointRepository;
     private final MemberRepository memberRepository;
     private final TradeRepository tradeRepository;
+    private final TradeSearchIndex tradeSearchIndex;
+    private final ListCountCache listCountCache;
 
     // 포인트 충전
     public void chargePoint(Long memberId, Long amount) {
@@ -94,5 +99,7 @@ public class PointService {
         memberRepository.save(buyer);
         memberRepository.save(seller);
         tradeRepository.save(trade);
+        tradeSearchIndex.indexAfterCommit(trade);
+        listCountCache.markApproximateAfterCommit(TradeService.countGroup(trade.getBoardType()));
     }
 }
\ No newline at end of file
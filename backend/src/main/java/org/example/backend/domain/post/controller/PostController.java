@@ -58,7 +58,7 @@ public class PostController implements PostControllerSpec {
     ) {
 
         PostListResponseDto response = postService.getPosts(
-            boardType, filterType, userDetails.getMember(), keyword, category, pageable
+            boardType, filterType, userDetails.getMemberRef(), keyword, category, pageable
         );
 
         return ApiResponse.ok("게시글 다건 조회", response);
@@ -71,7 +71,7 @@ public class PostController implements PostControllerSpec {
         @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
 
-        PostReadResponseDto response = postService.getPostById(id, userDetails.getMember());
+        PostReadResponseDto response = postService.getPostById(id, userDetails.getMemberRef());
 
 
         return ApiResponse.ok("%d번 게시글 단건 조회".formatted(id), response);
@@ -85,7 +85,7 @@ public class PostController implements PostControllerSpec {
         @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
 
-        postService.delete(id, userDetails.getMember());
+        postService.delete(id, userDetails.getMemberRef());
 
         return ApiResponse.ok("%d번 게시글 삭제".formatted(id));
 
@@ -98,7 +98,7 @@ public class PostController implements PostControllerSpec {
         @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
 
-        postService.write(reqBody, userDetails.getMember());
+        postService.write(reqBody, userDetails.getMemberRef());
 
         return ApiResponse.ok("게시글 생성");
 
@@ -112,7 +112,7 @@ public class PostController implements PostControllerSpec {
         @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
 
-        postService.modify(id, reqBody, userDetails.getMember());
+        postService.modify(id, reqBody, userDetails.getMemberRef());
 
         return ApiResponse.ok("%d번 게시글 수정".formatted(id));
     }
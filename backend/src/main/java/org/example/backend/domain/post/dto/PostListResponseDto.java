@@ -4,5 +4,7 @@ import java.util.List;
 
 public record PostListResponseDto(
     List<PostReadResponseDto> posts,
-    int totalCount
+    int totalCount,
+    // false 이면 totalCount 는 캐시된 근사값
+    boolean totalCountExact
 ) {}
@@ -60,16 +60,10 @@ public class Post extends BaseEntity {
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<PostImage> images = new ArrayList<>();
 
+    // 좋아요 수는 PostLikeCounter가 증감분을 모아 직접 반영하므로 엔티티 수정 시에는 덮어쓰지 않는다
+    @Column(updatable = false)
     private int likeCount = 0;
 
-    public void increaseLikeCount() {
-        this.likeCount++;
-    }
-
-    public void decreaseLikeCount() {
-        if (this.likeCount > 0) this.likeCount--;
-    }
-
     @Enumerated(EnumType.STRING)
     @Column(nullable = true)
     private Category category;
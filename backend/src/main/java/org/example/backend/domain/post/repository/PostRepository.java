@@ -5,7 +5,6 @@ import java.util.Optional;
 import org.example.backend.domain.post.entity.Post;
 import org.example.backend.domain.post.entity.Post.BoardType;
 import org.example.backend.domain.post.entity.Post.Displaying;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -15,59 +14,50 @@ public interface PostRepository extends JpaRepository<Post, Long> {
 
     List<Post> findByBoardType(BoardType boardType);
 
-    @Query(
-        value = "SELECT DISTINCT p FROM Post p " +
-            "JOIN FETCH p.author " +
-            "LEFT JOIN FETCH p.images " +
-            "WHERE p.boardType = :boardType AND p.displaying = :displaying " +
-            "AND p.author.memberId IN :authorIds",
-        countQuery =
-            "SELECT COUNT(p) FROM Post p WHERE p.boardType = :boardType AND p.displaying = :displaying "
-                +
-                "AND p.author.memberId IN :authorIds"
-    )
-    Page<Post> findByBoardTypeAndDisplayingWithAuthorAndImagesAndIds(
+    /*
+    목록 조회는 2단계로 처리
+    - 1단계: DB에서 페이지에 해당하는 게시글 ID만 조회 (컬렉션 fetch join이 없으므로 LIMIT/OFFSET이 DB에서 적용됨)
+    - 2단계: 해당 ID의 작성자/이미지를 fetch join으로 조회
+    전체 개수는 count* 쿼리(또는 ListCountCache)로 따로 구한다
+     */
+    @Query("SELECT p.id FROM Post p " +
+        "WHERE p.boardType = :boardType AND p.displaying = :displaying " +
+        "AND p.author.memberId IN :authorIds")
+    List<Long> findIdsByBoardTypeAndDisplayingAndAuthorIds(
         @Param("boardType") BoardType boardType,
         @Param("displaying") Displaying displaying,
         @Param("authorIds") List<Long> authorIds,
         Pageable pageable
     );
 
-    @Query(
-        value = "SELECT DISTINCT p FROM Post p " +
-            "JOIN FETCH p.author " +
-            "LEFT JOIN FETCH p.images " +
-            "WHERE p.boardType = :boardType AND p.displaying = :displaying",
-        countQuery = "SELECT COUNT(p) FROM Post p WHERE p.boardType = :boardType AND p.displaying = :displaying"
-    )
-    Page<Post> findByBoardTypeAndDisplayingWithAuthorAndImages(
+    @Query("SELECT COUNT(p) FROM Post p WHERE p.boardType = :boardType AND p.displaying = :displaying "
+        + "AND p.author.memberId IN :authorIds")
+    long countByBoardTypeAndDisplayingAndAuthorIds(
+        @Param("boardType") BoardType boardType,
+        @Param("displaying") Displaying displaying,
+        @Param("authorIds") List<Long> authorIds
+    );
+
+    @Query("SELECT p.id FROM Post p " +
+        "WHERE p.boardType = :boardType AND p.displaying = :displaying")
+    List<Long> findIdsByBoardTypeAndDisplaying(
         @Param("boardType") BoardType boardType,
         @Param("displaying") Displaying displaying,
         Pageable pageable
     );
 
-    @Query(
-        value = "SELECT DISTINCT p FROM Post p " +
-            "JOIN FETCH p.author a " +   // author alias 추가
-            "LEFT JOIN FETCH p.images " +
-            "WHERE p.boardType = :boardType " +
-            "AND p.displaying = :displaying " +
-            "AND (:keyword IS NULL OR :keyword = '' OR " +
-            "LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "LOWER(p.content) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "LOWER(a.nickname) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
-            "AND (:category IS NULL OR :category = 'ALL' OR p.category = :category)",
-        countQuery = "SELECT COUNT(p) FROM Post p " +
-            "JOIN p.author a " +
-            "WHERE p.boardType = :boardType " +
-            "AND p.displaying = :displaying " +
-            "AND (:keyword IS NULL OR :keyword = '' OR " +
-            "LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "LOWER(p.content) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "LOWER(a.nickname) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
-            "AND (:category IS NULL OR :category = 'ALL' OR p.category = :category)"
-    )
-    Page<Post> searchByBoardTypeAndDisplayingAndKeywordAndCategoryWithAuthorAndImages(
+    long countByBoardTypeAndDisplaying(BoardType boardType, Displaying displaying);
+
+    @Query("SELECT p.id FROM Post p " +
+        "JOIN p.author a " +   // 작성자 닉네임 검색용
+        "WHERE p.boardType = :boardType " +
+        "AND p.displaying = :displaying " +
+        "AND (:keyword IS NULL OR :keyword = '' OR " +
+        "LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+        "LOWER(p.content) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+        "LOWER(a.nickname) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
+        "AND (:category IS NULL OR :category = 'ALL' OR p.category = :category)")
+    List<Long> searchIdsByBoardTypeAndDisplayingAndKeywordAndCategory(
         @Param("boardType") Post.BoardType boardType,
         @Param("displaying") Post.Displaying displaying,
         @Param("keyword") String keyword,
@@ -75,6 +65,29 @@ public interface PostRepository extends JpaRepository<Post, Long> {
         Pageable pageable
     );
 
+    @Query("SELECT COUNT(p) FROM Post p " +
+        "JOIN p.author a " +
+        "WHERE p.boardType = :boardType " +
+        "AND p.displaying = :displaying " +
+        "AND (:keyword IS NULL OR :keyword = '' OR " +
+        "LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+        "LOWER(p.content) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+        "LOWER(a.nickname) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
+        "AND (:category IS NULL OR :category = 'ALL' OR p.category = :category)")
+    long countByBoardTypeAndDisplayingAndKeywordAndCategory(
+        @Param("boardType") Post.BoardType boardType,
+        @Param("displaying") Post.Displaying displaying,
+        @Param("keyword") String keyword,
+        @Param("category") Post.Category category
+    );
+
+    // 2단계: 페이지에 포함된 게시글만 작성자/이미지와 함께 조회 (결과 순서는 보장되지 않음)
+    @Query("SELECT DISTINCT p FROM Post p " +
+        "JOIN FETCH p.author " +
+        "LEFT JOIN FETCH p.images " +
+        "WHERE p.id IN :ids")
+    List<Post> findAllWithAuthorAndImagesByIdIn(@Param("ids") List<Long> ids);
+
     @Query("SELECT p FROM Post p " +
         "JOIN FETCH p.author " +
         "LEFT JOIN FETCH p.images " +
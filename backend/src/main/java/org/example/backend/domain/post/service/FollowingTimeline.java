@@ -0,0 +1,404 @@
+package org.example.backend.domain.post.service;
+
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.example.backend.domain.follow.repository.FollowRepository;
+import org.example.backend.domain.follow.service.FollowGraph;
+import org.example.backend.domain.member.repository.MemberRepository;
+import org.example.backend.domain.post.entity.Post;
+import org.example.backend.domain.post.entity.Post.BoardType;
+import org.example.backend.domain.post.repository.PostRepository;
+import org.example.backend.global.collection.LongHashSet;
+import org.example.backend.global.transaction.AfterCommit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 팔로잉 피드용 타임라인 (fan-out-on-write).
+ * - 게시글 작성 시 작성자의 팔로워 타임라인(메모리에 올라와 있는 것만)에 게시글 ID를 밀어 넣는다.
+ * - 팔로워가 매우 많은 작성자(셀럽)는 밀어 넣지 않고, 조회 시점에 최신 글을 가져와 합친다 (fan-out-on-read).
+ * - 타임라인은 (팔로워, 게시판) 단위로 최신순 ID를 최대 capacity개까지 보관하며, 처음 조회할 때 DB에서 만든다.
+ *   DB 조회 전에 빈 타임라인을 먼저 등록해 두고 조회 중 들어온 추가/삭제를 모아 두었다가 조회 결과에 덧붙이므로,
+ *   조회와 등록 사이에 커밋된 글도 빠지지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class FollowingTimeline {
+
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "id");
+
+    private final PostRepository postRepository;
+    private final FollowRepository followRepository;
+    private final FollowGraph followGraph;
+    private final MemberRepository memberRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${custom.timeline.capacity:500}")
+    private int capacity;
+    @Value("${custom.timeline.fan-out-threshold:1000}")
+    private long fanOutThreshold;
+    @Value("${custom.timeline.max-cached:10000}")
+    private int maxCached;
+
+    private Map<TimelineKey, Timeline> timelines;
+    // 호출한 쪽 트랜잭션의 스냅샷이 아닌 최신 커밋 기준으로 타임라인을 만들기 위한 템플릿
+    private TransactionTemplate nonTransactional;
+    private volatile LongHashSet celebrityIds = new LongHashSet();
+    private volatile boolean ready = false;
+
+    /**
+     * 팔로잉 피드 한 페이지 조회 결과.
+     */
+    public record TimelinePage(List<Long> postIds, long totalCount, boolean exact) {
+
+    }
+
+    private record TimelineKey(Long followerId, BoardType boardType) {
+
+    }
+
+    @PostConstruct
+    void initTimelines() {
+        timelines = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<TimelineKey, Timeline> eldest) {
+                return size() > maxCached;
+            }
+        };
+        nonTransactional = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        nonTransactional.setPropagationBehavior(TransactionDefinition.PROPAGATION_NOT_SUPPORTED);
+        nonTransactional.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        refreshCelebrities();
+        ready = true;
+    }
+
+    // 셀럽 목록은 팔로워 수 기준으로 주기적으로 다시 계산
+    @Scheduled(fixedDelayString = "${custom.timeline.celebrity-refresh-ms:300000}",
+        initialDelayString = "${custom.timeline.celebrity-refresh-ms:300000}")
+    public void refreshCelebrities() {
+        LongHashSet refreshed = LongHashSet.of(
+            memberRepository.findMemberIdsWithFollowersOver(fanOutThreshold));
+
+        boolean changed = refreshed.size() != celebrityIds.size();
+        if (!changed) {
+            LongHashSet current = celebrityIds;
+            for (long memberId : refreshed.toArray()) {
+                if (!current.contains(memberId)) {
+                    changed = true;
+                    break;
+                }
+            }
+        }
+
+        celebrityIds = refreshed;
+        // 셀럽 여부가 바뀌면 어떤 글이 밀어 넣어졌는지 알 수 없으므로 전부 다시 만든다
+        if (changed) {
+            invalidateAll();
+        }
+    }
+
+    /**
+     * 팔로잉 피드 페이지를 타임라인에서 조회한다.
+     * 최신순(id DESC) 정렬이 아니거나 보관 범위를 넘는 페이지면 null을 반환하므로 DB 조회로 대체해야 한다.
+     */
+    public TimelinePage read(Long followerId, BoardType boardType, List<Long> followeeIds,
+        int offset, int size) {
+
+        // 셀럽 목록이 준비되기 전이거나 보관 범위를 넘는 페이지는 DB 조회로 처리
+        if (!ready || offset + size > capacity) {
+            return null;
+        }
+
+        List<Long> pushedAuthorIds = new ArrayList<>();
+        List<Long> celebrityFolloweeIds = new ArrayList<>();
+        LongHashSet celebrities = celebrityIds;
+        for (Long followeeId : followeeIds) {
+            if (celebrities.contains(followeeId)) {
+                celebrityFolloweeIds.add(followeeId);
+            } else {
+                pushedAuthorIds.add(followeeId);
+            }
+        }
+
+        Timeline timeline = getOrBuild(new TimelineKey(followerId, boardType), pushedAuthorIds);
+        // 다른 요청이 만들던 타임라인이 실패했으면 DB 조회로 처리
+        if (timeline == null) {
+            return null;
+        }
+        long[] pushed = timeline.snapshot();
+        if (!timeline.isComplete() && offset + size > pushed.length) {
+            return null;
+        }
+
+        if (celebrityFolloweeIds.isEmpty()) {
+            int from = Math.min(offset, pushed.length);
+            int to = Math.min(offset + size, pushed.length);
+            List<Long> pageIds = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                pageIds.add(pushed[i]);
+            }
+            return new TimelinePage(pageIds, pushed.length, timeline.isComplete());
+        }
+
+        // 셀럽 작성 글은 조회 시점에 필요한 만큼만 가져와 병합
+        List<Long> pulled = postRepository.findIdsByBoardTypeAndDisplayingAndAuthorIds(
+            boardType, Post.Displaying.PUBLIC, celebrityFolloweeIds,
+            PageRequest.of(0, offset + size, NEWEST_FIRST));
+        long pulledTotal = postRepository.countByBoardTypeAndDisplayingAndAuthorIds(boardType,
+            Post.Displaying.PUBLIC, celebrityFolloweeIds);
+
+        List<Long> pageIds = mergeNewestFirst(pushed, pulled, offset, size);
+        return new TimelinePage(pageIds, pushed.length + pulledTotal, timeline.isComplete());
+    }
+
+    // 게시글 작성 커밋 후 팔로워 타임라인에 추가
+    public void onPostCreatedAfterCommit(Long authorId, BoardType boardType, Long postId) {
+        AfterCommit.run(() -> fanOut(authorId, boardType, postId, true));
+    }
+
+    // 게시글 삭제 커밋 후 팔로워 타임라인에서 제거
+    public void onPostDeletedAfterCommit(Long authorId, BoardType boardType, Long postId) {
+        AfterCommit.run(() -> fanOut(authorId, boardType, postId, false));
+    }
+
+    // 팔로우/언팔로우 시 해당 회원의 타임라인은 다시 만들어야 함
+    public void invalidateAfterCommit(Long followerId) {
+        AfterCommit.run(() -> {
+            synchronized (timelines) {
+                for (BoardType boardType : BoardType.values()) {
+                    timelines.remove(new TimelineKey(followerId, boardType));
+                }
+            }
+        });
+    }
+
+    private void fanOut(Long authorId, BoardType boardType, Long postId, boolean add) {
+        if (!ready || celebrityIds.contains(authorId)) {
+            return;
+        }
+
+        List<Long> followerIds = followGraph.isReady()
+            ? followGraph.findFollowerIds(authorId)
+            : followRepository.findFollowerIds(authorId);
+        for (Long followerId : followerIds) {
+            Timeline timeline;
+            synchronized (timelines) {
+                timeline = timelines.get(new TimelineKey(followerId, boardType));
+            }
+            // 메모리에 없는 타임라인은 다음 조회 때 DB에서 새로 만들어지므로 건너뜀
+            if (timeline == null) {
+                continue;
+            }
+            if (add) {
+                timeline.add(postId);
+            } else {
+                timeline.remove(postId);
+            }
+        }
+    }
+
+    // 없으면 만드는 중인 타임라인을 먼저 등록한 뒤 DB에서 채운다 (다른 요청이 만들다 실패했으면 null)
+    private Timeline getOrBuild(TimelineKey key, List<Long> authorIds) {
+        Timeline timeline;
+        boolean owner = false;
+        synchronized (timelines) {
+            timeline = timelines.get(key);
+            if (timeline == null) {
+                timeline = new Timeline(capacity);
+                timelines.put(key, timeline);
+                owner = true;
+            }
+        }
+        if (!owner) {
+            return timeline.awaitBuilt() ? timeline : null;
+        }
+
+        try {
+            // 등록 이후에 시작하는 조회여야 그 전에 커밋되어 fan-out을 놓친 글까지 포함된다
+            List<Long> ids = authorIds.isEmpty()
+                ? List.of()
+                : nonTransactional.execute(status ->
+                    postRepository.findIdsByBoardTypeAndDisplayingAndAuthorIds(key.boardType(),
+                        Post.Displaying.PUBLIC, authorIds, PageRequest.of(0, capacity, NEWEST_FIRST)));
+            timeline.build(ids);
+            return timeline;
+        } catch (RuntimeException e) {
+            timeline.fail();
+            synchronized (timelines) {
+                timelines.remove(key, timeline);
+            }
+            throw e;
+        }
+    }
+
+    private void invalidateAll() {
+        synchronized (timelines) {
+            timelines.clear();
+        }
+    }
+
+    // 두 최신순 ID 목록을 병합해 offset부터 size개를 반환 (중복 제거)
+    private static List<Long> mergeNewestFirst(long[] pushed, List<Long> pulled, int offset,
+        int size) {
+        List<Long> page = new ArrayList<>(size);
+        int i = 0;
+        int j = 0;
+        int position = 0;
+        long last = Long.MAX_VALUE;
+        while (page.size() < size && (i < pushed.length || j < pulled.size())) {
+            long next;
+            if (j >= pulled.size() || (i < pushed.length && pushed[i] >= pulled.get(j))) {
+                next = pushed[i++];
+            } else {
+                next = pulled.get(j++);
+            }
+            if (next == last) {
+                continue;
+            }
+            last = next;
+            if (position++ >= offset) {
+                page.add(next);
+            }
+        }
+        return page;
+    }
+
+    /**
+     * 최신순으로 정렬된 고정 크기 ID 배열. 가득 차면 가장 오래된 ID부터 밀려난다.
+     * DB에서 채워지기 전(building)에 들어온 추가/삭제는 순서대로 모아 두었다가 채운 뒤 다시 적용한다.
+     */
+    private static class Timeline {
+
+        private final int capacity;
+        private long[] ids;
+        private int size;
+        // 용량 때문에 잘려 나간 글이 없으면 true (보관된 ID가 전체 목록)
+        private boolean complete;
+        private boolean building = true;
+        private boolean failed;
+        private List<Change> buffered = new ArrayList<>();
+
+        private record Change(long postId, boolean add) {
+
+        }
+
+        Timeline(int capacity) {
+            this.capacity = capacity;
+            this.ids = new long[Math.min(capacity, 16)];
+        }
+
+        synchronized void build(List<Long> newestFirst) {
+            ids = new long[Math.min(capacity, Math.max(newestFirst.size(), 16))];
+            for (Long id : newestFirst) {
+                ids[size++] = id;
+            }
+            complete = newestFirst.size() < capacity;
+
+            for (Change change : buffered) {
+                if (change.add()) {
+                    insert(change.postId());
+                } else {
+                    delete(change.postId());
+                }
+            }
+            buffered = null;
+            building = false;
+            notifyAll();
+        }
+
+        synchronized void fail() {
+            failed = true;
+            building = false;
+            buffered = null;
+            notifyAll();
+        }
+
+        // 다 만들어질 때까지 대기 (만들기에 실패했거나 대기 중 인터럽트되면 false)
+        synchronized boolean awaitBuilt() {
+            try {
+                while (building) {
+                    wait();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+            return !failed;
+        }
+
+        synchronized void add(long postId) {
+            if (building) {
+                buffered.add(new Change(postId, true));
+            } else if (!failed) {
+                insert(postId);
+            }
+        }
+
+        synchronized void remove(long postId) {
+            if (building) {
+                buffered.add(new Change(postId, false));
+            } else if (!failed) {
+                delete(postId);
+            }
+        }
+
+        synchronized long[] snapshot() {
+            return Arrays.copyOf(ids, size);
+        }
+
+        synchronized boolean isComplete() {
+            return complete;
+        }
+
+        private void insert(long postId) {
+            // 내림차순 위치 탐색
+            int position = 0;
+            while (position < size && ids[position] > postId) {
+                position++;
+            }
+            if (position < size && ids[position] == postId) {
+                return;
+            }
+            if (position >= capacity) {
+                return;
+            }
+
+            if (size == ids.length && ids.length < capacity) {
+                ids = Arrays.copyOf(ids, Math.min(capacity, ids.length * 2));
+            }
+            if (size == capacity) {
+                size--;
+                complete = false;
+            }
+            System.arraycopy(ids, position, ids, position + 1, size - position);
+            ids[position] = postId;
+            size++;
+        }
+
+        private void delete(long postId) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == postId) {
+                    System.arraycopy(ids, i + 1, ids, i, size - i - 1);
+                    size--;
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -2,10 +2,15 @@ package org.example.backend.domain.post.service;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.example.backend.domain.follow.service.FollowService;
 import org.example.backend.domain.like.service.LikeService;
+import org.example.backend.domain.like.service.PostLikeCounter;
 import org.example.backend.domain.member.entity.Member;
 import org.example.backend.domain.post.dto.FilterType;
 import org.example.backend.domain.post.dto.MyPostReadResponseDto;
@@ -18,11 +23,17 @@ import org.example.backend.domain.post.entity.Post.BoardType;
 import org.example.backend.domain.post.entity.Post.Category;
 import org.example.backend.domain.post.entity.PostImage;
 import org.example.backend.domain.post.repository.PostRepository;
+import org.example.backend.domain.post.service.FollowingTimeline.TimelinePage;
+import org.example.backend.global.cache.CachedCount;
+import org.example.backend.global.cache.ListCountCache;
+import org.example.backend.global.collection.LongHashSet;
 import org.example.backend.global.exception.BusinessException;
 import org.example.backend.global.exception.ErrorCode;
 import org.example.backend.global.image.ImageService;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -34,6 +45,14 @@ public class PostService {
     private final ImageService imageService;
     private final FollowService followService;
     private final LikeService likeService;
+    private final PostLikeCounter postLikeCounter;
+    private final FollowingTimeline followingTimeline;
+    private final ListCountCache listCountCache;
+
+    // 게시판별 목록 개수 캐시 그룹
+    private static String countGroup(BoardType boardType) {
+        return "post:" + boardType.name();
+    }
 
     public Optional<Post> findById(Long id) {
 
@@ -60,6 +79,9 @@ public class PostService {
         }
 
         postRepository.delete(post);
+        listCountCache.adjustAfterCommit(countGroup(post.getBoardType()), -1);
+        followingTimeline.onPostDeletedAfterCommit(post.getAuthor().getMemberId(),
+            post.getBoardType(), post.getId());
     }
 
     @Transactional
@@ -77,6 +99,9 @@ public class PostService {
         }
 
         postRepository.save(post);
+        listCountCache.adjustAfterCommit(countGroup(post.getBoardType()), 1);
+        followingTimeline.onPostCreatedAfterCommit(member.getMemberId(), post.getBoardType(),
+            post.getId());
     }
 
     @Transactional
@@ -117,6 +142,8 @@ public class PostService {
         }
 
         postRepository.save(post);
+        // 제목/내용 변경은 키워드 검색 개수에 영향을 줌
+        listCountCache.markApproximateAfterCommit(countGroup(post.getBoardType()));
 
     }
 
@@ -124,40 +151,71 @@ public class PostService {
     public PostListResponseDto getPosts(BoardType boardType, FilterType filterType, Member member,
         String keyword, Category category, Pageable pageable) {
 
-        // 로그인 사용자가 좋아요한 postId를 한번에 가져오기
-        List<Long> likedPostIds = likeService.findPostIdsByMember(member);
-
-        // 로그인 사용자가 팔로우하는 회원 ID 리스트 미리 가져오기
-        List<Long> followingIds = followService.findFolloweeIdsByFollower(member);
-
-        Page<Post> postPage;
+        List<Long> postIds;
+        CachedCount totalCount;
 
         if (filterType == FilterType.FOLLOWING) {
 
+            // 로그인 사용자가 팔로우하는 회원 ID 리스트
+            List<Long> followingIds = followService.findFolloweeIdsByFollower(member);
+
             // 팔로잉 대상이 없으면 바로 빈 결과 반환
             if (followingIds.isEmpty()) {
-                return new PostListResponseDto(Collections.emptyList(), 0);
+                return new PostListResponseDto(Collections.emptyList(), 0, true);
             }
 
-            postPage = postRepository.findByBoardTypeAndDisplayingWithAuthorAndImagesAndIds(
-                boardType, Post.Displaying.PUBLIC, followingIds, pageable);
+            // 최신순 조회는 미리 만들어 둔 타임라인에서 읽는다
+            TimelinePage timelinePage = isNewestFirst(pageable)
+                ? followingTimeline.read(member.getMemberId(), boardType, followingIds,
+                (int) pageable.getOffset(), pageable.getPageSize())
+                : null;
+
+            if (timelinePage != null) {
+                postIds = timelinePage.postIds();
+                totalCount = new CachedCount(timelinePage.totalCount(), timelinePage.exact());
+            } else {
+                postIds = postRepository.findIdsByBoardTypeAndDisplayingAndAuthorIds(
+                    boardType, Post.Displaying.PUBLIC, followingIds, pageable);
+                // 사용자마다 다른 조건이므로 캐시하지 않음
+                totalCount = new CachedCount(postRepository.countByBoardTypeAndDisplayingAndAuthorIds(
+                    boardType, Post.Displaying.PUBLIC, followingIds), true);
+            }
 
         } else {
 
             if ((keyword == null || keyword.isBlank()) && (category == null || category == Category.ALL)) {
 
-                postPage = postRepository.findByBoardTypeAndDisplayingWithAuthorAndImages(boardType,
+                postIds = postRepository.findIdsByBoardTypeAndDisplaying(boardType,
                     Post.Displaying.PUBLIC, pageable);
+                totalCount = listCountCache.get(countGroup(boardType), ListCountCache.ALL,
+                    () -> postRepository.countByBoardTypeAndDisplaying(boardType,
+                        Post.Displaying.PUBLIC));
 
             } else {
 
-                postPage = postRepository.searchByBoardTypeAndDisplayingAndKeywordAndCategoryWithAuthorAndImages(
+                postIds = postRepository.searchIdsByBoardTypeAndDisplayingAndKeywordAndCategory(
                     boardType, Post.Displaying.PUBLIC, keyword, category, pageable
                 );
+                totalCount = listCountCache.get(countGroup(boardType),
+                    ListCountCache.signature("q", keyword, "category", category),
+                    () -> postRepository.countByBoardTypeAndDisplayingAndKeywordAndCategory(
+                        boardType, Post.Displaying.PUBLIC, keyword, category));
 
             }
         }
 
+        // 캐시된 개수가 근사값이어도 페이지 범위와 모순되지 않도록 보정
+        Page<Post> postPage = new PageImpl<>(findPostsWithAuthorAndImages(postIds), pageable,
+            totalCount.count());
+
+        // 좋아요/팔로우 여부는 현재 페이지의 게시글·작성자에 대해서만 조회
+        LongHashSet likedPostIds = likeService.findLikedPostIds(member, postIds);
+        LongHashSet followingIds = followService.findFollowedMemberIds(member,
+            postPage.getContent().stream()
+                .map(post -> post.getAuthor().getMemberId())
+                .distinct()
+                .toList());
+
         List<PostReadResponseDto> postDtos = postPage.getContent().stream()
             .map(post -> {
 
@@ -173,7 +231,7 @@ public class PostService {
                     post.getAuthor().getNickname(),
                     post.getCreateDate(),
                     post.getImages().stream().map(PostImage::getImageUrl).toList(),
-                    post.getLikeCount(),
+                    postLikeCounter.currentCount(post.getId(), post.getLikeCount()),
                     liked,
                     following,
                     post.getAuthor().getMemberId(),
@@ -183,8 +241,8 @@ public class PostService {
             })
             .toList();
 
-        int totalCount = (int) postPage.getTotalElements();
-        return new PostListResponseDto(postDtos, totalCount);
+        return new PostListResponseDto(postDtos, (int) postPage.getTotalElements(),
+            totalCount.exact());
 
     }
 
@@ -216,7 +274,7 @@ public class PostService {
             post.getImages().stream()
                 .map(PostImage::getImageUrl)
                 .toList(),
-            post.getLikeCount(),
+            postLikeCounter.currentCount(post.getId(), post.getLikeCount()),
             liked,
             following,
             post.getAuthor().getMemberId(),
@@ -237,4 +295,29 @@ public class PostService {
         return response;
 
     }
-}
\ No newline at end of file
+
+    // 타임라인은 최신순(id DESC)으로만 보관됨
+    private static boolean isNewestFirst(Pageable pageable) {
+        Sort sort = pageable.getSort();
+        if (sort.isUnsorted()) {
+            return true;
+        }
+        Sort.Order order = sort.getOrderFor("id");
+        return order != null && order.isDescending() && sort.stream().count() == 1;
+    }
+
+    // ID 순서를 유지하면서 페이지에 포함된 게시글만 작성자/이미지와 함께 조회
+    private List<Post> findPostsWithAuthorAndImages(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Post> postMap = postRepository.findAllWithAuthorAndImagesByIdIn(postIds).stream()
+            .collect(Collectors.toMap(Post::getId, Function.identity()));
+
+        return postIds.stream()
+            .map(postMap::get)
+            .filter(Objects::nonNull)
+            .toList();
+    }
+}
@@ -35,7 +35,7 @@ public class PostCommentController implements PostCommentControllerSpec {
     ) {
 
         List<PostCommentReadResponseDto> response =
-            postCommentService.getPostComments(postId, userDetails.getMember());
+            postCommentService.getPostComments(postId, userDetails.getMemberRef());
 
         return ApiResponse.ok("댓글 목록 조회", response);
     }
@@ -46,7 +46,7 @@ public class PostCommentController implements PostCommentControllerSpec {
         @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
 
-        List<MyPostCommentReadResponseDto> response = postCommentService.findMyComments(userDetails.getMember());
+        List<MyPostCommentReadResponseDto> response = postCommentService.findMyComments(userDetails.getMemberRef());
         return new ApiResponse<>("200-1",
             "내가 쓴 댓글 목록 조회",
             response
@@ -60,7 +60,7 @@ public class PostCommentController implements PostCommentControllerSpec {
         @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
 
-        postCommentService.deletePostComment(commentId, userDetails.getMember());
+        postCommentService.deletePostComment(commentId, userDetails.getMemberRef());
 
         return ApiResponse.ok("%d번 댓글 삭제".formatted(commentId));
 
@@ -73,7 +73,7 @@ public class PostCommentController implements PostCommentControllerSpec {
         @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
 
-        postCommentService.createPostComment(reqBody, userDetails.getMember());
+        postCommentService.createPostComment(reqBody, userDetails.getMemberRef());
 
 
         return ApiResponse.ok("댓글이 생성되었습니다");
@@ -88,7 +88,7 @@ public class PostCommentController implements PostCommentControllerSpec {
         @AuthenticationPrincipal CustomUserDetails userDetails
     ){
 
-        postCommentService.modifyPostComment(commentId, reqBody, userDetails.getMember());
+        postCommentService.modifyPostComment(commentId, reqBody, userDetails.getMemberRef());
 
         return ApiResponse.ok("%d번 댓글 수정".formatted(commentId));
     }
@@ -2,8 +2,10 @@ package org.example.backend.domain.trade.controller;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.backend.domain.trade.dto.CursorResponseDto;
 import org.example.backend.domain.trade.dto.PageResponseDto;
 import org.example.backend.domain.trade.dto.TradeCreateRequestDto;
+import org.example.backend.domain.trade.dto.TradeCursorRequestDto;
 import org.example.backend.domain.trade.dto.TradeRequestDto;
 import org.example.backend.domain.trade.dto.TradeResponseDto;
 import org.example.backend.domain.trade.dto.TradeSearchRequestDto;
@@ -55,6 +57,17 @@ public class TradeController implements TradeControllerSpec {
         return ApiResponse.ok("거래 게시글 페이징 조회 성공", trades);
     }
 
+    @Override
+    @GetMapping("/cursor")
+    public ApiResponse<CursorResponseDto<TradeResponseDto>> getTradesByCursor(
+        @PathVariable String boardType,
+        @Valid @ModelAttribute TradeCursorRequestDto cursorRequest) {
+        BoardType type = BoardType.from(boardType);
+        CursorResponseDto<TradeResponseDto> trades = tradeService.getTradesByCursor(type,
+            cursorRequest);
+        return ApiResponse.ok("거래 게시글 커서 조회 성공", trades);
+    }
+
     @Override
     @GetMapping("/{tradeId}")
     public ApiResponse<TradeResponseDto> getTrade(
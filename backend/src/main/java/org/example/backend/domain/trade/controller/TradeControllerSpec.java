@@ -3,7 +3,9 @@ package org.example.backend.domain.trade.controller;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.example.backend.domain.trade.dto.CursorResponseDto;
 import org.example.backend.domain.trade.dto.PageResponseDto;
+import org.example.backend.domain.trade.dto.TradeCursorRequestDto;
 import org.example.backend.domain.trade.dto.TradeRequestDto;
 import org.example.backend.domain.trade.dto.TradeResponseDto;
 import org.example.backend.domain.trade.dto.TradeSearchRequestDto;
@@ -34,6 +36,13 @@ public interface TradeControllerSpec {
             @ModelAttribute TradeSearchRequestDto searchRequest
     );
 
+    @Operation(summary = "거래 게시글 커서 목록 조회", description = "이전 응답의 nextCursor로 다음 거래 게시글 목록을 조회합니다. (전체 개수는 제공하지 않음)")
+    ApiResponse<CursorResponseDto<TradeResponseDto>> getTradesByCursor(
+            @Parameter(description = "게시판 타입 (FISH: 물고기, SECONDHAND: 중고물품)", required = true)
+            @PathVariable String boardType,
+            @ModelAttribute TradeCursorRequestDto cursorRequest
+    );
+
     @Operation(summary = "거래 게시글 조회", description = "특정 거래 게시글의 상세 정보를 조회합니다.")
     ApiResponse<TradeResponseDto> getTrade(
             @Parameter(description = "게시판 타입 (FISH: 물고기, SECONDHAND: 중고물품)", required = true)
@@ -0,0 +1,12 @@
+package org.example.backend.domain.trade.dto;
+
+import java.util.List;
+
+public record CursorResponseDto<T>(
+    List<T> content,
+    int size,
+    boolean hasNext,
+    String nextCursor
+) {
+
+}
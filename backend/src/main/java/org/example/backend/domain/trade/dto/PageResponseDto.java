@@ -18,8 +18,14 @@ public class PageResponseDto<T> {
     private boolean last;
     private boolean hasNext;
     private boolean hasPrevious;
+    // false 이면 totalElements/totalPages 는 캐시된 근사값
+    private boolean totalExact;
 
     public static <T> PageResponseDto<T> from(Page<T> page) {
+        return from(page, true);
+    }
+
+    public static <T> PageResponseDto<T> from(Page<T> page, boolean totalExact) {
         return new PageResponseDto<>(
             page.getContent(),
             page.getNumber(),
@@ -29,7 +35,8 @@ public class PageResponseDto<T> {
             page.isFirst(),
             page.isLast(),
             page.hasNext(),
-            page.hasPrevious()
+            page.hasPrevious(),
+            totalExact
         );
     }
 }
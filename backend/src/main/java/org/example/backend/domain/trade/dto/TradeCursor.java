@@ -0,0 +1,94 @@
+package org.example.backend.domain.trade.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+import org.example.backend.domain.trade.entity.Trade;
+import org.example.backend.global.exception.BusinessException;
+import org.example.backend.global.exception.ErrorCode;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+/**
+ * 거래 목록 커서. 마지막으로 받은 거래글의 정렬 키와 ID를 담아 Base64로 인코딩한다.
+ * - latest: (createDate, tradeId) 내림차순
+ * - price-asc / price-desc: (price, tradeId)
+ * 끝에 CRC32 체크섬을 붙여 잘리거나 수정된 커서를 거른다 (위조 방지용은 아니며, 위조해도 임의 위치부터 조회될 뿐이다).
+ */
+public record TradeCursor(
+    String sort,
+    String sortKey,
+    Long tradeId
+) {
+
+    private static final String SEPARATOR = "|";
+
+    public static TradeCursor of(String sort, Trade trade) {
+        String sortKey = isPriceSort(sort)
+            ? String.valueOf(trade.getPrice())
+            : trade.getCreateDate().toString();
+        return new TradeCursor(sort, sortKey, trade.getTradeId());
+    }
+
+    public static TradeCursor decode(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token),
+                StandardCharsets.UTF_8);
+            int checksumAt = decoded.lastIndexOf(SEPARATOR);
+            if (checksumAt < 0 || !checksum(decoded.substring(0, checksumAt))
+                .equals(decoded.substring(checksumAt + 1))) {
+                throw new BusinessException(ErrorCode.TRADE_CURSOR_INVALID);
+            }
+            String[] parts = decoded.substring(0, checksumAt).split("\\" + SEPARATOR, 3);
+            if (parts.length != 3) {
+                throw new BusinessException(ErrorCode.TRADE_CURSOR_INVALID);
+            }
+
+            TradeCursor cursor = new TradeCursor(parts[0], parts[1], Long.valueOf(parts[2]));
+            cursor.sortKeyValue(); // 정렬 키 형식 검증
+            return cursor;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.TRADE_CURSOR_INVALID);
+        }
+    }
+
+    public String encode() {
+        String raw = sort + SEPARATOR + sortKey + SEPARATOR + tradeId;
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString((raw + SEPARATOR + checksum(raw)).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public ScrollPosition toScrollPosition() {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put(isPriceSort(sort) ? "price" : "createDate", sortKeyValue());
+        keys.put("tradeId", tradeId);
+        return ScrollPosition.forward(keys);
+    }
+
+    // 커서 정렬 기준 (보조 키 tradeId를 같은 방향으로 붙여 순서를 유일하게 만든다)
+    public static Sort sortOf(String sort) {
+        return switch (sort) {
+            case "price-asc" -> Sort.by(Sort.Direction.ASC, "price", "tradeId");
+            case "price-desc" -> Sort.by(Sort.Direction.DESC, "price", "tradeId");
+            default -> Sort.by(Sort.Direction.DESC, "createDate", "tradeId");
+        };
+    }
+
+    private Object sortKeyValue() {
+        return isPriceSort(sort) ? Long.valueOf(sortKey) : LocalDateTime.parse(sortKey);
+    }
+
+    private static String checksum(String raw) {
+        CRC32 crc = new CRC32();
+        crc.update(raw.getBytes(StandardCharsets.UTF_8));
+        return Long.toHexString(crc.getValue());
+    }
+
+    private static boolean isPriceSort(String sort) {
+        return "price-asc".equals(sort) || "price-desc".equals(sort);
+    }
+}
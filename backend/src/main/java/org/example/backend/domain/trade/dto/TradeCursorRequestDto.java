@@ -0,0 +1,22 @@
+package org.example.backend.domain.trade.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+public record TradeCursorRequestDto(
+    // 이전 응답의 nextCursor (첫 페이지는 생략)
+    String cursor,
+    @Min(1) @Max(100) Integer size,
+    String sort
+) {
+
+    // 기본값 설정 (범위는 @Min/@Max 로 검증)
+    public TradeCursorRequestDto {
+        size = size == null ? 10 : size;
+        sort = (sort == null || sort.isBlank()) ? "latest" : sort;
+    }
+
+    public boolean hasCursor() {
+        return cursor != null && !cursor.isBlank();
+    }
+}
@@ -0,0 +1,32 @@
+package org.example.backend.domain.trade.dto;
+
+import java.time.LocalDateTime;
+import org.example.backend.domain.trade.entity.Trade;
+import org.example.backend.domain.trade.enums.BoardType;
+import org.example.backend.domain.trade.enums.TradeStatus;
+
+// 검색 인덱스에 적재되는 거래글 스냅샷 (연관 엔티티 없이 검색/정렬/필터에 필요한 컬럼만 보관)
+public record TradeSearchDocument(
+    Long tradeId,
+    BoardType boardType,
+    String title,
+    String description,
+    String category,
+    Long price,
+    TradeStatus status,
+    LocalDateTime createDate
+) {
+
+    public static TradeSearchDocument from(Trade trade) {
+        return new TradeSearchDocument(
+            trade.getTradeId(),
+            trade.getBoardType(),
+            trade.getTitle(),
+            trade.getDescription(),
+            trade.getCategory(),
+            trade.getPrice(),
+            trade.getStatus(),
+            trade.getCreateDate()
+        );
+    }
+}
@@ -1,16 +1,22 @@
 package org.example.backend.domain.trade.repository;
 
 import jakarta.persistence.LockModeType;
+import org.example.backend.domain.trade.dto.TradeSearchDocument;
 import org.example.backend.domain.trade.entity.Trade;
 import org.example.backend.domain.trade.enums.BoardType;
 import org.example.backend.domain.trade.enums.TradeStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 
@@ -18,17 +24,29 @@ public interface TradeRepository extends JpaRepository<Trade, Long> {
 
     Page<Trade> findByBoardType(BoardType boardType, Pageable pageable);
 
-    @Query("Select t FROM Trade t WHERE t.member.memberId = :memberId AND t.boardType = :boardType")
-    Page<Trade> findMyTrades(@Param("memberId") Long memberId,
+    // 키셋(커서) 조회 - (board_type, 정렬 키) 인덱스를 따라 탐색하며 COUNT 쿼리를 실행하지 않는다
+    Window<Trade> findByBoardType(BoardType boardType, ScrollPosition position, Sort sort,
+        Limit limit);
+
+    // 목록 조회는 ID 페이지를 먼저 구하고(1단계), 해당 ID의 작성자/이미지를 한 번에 가져온다(2단계)
+    @Query(value = "SELECT t.tradeId FROM Trade t WHERE t.member.memberId = :memberId AND t.boardType = :boardType",
+        countQuery = "SELECT COUNT(t) FROM Trade t WHERE t.member.memberId = :memberId AND t.boardType = :boardType")
+    Page<Long> findMyTradeIds(@Param("memberId") Long memberId,
         @Param("boardType") BoardType boardType,
         Pageable pageable);
 
-    @Query("SELECT t FROM Trade t WHERE t.boardType = :boardType " +
+    // 전체 개수는 ListCountCache에서 관리하므로 COUNT 쿼리를 실행하지 않음
+    @Query("SELECT t.tradeId FROM Trade t WHERE t.boardType = :boardType")
+    List<Long> findIdsByBoardType(@Param("boardType") BoardType boardType, Pageable pageable);
+
+    long countByBoardType(BoardType boardType);
+
+    @Query("SELECT t.tradeId FROM Trade t WHERE t.boardType = :boardType " +
         "AND (:keyword IS NULL OR t.title LIKE %:keyword% OR t.description LIKE %:keyword% OR t.category LIKE %:keyword%) " +
         "AND (:minPrice IS NULL OR t.price >= :minPrice)" +
         "AND (:maxPrice IS NULL OR t.price <= :maxPrice)" +
         "AND (:status IS NULL OR t.status = :status)")
-    Page<Trade> searchTrades(
+    List<Long> searchTradeIds(
         @Param("boardType") BoardType boardType,
         @Param("keyword") String keyword,
         @Param("minPrice") Long minPrice,
@@ -37,6 +55,33 @@ public interface TradeRepository extends JpaRepository<Trade, Long> {
         Pageable pageable
     );
 
+    @Query("SELECT COUNT(t) FROM Trade t WHERE t.boardType = :boardType " +
+        "AND (:keyword IS NULL OR t.title LIKE %:keyword% OR t.description LIKE %:keyword% OR t.category LIKE %:keyword%) " +
+        "AND (:minPrice IS NULL OR t.price >= :minPrice)" +
+        "AND (:maxPrice IS NULL OR t.price <= :maxPrice)" +
+        "AND (:status IS NULL OR t.status = :status)")
+    long countSearchTrades(
+        @Param("boardType") BoardType boardType,
+        @Param("keyword") String keyword,
+        @Param("minPrice") Long minPrice,
+        @Param("maxPrice") Long maxPrice,
+        @Param("status") TradeStatus status
+    );
+
+    // 2단계: 페이지에 포함된 거래글의 작성자와 이미지를 함께 조회 (결과 순서는 보장되지 않음)
+    @Query("SELECT DISTINCT t FROM Trade t " +
+        "JOIN FETCH t.member " +
+        "LEFT JOIN FETCH t.images " +
+        "WHERE t.tradeId IN :ids")
+    List<Trade> findAllWithMemberAndImagesByIdIn(@Param("ids") List<Long> ids);
+
+    // 검색 인덱스 재구성용 (PK 기준 키셋 청크 조회)
+    @Query("SELECT new org.example.backend.domain.trade.dto.TradeSearchDocument(" +
+        "t.tradeId, t.boardType, t.title, t.description, t.category, t.price, t.status, t.createDate) " +
+        "FROM Trade t WHERE t.tradeId > :lastId ORDER BY t.tradeId ASC")
+    List<TradeSearchDocument> findSearchDocumentsAfter(@Param("lastId") Long lastId,
+        Pageable pageable);
+
     // 동시 접근을 직렬화
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT t FROM Trade t WHERE t.id = :id")
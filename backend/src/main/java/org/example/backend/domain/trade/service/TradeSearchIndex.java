@@ -0,0 +1,291 @@
+package org.example.backend.domain.trade.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.domain.trade.dto.TradeSearchDocument;
+import org.example.backend.domain.trade.entity.Trade;
+import org.example.backend.domain.trade.enums.BoardType;
+import org.example.backend.domain.trade.enums.TradeStatus;
+import org.example.backend.domain.trade.repository.TradeRepository;
+import org.example.backend.global.collection.LongHashSet;
+import org.example.backend.global.transaction.AfterCommit;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+/**
+ * 거래글 제목/설명/카테고리에 대한 인메모리 역색인.
+ * 한글은 형태소 분석 없이도 부분 일치가 되도록 1-gram/2-gram 단위로 색인하고,
+ * 후보를 좁힌 뒤 원문 포함 여부로 최종 확인하므로 기존 LIKE 검색과 같은 결과를 돌려준다.
+ * 메모리: 거래글마다 정렬/필터 컬럼과, 최종 확인용으로 제목+설명+카테고리를 소문자로 합친 문자열 하나만 보관하고 (글자당 1~2바이트),
+ * 포스팅은 글자마다 1-gram/2-gram 항목이 하나씩 생긴다 (LongHashSet 이라 항목당 약 8~16바이트).
+ * 거래글 1만 건, 설명 평균 500자 기준으로 전체 약 50MB 이며 거래글 수에 비례해서 늘어나므로,
+ * 거래글이 수십만 건 이상으로 늘면 외부 검색 엔진으로 옮겨야 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TradeSearchIndex {
+
+    private static final int REBUILD_CHUNK_SIZE = 1000;
+    // 필드 경계를 넘어서 일치하지 않도록 필드 사이에 넣는 구분 문자
+    private static final char FIELD_SEPARATOR = '\u0001';
+
+    private final TradeRepository tradeRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private IndexData data = new IndexData();
+    // 재색인 중에 들어온 변경 사항 (재색인 완료 후 새 인덱스에 다시 적용)
+    private List<Consumer<IndexData>> pendingChanges;
+    private volatile boolean ready = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+
+        lock.writeLock().lock();
+        try {
+            pendingChanges = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        IndexData rebuilt = new IndexData();
+        try {
+            Long lastId = 0L;
+            List<TradeSearchDocument> chunk;
+            do {
+                chunk = tradeRepository.findSearchDocumentsAfter(lastId,
+                    PageRequest.of(0, REBUILD_CHUNK_SIZE));
+                chunk.forEach(rebuilt::add);
+                if (!chunk.isEmpty()) {
+                    lastId = chunk.get(chunk.size() - 1).tradeId();
+                }
+            } while (chunk.size() == REBUILD_CHUNK_SIZE);
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingChanges = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.error("거래글 검색 인덱스 재구성 실패 - LIKE 검색으로 대체합니다.", e);
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            pendingChanges.forEach(change -> change.accept(rebuilt));
+            pendingChanges = null;
+            data = rebuilt;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("거래글 검색 인덱스 재구성 완료 - 문서 {}건, {}ms", rebuilt.documents.size(),
+            System.currentTimeMillis() - start);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 현재 트랜잭션이 커밋된 후 색인에 반영
+    public void indexAfterCommit(Trade trade) {
+        TradeSearchDocument document = TradeSearchDocument.from(trade);
+        AfterCommit.run(() -> apply(index -> index.add(document)));
+    }
+
+    public void removeAfterCommit(Long tradeId) {
+        AfterCommit.run(() -> apply(index -> index.remove(tradeId)));
+    }
+
+    /**
+     * 키워드와 필터 조건에 맞는 거래글 ID를 정렬 순서대로 반환한다.
+     */
+    public List<Long> search(BoardType boardType, String keyword, Long minPrice, Long maxPrice,
+        TradeStatus status, String sort) {
+
+        String normalizedKeyword = normalize(keyword).replace(String.valueOf(FIELD_SEPARATOR), "")
+            .trim();
+
+        List<IndexedTrade> matches;
+        lock.readLock().lock();
+        try {
+            matches = data.search(boardType, normalizedKeyword, minPrice, maxPrice, status);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        matches.sort(comparator(sort));
+        return matches.stream()
+            .map(IndexedTrade::tradeId)
+            .toList();
+    }
+
+    private void apply(Consumer<IndexData> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(data);
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static Comparator<IndexedTrade> comparator(String sort) {
+        Comparator<IndexedTrade> byIdDesc =
+            Comparator.comparing(IndexedTrade::tradeId, Comparator.reverseOrder());
+
+        return switch (sort == null ? "latest" : sort) {
+            case "price-asc" -> Comparator.comparing(IndexedTrade::price,
+                Comparator.nullsLast(Comparator.<Long>naturalOrder())).thenComparing(byIdDesc);
+            case "price-desc" -> Comparator.comparing(IndexedTrade::price,
+                Comparator.nullsLast(Comparator.<Long>reverseOrder())).thenComparing(byIdDesc);
+            default -> Comparator.comparing(IndexedTrade::createDate,
+                Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()))
+                .thenComparing(byIdDesc);
+        };
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+
+    // 1-gram + 2-gram 토큰 (구분 문자가 섞인 토큰은 제외)
+    private static Set<String> tokenize(String text) {
+        Set<String> tokens = new HashSet<>();
+        for (int i = 0; i < text.length(); i++) {
+            char current = text.charAt(i);
+            if (current == FIELD_SEPARATOR || Character.isWhitespace(current)) {
+                continue;
+            }
+            tokens.add(String.valueOf(current));
+            if (i + 1 < text.length() && text.charAt(i + 1) != FIELD_SEPARATOR) {
+                tokens.add(text.substring(i, i + 2));
+            }
+        }
+        return tokens;
+    }
+
+    // 검색어는 2-gram으로 후보를 좁히고, 한 글자 검색어만 1-gram을 사용
+    private static List<String> queryTokens(String keyword) {
+        if (keyword.length() == 1) {
+            return List.of(keyword);
+        }
+
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i + 1 < keyword.length(); i++) {
+            String token = keyword.substring(i, i + 2);
+            if (!token.isBlank() && !Character.isWhitespace(token.charAt(0))) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    // 제목/설명 원문은 text 에만 두고 정렬/필터 컬럼만 따로 보관
+    private record IndexedTrade(Long tradeId, BoardType boardType, Long price, TradeStatus status,
+                                LocalDateTime createDate, String text) {
+
+    }
+
+    private static class IndexData {
+
+        private final Map<BoardType, Map<String, LongHashSet>> postings = new EnumMap<>(
+            BoardType.class);
+        private final Map<Long, IndexedTrade> documents = new HashMap<>();
+
+        void add(TradeSearchDocument document) {
+            remove(document.tradeId());
+
+            String text = normalize(document.title()) + FIELD_SEPARATOR
+                + normalize(document.description()) + FIELD_SEPARATOR
+                + normalize(document.category());
+            Map<String, LongHashSet> boardPostings = postings.computeIfAbsent(document.boardType(),
+                key -> new HashMap<>());
+            for (String token : tokenize(text)) {
+                boardPostings.computeIfAbsent(token, key -> new LongHashSet(1))
+                    .add(document.tradeId());
+            }
+            documents.put(document.tradeId(), new IndexedTrade(document.tradeId(), document.boardType(),
+                document.price(), document.status(), document.createDate(), text));
+        }
+
+        void remove(Long tradeId) {
+            IndexedTrade removed = documents.remove(tradeId);
+            if (removed == null) {
+                return;
+            }
+
+            Map<String, LongHashSet> boardPostings = postings.get(removed.boardType());
+            // 토큰은 보관하지 않고 원문에서 다시 계산한다
+            for (String token : tokenize(removed.text())) {
+                LongHashSet ids = boardPostings.get(token);
+                if (ids != null) {
+                    ids.remove(tradeId);
+                    if (ids.isEmpty()) {
+                        boardPostings.remove(token);
+                    }
+                }
+            }
+        }
+
+        List<IndexedTrade> search(BoardType boardType, String keyword, Long minPrice,
+            Long maxPrice, TradeStatus status) {
+
+            Map<String, LongHashSet> boardPostings = postings.getOrDefault(boardType, Map.of());
+
+            // 가장 짧은 포스팅 목록을 후보로 삼는다
+            LongHashSet candidates = null;
+            for (String token : queryTokens(keyword)) {
+                LongHashSet ids = boardPostings.get(token);
+                if (ids == null) {
+                    return new ArrayList<>();
+                }
+                if (candidates == null || ids.size() < candidates.size()) {
+                    candidates = ids;
+                }
+            }
+            if (candidates == null) {
+                return new ArrayList<>();
+            }
+
+            List<IndexedTrade> matches = new ArrayList<>();
+            candidates.forEach(tradeId -> {
+                IndexedTrade indexed = documents.get(tradeId);
+                if (!indexed.text().contains(keyword)) {
+                    return;
+                }
+                if (minPrice != null && indexed.price() < minPrice) {
+                    return;
+                }
+                if (maxPrice != null && indexed.price() > maxPrice) {
+                    return;
+                }
+                if (status != null && indexed.status() != status) {
+                    return;
+                }
+                matches.add(indexed);
+            });
+            return matches;
+        }
+    }
+}
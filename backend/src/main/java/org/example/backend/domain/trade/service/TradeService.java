@@ -2,11 +2,18 @@ package org.example.backend.domain.trade.service;
 
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.example.backend.domain.member.entity.Member;
 import org.example.backend.domain.member.repository.MemberRepository;
+import org.example.backend.domain.trade.dto.CursorResponseDto;
 import org.example.backend.domain.trade.dto.PageResponseDto;
 import org.example.backend.domain.trade.dto.TradeCreateRequestDto;
+import org.example.backend.domain.trade.dto.TradeCursor;
+import org.example.backend.domain.trade.dto.TradeCursorRequestDto;
 import org.example.backend.domain.trade.dto.TradeRequestDto;
 import org.example.backend.domain.trade.dto.TradeResponseDto;
 import org.example.backend.domain.trade.dto.TradeSearchRequestDto;
@@ -14,13 +21,19 @@ import org.example.backend.domain.trade.dto.TradeUpdateRequestDto;
 import org.example.backend.domain.trade.entity.Trade;
 import org.example.backend.domain.trade.enums.BoardType;
 import org.example.backend.domain.trade.repository.TradeRepository;
+import org.example.backend.global.cache.CachedCount;
+import org.example.backend.global.cache.ListCountCache;
 import org.example.backend.global.exception.BusinessException;
 import org.example.backend.global.exception.ErrorCode;
 import org.example.backend.global.image.ImageService;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,6 +45,13 @@ public class TradeService {
     private final TradeRepository tradeRepository;
     private final MemberRepository memberRepository;
     private final ImageService imageService;
+    private final TradeSearchIndex tradeSearchIndex;
+    private final ListCountCache listCountCache;
+
+    // 게시판별 목록 개수 캐시 그룹
+    public static String countGroup(BoardType boardType) {
+        return "trade:" + boardType.name();
+    }
 
     @Transactional
     public TradeResponseDto createTrade(TradeCreateRequestDto request) {
@@ -44,7 +64,11 @@ public class TradeService {
             request.imageUrls().forEach(trade::addImage);
         }
 
-        return TradeResponseDto.from(tradeRepository.save(trade));
+        Trade savedTrade = tradeRepository.save(trade);
+        tradeSearchIndex.indexAfterCommit(savedTrade);
+        listCountCache.adjustAfterCommit(countGroup(savedTrade.getBoardType()), 1);
+
+        return TradeResponseDto.from(savedTrade);
     }
 
     public PageResponseDto<TradeResponseDto> getAllTrade(BoardType boardType,
@@ -63,22 +87,71 @@ public class TradeService {
         Pageable pageable = PageRequest.of(searchRequest.page(), searchRequest.size(), sort);
 
         Page<Trade> tradePage;
-        if (searchRequest.hasSearchTerm() || searchRequest.hasPriceFilter()
+        boolean totalExact = true;
+        if (searchRequest.hasSearchTerm() && tradeSearchIndex.isReady()) {
+            tradePage = searchFromIndex(boardType, searchRequest, pageable);
+        } else if (searchRequest.hasSearchTerm() || searchRequest.hasPriceFilter()
             || searchRequest.hasStatusFilter()) {
-            tradePage = tradeRepository.searchTrades(
-                boardType,
-                searchRequest.searchTerm(),
-                searchRequest.minPrice() != null ? searchRequest.minPrice().longValue() : null,
-                searchRequest.maxPrice() != null ? searchRequest.maxPrice().longValue() : null,
-                searchRequest.status(),
-                pageable
-            );
+            Long minPrice = searchRequest.minPrice() != null ? searchRequest.minPrice().longValue() : null;
+            Long maxPrice = searchRequest.maxPrice() != null ? searchRequest.maxPrice().longValue() : null;
+
+            List<Long> tradeIds = tradeRepository.searchTradeIds(boardType,
+                searchRequest.searchTerm(), minPrice, maxPrice, searchRequest.status(), pageable);
+            CachedCount total = listCountCache.get(countGroup(boardType),
+                ListCountCache.signature("q", searchRequest.searchTerm(), "min", minPrice,
+                    "max", maxPrice, "status", searchRequest.status()),
+                () -> tradeRepository.countSearchTrades(boardType, searchRequest.searchTerm(),
+                    minPrice, maxPrice, searchRequest.status()));
+
+            tradePage = new PageImpl<>(findTradesWithMemberAndImages(tradeIds), pageable,
+                total.count());
+            totalExact = total.exact();
         } else {
-            tradePage = tradeRepository.findByBoardType(boardType, pageable);
+            List<Long> tradeIds = tradeRepository.findIdsByBoardType(boardType, pageable);
+            CachedCount total = listCountCache.get(countGroup(boardType), ListCountCache.ALL,
+                () -> tradeRepository.countByBoardType(boardType));
+
+            tradePage = new PageImpl<>(findTradesWithMemberAndImages(tradeIds), pageable,
+                total.count());
+            totalExact = total.exact();
         }
 
         Page<TradeResponseDto> responsePage = tradePage.map(TradeResponseDto::from);
-        return PageResponseDto.from(responsePage);
+        return PageResponseDto.from(responsePage, totalExact);
+    }
+
+    public CursorResponseDto<TradeResponseDto> getTradesByCursor(BoardType boardType,
+        TradeCursorRequestDto cursorRequest) {
+
+        if (boardType == null) {
+            throw new BusinessException(ErrorCode.TRADE_BOARD_TYPE_INVALID);
+        }
+
+        ScrollPosition position = ScrollPosition.keyset();
+        if (cursorRequest.hasCursor()) {
+            TradeCursor cursor = TradeCursor.decode(cursorRequest.cursor());
+            // 다른 정렬 기준으로 발급된 커서는 이어서 사용할 수 없음
+            if (!cursor.sort().equals(cursorRequest.sort())) {
+                throw new BusinessException(ErrorCode.TRADE_CURSOR_INVALID);
+            }
+            position = cursor.toScrollPosition();
+        }
+
+        Window<Trade> window = tradeRepository.findByBoardType(boardType, position,
+            TradeCursor.sortOf(cursorRequest.sort()), Limit.of(cursorRequest.size()));
+
+        List<Trade> trades = window.getContent();
+        String nextCursor = window.hasNext() && !trades.isEmpty()
+            ? TradeCursor.of(cursorRequest.sort(), trades.get(trades.size() - 1)).encode()
+            : null;
+
+        List<Long> tradeIds = trades.stream().map(Trade::getTradeId).toList();
+        return new CursorResponseDto<>(
+            findTradesWithMemberAndImages(tradeIds).stream().map(TradeResponseDto::from).toList(),
+            trades.size(),
+            window.hasNext(),
+            nextCursor
+        );
     }
 
     public TradeResponseDto getTrade(BoardType boardType, Long id) {
@@ -104,6 +177,8 @@ public class TradeService {
         );
 
         updateTradeImages(trade, updateRequest.imageUrls());
+        tradeSearchIndex.indexAfterCommit(trade);
+        listCountCache.markApproximateAfterCommit(countGroup(trade.getBoardType()));
 
         return TradeResponseDto.from(trade);
     }
@@ -122,6 +197,8 @@ public class TradeService {
 
         // Trade 엔티티 삭제 (cascade로 TradeImage도 함께 삭제됨)
         tradeRepository.deleteById(tradeId);
+        tradeSearchIndex.removeAfterCommit(tradeId);
+        listCountCache.adjustAfterCommit(countGroup(boardType), -1);
     }
 
     public PageResponseDto<TradeResponseDto> getMyTrades(Long memberId, BoardType boardType,
@@ -131,12 +208,51 @@ public class TradeService {
 
         Pageable pageable = PageRequest.of(page, size, sort);
 
-        Page<Trade> tradePage = tradeRepository.findMyTrades(memberId, boardType, pageable);
+        Page<Long> tradeIdPage = tradeRepository.findMyTradeIds(memberId, boardType, pageable);
+        Page<Trade> tradePage = new PageImpl<>(
+            findTradesWithMemberAndImages(tradeIdPage.getContent()), pageable,
+            tradeIdPage.getTotalElements());
 
         Page<TradeResponseDto> responsePage = tradePage.map(TradeResponseDto::from);
         return PageResponseDto.from(responsePage);
     }
 
+    // 역색인에서 정렬된 ID 목록을 얻고, 현재 페이지에 해당하는 거래글만 DB에서 조회
+    private Page<Trade> searchFromIndex(BoardType boardType, TradeSearchRequestDto searchRequest,
+        Pageable pageable) {
+
+        List<Long> matchedIds = tradeSearchIndex.search(
+            boardType,
+            searchRequest.searchTerm(),
+            searchRequest.minPrice() != null ? searchRequest.minPrice().longValue() : null,
+            searchRequest.maxPrice() != null ? searchRequest.maxPrice().longValue() : null,
+            searchRequest.status(),
+            searchRequest.sort()
+        );
+
+        int from = (int) Math.min(pageable.getOffset(), matchedIds.size());
+        int to = Math.min(from + pageable.getPageSize(), matchedIds.size());
+        List<Long> pageIds = matchedIds.subList(from, to);
+
+        return new PageImpl<>(findTradesWithMemberAndImages(pageIds), pageable, matchedIds.size());
+    }
+
+    // ID 순서를 유지하면서 작성자/이미지를 한 번의 쿼리로 함께 조회 (N+1 방지)
+    private List<Trade> findTradesWithMemberAndImages(List<Long> tradeIds) {
+        if (tradeIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Trade> tradeMap = tradeRepository.findAllWithMemberAndImagesByIdIn(tradeIds)
+            .stream()
+            .collect(Collectors.toMap(Trade::getTradeId, Function.identity()));
+
+        return tradeIds.stream()
+            .map(tradeMap::get)
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
     private void validateBoardType(Trade trade, BoardType boardType) {
         if (!trade.getBoardType().equals(boardType)) {
             throw new BusinessException(ErrorCode.TRADE_BOARD_TYPE_INVALID);
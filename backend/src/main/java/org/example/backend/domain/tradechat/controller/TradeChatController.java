@@ -1,17 +1,27 @@
 package org.example.backend.domain.tradechat.controller;
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.backend.domain.tradechat.dto.ChatHistoryRequestDto;
+import org.example.backend.domain.tradechat.dto.ChatReadAckDto;
+import org.example.backend.domain.tradechat.dto.ChatTypingDto;
 import org.example.backend.domain.tradechat.dto.TradeChatMessageDto;
 import org.example.backend.domain.tradechat.dto.TradeChatRoomDto;
 import org.example.backend.domain.tradechat.service.TradeChatService;
+import org.example.backend.global.exception.BusinessException;
+import org.example.backend.global.exception.ErrorCode;
 import org.example.backend.global.response.ApiResponse;
 import org.example.backend.global.security.CustomUserDetails;
+import org.example.backend.global.websocketconfig.StompHandler;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequiredArgsConstructor
@@ -24,11 +34,46 @@ public class TradeChatController implements TradeChatControllerSpec {
     STOMP 메세지 전송
         - 클라이언트 /receive/{roomId} 경로로 수신
         - 서버는 /send/{roomId} 로 메세지를 캐스팅
+        - 발신자는 CONNECT 때 인증해 둔 세션의 회원 (payload 의 senderId 는 사용하지 않음)
      */
     @Override
     @MessageMapping("/{roomId}")
-    public void sendMessage(@DestinationVariable Long roomId, TradeChatMessageDto request) {
-        tradeChatService.sendMessage(roomId, request, request.senderId());
+    public void sendMessage(
+            @DestinationVariable Long roomId,
+            TradeChatMessageDto request,
+            @Header(SimpMessageHeaderAccessor.SESSION_ATTRIBUTES) Map<String, Object> sessionAttributes) {
+
+        tradeChatService.sendMessage(roomId, request, memberIdOf(sessionAttributes));
+    }
+
+    /*
+    STOMP 입력 중 상태 전송 (/send/{roomId}/typing)
+        - 입력하는 동안 몇 초마다 true, 입력을 멈추면 false 전송
+        - 접속/입력 중 상태는 채팅방별로 모아서 /receive/{roomId}/presence 로 수신
+     */
+    @Override
+    @MessageMapping("/{roomId}/typing")
+    public void changeTyping(
+            @DestinationVariable Long roomId,
+            ChatTypingDto request,
+            @Header(SimpMessageHeaderAccessor.SESSION_ATTRIBUTES) Map<String, Object> sessionAttributes) {
+
+        tradeChatService.changeTyping(roomId, request, memberIdOf(sessionAttributes));
+    }
+
+    /*
+    STOMP 읽음 확인 전송 (/send/{roomId}/read)
+        - 채팅방을 보고 있는 동안 받은 메시지 ID 전송
+        - 서버가 모아서 읽음 위치와 안 읽은 메시지 수를 주기적으로 저장
+     */
+    @Override
+    @MessageMapping("/{roomId}/read")
+    public void acknowledgeRead(
+            @DestinationVariable Long roomId,
+            ChatReadAckDto request,
+            @Header(SimpMessageHeaderAccessor.SESSION_ATTRIBUTES) Map<String, Object> sessionAttributes) {
+
+        tradeChatService.acknowledgeRead(roomId, request, memberIdOf(sessionAttributes));
     }
 
     /*
@@ -59,15 +104,20 @@ public class TradeChatController implements TradeChatControllerSpec {
     }
 
 
-    // 특정 채팅방의 이전 채팅 내역 조회
+    /*
+    특정 채팅방의 이전 채팅 내역 조회
+        - before 이전 메시지를 limit 개씩 오래된 순으로 반환 (before 생략 시 최근 메시지)
+        - 더 이전 내역은 응답의 첫 메시지 ID 를 before 로 요청
+     */
     @Override
     @GetMapping("/rooms/messages/{roomId}")
     public ApiResponse<List<TradeChatMessageDto>> getMessages(
             @PathVariable Long roomId,
+            @Valid @ModelAttribute ChatHistoryRequestDto historyRequest,
             @AuthenticationPrincipal CustomUserDetails userDetails) {
 
         Long memberId = userDetails.getId();
-        List<TradeChatMessageDto> messages = tradeChatService.getMessages(roomId, memberId);
+        List<TradeChatMessageDto> messages = tradeChatService.getMessages(roomId, historyRequest, memberId);
         return ApiResponse.ok("채팅 내역을 조회했습니다.", messages);
     }
 
@@ -83,4 +133,12 @@ public class TradeChatController implements TradeChatControllerSpec {
         List<TradeChatRoomDto> chatRooms = tradeChatService.getMyChatRooms(memberId);
         return ApiResponse.ok("채팅방 목록을 조회했습니다.", chatRooms);
     }
+
+    // CONNECT 때 인증해 둔 세션의 회원 ID
+    private static Long memberIdOf(Map<String, Object> sessionAttributes) {
+        if (!(sessionAttributes.get(StompHandler.SESSION_MEMBER_ID) instanceof Long memberId)) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED_ACCESS);
+        }
+        return memberId;
+    }
 }
@@ -4,21 +4,46 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.example.backend.domain.tradechat.dto.ChatHistoryRequestDto;
+import org.example.backend.domain.tradechat.dto.ChatReadAckDto;
+import org.example.backend.domain.tradechat.dto.ChatTypingDto;
 import org.example.backend.domain.tradechat.dto.TradeChatMessageDto;
 import org.example.backend.domain.tradechat.dto.TradeChatRoomDto;
 import org.example.backend.global.response.ApiResponse;
 import org.example.backend.global.security.CustomUserDetails;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 
 import java.util.List;
+import java.util.Map;
 
 @Tag(name = "Trade Chat", description = "거래 채팅 관리 API")
 public interface TradeChatControllerSpec {
 
     @MessageMapping("/{roomId}")
-    void sendMessage(@DestinationVariable Long roomId, TradeChatMessageDto request);
+    void sendMessage(
+            @DestinationVariable Long roomId,
+            TradeChatMessageDto request,
+            @Header(SimpMessageHeaderAccessor.SESSION_ATTRIBUTES) Map<String, Object> sessionAttributes
+    );
+
+    @MessageMapping("/{roomId}/typing")
+    void changeTyping(
+            @DestinationVariable Long roomId,
+            ChatTypingDto request,
+            @Header(SimpMessageHeaderAccessor.SESSION_ATTRIBUTES) Map<String, Object> sessionAttributes
+    );
+
+    @MessageMapping("/{roomId}/read")
+    void acknowledgeRead(
+            @DestinationVariable Long roomId,
+            ChatReadAckDto request,
+            @Header(SimpMessageHeaderAccessor.SESSION_ATTRIBUTES) Map<String, Object> sessionAttributes
+    );
 
     @Operation(summary = "채팅방 생성", description = "현재 거래게시글에 대한 채팅방을 생성합니다.")
     ApiResponse<Long> createChatRoom(
@@ -34,10 +59,11 @@ public interface TradeChatControllerSpec {
             @AuthenticationPrincipal CustomUserDetails userDetails
     );
 
-    @Operation(summary = "채팅 내역 조회", description = "특정 채팅방의 이전 채팅 내역을 조회합니다.")
+    @Operation(summary = "채팅 내역 조회", description = "특정 채팅방의 이전 채팅 내역을 before 메시지 ID 기준으로 limit 개씩 조회합니다.")
     ApiResponse<List<TradeChatMessageDto>> getMessages(
             @Parameter(description = "채팅방 ID", required = true)
             @PathVariable Long roomId,
+            @ModelAttribute ChatHistoryRequestDto historyRequest,
             @AuthenticationPrincipal CustomUserDetails userDetails
     );
 
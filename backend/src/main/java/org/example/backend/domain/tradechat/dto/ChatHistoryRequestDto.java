@@ -0,0 +1,22 @@
+package org.example.backend.domain.tradechat.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+public record ChatHistoryRequestDto(
+        // 이 메시지 ID 보다 이전 메시지를 조회 (첫 페이지는 생략, 이전 응답의 첫 메시지 ID 사용)
+        Long before,
+        @Min(1) @Max(100) Integer limit
+) {
+
+    public static final int MAX_LIMIT = 100;
+
+    // 기본값 설정
+    public ChatHistoryRequestDto {
+        limit = (limit == null || limit < 1 || limit > MAX_LIMIT) ? 50 : limit;
+    }
+
+    public boolean isLatestPage() {
+        return before == null;
+    }
+}
@@ -0,0 +1,11 @@
+package org.example.backend.domain.tradechat.dto;
+
+import java.util.List;
+
+// 채팅방 접속/입력 중 상태 (/receive/{roomId}/presence 로 변경 시에만 전송)
+public record ChatPresenceDto(
+        Long roomId,
+        List<Long> onlineMemberIds,
+        List<Long> typingMemberIds
+) {
+}
@@ -0,0 +1,7 @@
+package org.example.backend.domain.tradechat.dto;
+
+// 읽음 확인 (이 메시지까지 읽음)
+public record ChatReadAckDto(
+        Long messageId
+) {
+}
@@ -0,0 +1,18 @@
+package org.example.backend.domain.tradechat.dto;
+
+// 채팅방 참여자 정보 (메시지 전송 시 참여자 검증과 발신자 닉네임 확인용)
+public record ChatRoomParticipants(
+        Long roomId,
+        Long sellerId,
+        String sellerNickname,
+        Long buyerId,
+        String buyerNickname
+) {
+    public boolean isParticipant(Long memberId) {
+        return sellerId.equals(memberId) || buyerId.equals(memberId);
+    }
+
+    public String nicknameOf(Long memberId) {
+        return sellerId.equals(memberId) ? sellerNickname : buyerNickname;
+    }
+}
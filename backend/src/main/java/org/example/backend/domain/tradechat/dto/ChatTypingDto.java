@@ -0,0 +1,7 @@
+package org.example.backend.domain.tradechat.dto;
+
+// 입력 중 상태 변경 요청 (true: 입력 시작/계속, false: 입력 중단)
+public record ChatTypingDto(
+        boolean typing
+) {
+}
@@ -0,0 +1,14 @@
+package org.example.backend.domain.tradechat.dto;
+
+import java.time.LocalDateTime;
+
+// 브로드캐스트 후 DB 저장을 기다리는 메시지 (저널 파일에도 이 형태로 기록)
+public record QueuedChatMessage(
+        Long messageId,
+        Long roomId,
+        Long senderId,
+        String senderNickname,
+        String content,
+        LocalDateTime sendDate
+) {
+}
@@ -20,4 +20,14 @@ public record TradeChatMessageDto(
                 message.getSendDate()
         );
     }
+
+    public static TradeChatMessageDto from(QueuedChatMessage message) {
+        return new TradeChatMessageDto(
+                message.messageId(),
+                message.senderId(),
+                message.senderNickname(),
+                message.content(),
+                message.sendDate()
+        );
+    }
 }
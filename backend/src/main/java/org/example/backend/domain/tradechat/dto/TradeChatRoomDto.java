@@ -16,9 +16,14 @@ public record TradeChatRoomDto(
         Long buyerId,
         String buyerNickname,
         LocalDateTime createDate,
-        ChatStatus status
+        ChatStatus status,
+        LocalDateTime lastMessageAt,
+        String lastMessagePreview,
+        int unreadCount,
+        Long otherLastReadMessageId
 ) {
-    public static TradeChatRoomDto from(TradeChatRoom room) {
+    // memberId: 안 읽은 메시지 수를 확인할 참여자
+    public static TradeChatRoomDto from(TradeChatRoom room, Long memberId) {
         return new TradeChatRoomDto(
                 room.getId(),
                 room.getTrade().getTradeId(),
@@ -29,7 +34,11 @@ public record TradeChatRoomDto(
                 room.getBuyerId().getMemberId(),
                 room.getBuyerId().getNickname(),
                 room.getCreateDate(),
-                room.getStatus()
+                room.getStatus(),
+                room.getLastMessageAt(),
+                room.getLastMessagePreview(),
+                room.unreadCountOf(memberId),
+                room.otherLastReadMessageIdOf(memberId)
         );
     }
 }
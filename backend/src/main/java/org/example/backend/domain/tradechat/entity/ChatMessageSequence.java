@@ -0,0 +1,36 @@
+package org.example.backend.domain.tradechat.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 채팅 메시지 ID 발급 노드 번호용 시퀀스 (노드가 시작할 때마다 하나씩 예약)
+@Entity
+@Table(name = "chat_message_sequence")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ChatMessageSequence {
+
+    public static final String NODE = "trade_chat_node";
+
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    // 다음에 예약할 값
+    @Column(nullable = false)
+    private Long nextValue;
+
+    public ChatMessageSequence(String name, Long nextValue) {
+        this.name = name;
+        this.nextValue = nextValue;
+    }
+
+    // [nextValue, nextValue + size) 구간을 예약하고 시작 값 반환
+    public long reserve(int size) {
+        long start = nextValue;
+        nextValue = start + size;
+        return start;
+    }
+}
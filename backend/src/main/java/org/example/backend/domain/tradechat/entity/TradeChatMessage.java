@@ -9,13 +9,16 @@ import org.example.backend.domain.member.entity.Member;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "trade_chat_message")
+@Table(name = "trade_chat_message", indexes = {
+        // 채팅방별 메시지 ID 커서 조회용
+        @Index(name = "idx_chat_message_room_message", columnList = "room_id, message_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class TradeChatMessage {
 
+    // ID는 ChatMessageIdAllocator 가 발급하고 저장은 ChatMessageWriter 가 JDBC 배치로 처리
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column (name = "message_id", nullable = false)
     private Long Id;
 
@@ -32,14 +35,4 @@ public class TradeChatMessage {
 
     @Column(nullable = false)
     private LocalDateTime sendDate;
-
-    // 메세지 채팅 생성
-    public static TradeChatMessage create(TradeChatRoom chatRoom, Member sender, String content) {
-        TradeChatMessage message = new TradeChatMessage();
-        message.chatRoom = chatRoom;
-        message.sender = sender;
-        message.content = content;
-        message.sendDate = LocalDateTime.now();
-        return message;
-    }
 }
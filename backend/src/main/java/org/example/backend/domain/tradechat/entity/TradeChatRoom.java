@@ -9,7 +9,11 @@ import org.springframework.data.annotation.CreatedDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "trade_chat_room")
+@Table(name = "trade_chat_room", indexes = {
+        // 내 채팅방 목록 (참여자 + 상태 조건, 최근 메시지순 정렬)
+        @Index(name = "idx_chat_room_seller_status_last", columnList = "seller_id, status, last_message_at"),
+        @Index(name = "idx_chat_room_buyer_status_last", columnList = "buyer_id, status, last_message_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -37,4 +41,46 @@ public class TradeChatRoom {
 
     @Enumerated(EnumType.STRING)
     private ChatStatus status;
+
+    /*
+    최근 메시지/읽음 위치/안 읽은 메시지 수
+        - 메시지 저장 시 ChatMessageWriter 가, 읽음 처리 시 ChatReadReceiptWriter 가 UPDATE 쿼리로 직접 갱신하므로 엔티티 수정 시에는 덮어쓰지 않는다
+        - 메시지가 없으면 lastMessageAt 은 채팅방 생성 시간
+        - 안 읽은 메시지 수는 읽음 위치 이후 상대방이 보낸 메시지 수 (갱신 시점마다 다시 계산)
+     */
+    @Column(updatable = false)
+    private Long lastMessageId;
+
+    @Column(updatable = false)
+    private LocalDateTime lastMessageAt;
+
+    @Column(length = 100, updatable = false)
+    private String lastMessagePreview;
+
+    // 참여자별 마지막으로 읽은 메시지 ID
+    @Builder.Default
+    @Column(updatable = false)
+    private Long sellerLastReadMessageId = 0L;
+
+    @Builder.Default
+    @Column(updatable = false)
+    private Long buyerLastReadMessageId = 0L;
+
+    @Builder.Default
+    @Column(nullable = false, updatable = false)
+    private int sellerUnreadCount = 0;
+
+    @Builder.Default
+    @Column(nullable = false, updatable = false)
+    private int buyerUnreadCount = 0;
+
+    // 해당 참여자가 읽지 않은 메시지 수
+    public int unreadCountOf(Long memberId) {
+        return sellerId.getMemberId().equals(memberId) ? sellerUnreadCount : buyerUnreadCount;
+    }
+
+    // 상대방이 마지막으로 읽은 메시지 ID (읽음 표시용)
+    public Long otherLastReadMessageIdOf(Long memberId) {
+        return sellerId.getMemberId().equals(memberId) ? buyerLastReadMessageId : sellerLastReadMessageId;
+    }
 }
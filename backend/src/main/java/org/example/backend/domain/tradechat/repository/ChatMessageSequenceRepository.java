@@ -0,0 +1,18 @@
+package org.example.backend.domain.tradechat.repository;
+
+import jakarta.persistence.LockModeType;
+import org.example.backend.domain.tradechat.entity.ChatMessageSequence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface ChatMessageSequenceRepository extends JpaRepository<ChatMessageSequence, String> {
+
+    // 여러 노드가 같은 구간을 예약하지 않도록 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ChatMessageSequence s WHERE s.name = :name")
+    Optional<ChatMessageSequence> findForUpdate(@Param("name") String name);
+}
@@ -1,11 +1,31 @@
 package org.example.backend.domain.tradechat.repository;
 
+import org.example.backend.domain.tradechat.dto.QueuedChatMessage;
 import org.example.backend.domain.tradechat.entity.TradeChatMessage;
-import org.example.backend.domain.tradechat.entity.TradeChatRoom;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface TradeChatMessageRepository extends JpaRepository<TradeChatMessage, Long> {
-    List<TradeChatMessage> findByChatRoomOrderBySendDateAsc(TradeChatRoom room);
+
+    // 채팅방의 before 이전 메시지를 최신순으로 조회 ((room_id, message_id) 인덱스 사용)
+    @Query("""
+        SELECT new org.example.backend.domain.tradechat.dto.QueuedChatMessage(
+            m.Id, m.chatRoom.Id, s.memberId, s.nickname, m.content, m.sendDate)
+        FROM TradeChatMessage m
+        JOIN m.sender s
+        WHERE m.chatRoom.Id = :roomId AND m.Id < :before
+        ORDER BY m.Id DESC
+    """)
+    List<QueuedChatMessage> findPageBefore(
+            @Param("roomId") Long roomId,
+            @Param("before") Long before,
+            Pageable pageable
+    );
+
+    @Query("SELECT COALESCE(MAX(m.Id), 0) FROM TradeChatMessage m")
+    long findMaxId();
 }
@@ -2,13 +2,13 @@ package org.example.backend.domain.tradechat.repository;
 
 import org.example.backend.domain.member.entity.Member;
 import org.example.backend.domain.trade.entity.Trade;
+import org.example.backend.domain.tradechat.dto.ChatRoomParticipants;
 import org.example.backend.domain.tradechat.entity.ChatStatus;
 import org.example.backend.domain.tradechat.entity.TradeChatRoom;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,17 +25,21 @@ public interface TradeChatRoomRepository extends JpaRepository<TradeChatRoom, Lo
         JOIN FETCH r.trade t
         WHERE (r.status = :status AND s.memberId = :memberId)
            OR (r.status = :status AND b.memberId = :memberId)
+        ORDER BY r.lastMessageAt DESC, r.Id DESC
     """)
     List<TradeChatRoom> findAllWithMemberAndTrade(
             @Param("status") ChatStatus status,
             @Param("memberId") Long memberId
     );
-    
-    //채팅방의 가장 최근 메시지 시간 조회
+
+    // 채팅방 참여자 ID/닉네임만 조회 (참여자 캐시 적재용)
     @Query("""
-        SELECT MAX(m.sendDate)
-        FROM TradeChatMessage m
-        WHERE m.chatRoom.Id = :roomId
+        SELECT new org.example.backend.domain.tradechat.dto.ChatRoomParticipants(
+            r.Id, s.memberId, s.nickname, b.memberId, b.nickname)
+        FROM TradeChatRoom r
+        JOIN r.sellerId s
+        JOIN r.buyerId b
+        WHERE r.Id = :roomId
     """)
-    LocalDateTime findLatestMessageDate(@Param("roomId") Long roomId);
+    Optional<ChatRoomParticipants> findParticipants(@Param("roomId") Long roomId);
 }
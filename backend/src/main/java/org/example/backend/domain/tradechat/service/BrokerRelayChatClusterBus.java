@@ -0,0 +1,64 @@
+package org.example.backend.domain.tradechat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.domain.tradechat.dto.QueuedChatMessage;
+import org.example.backend.domain.tradechat.dto.TradeChatMessageDto;
+import org.example.backend.global.websocketconfig.WebSocketConfig;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.AbstractBrokerMessageHandler;
+import org.springframework.messaging.simp.stomp.StompBrokerRelayMessageHandler;
+import org.springframework.stereotype.Component;
+
+/**
+ * 외부 브로커 중계(relay) 모드의 클러스터 버스.
+ * 참여자 브로드캐스트는 외부 브로커의 /receive/{roomId} 로 발행해 모든 노드의 구독자에게 전달되고,
+ * 같은 메시지를 노드 간 목적지에도 발행해서 각 노드가 브로커 시스템 연결로 받아 최근 메시지 버퍼에 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = WebSocketConfig.BROKER_MODE_PROPERTY, havingValue = WebSocketConfig.RELAY_MODE)
+public class BrokerRelayChatClusterBus implements ChatClusterBus {
+
+    private static final String CLUSTER_DESTINATION = WebSocketConfig.CLUSTER_DESTINATION_PREFIX + "/trade-chat";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ChatRecentMessageBuffer recentMessageBuffer;
+    private final ChatMessageIdAllocator messageIdAllocator;
+    private final ObjectMapper objectMapper;
+    // 같은 타입의 브로커 핸들러 빈이 둘이므로 이름으로 주입
+    private final AbstractBrokerMessageHandler stompBrokerRelayMessageHandler;
+
+    // 브로커 연결(start) 전에 시스템 구독을 등록해야 한다
+    @PostConstruct
+    void subscribeCluster() {
+        ((StompBrokerRelayMessageHandler) stompBrokerRelayMessageHandler)
+                .setSystemSubscriptions(Map.of(CLUSTER_DESTINATION, this::receive));
+    }
+
+    @Override
+    public void publish(QueuedChatMessage message) {
+        // 발행한 노드는 브로커를 거치지 않고 바로 반영
+        recentMessageBuffer.append(message);
+        messagingTemplate.convertAndSend("/receive/" + message.roomId(), TradeChatMessageDto.from(message));
+        messagingTemplate.convertAndSend(CLUSTER_DESTINATION, message);
+    }
+
+    private void receive(Message<?> message) {
+        try {
+            QueuedChatMessage received = objectMapper.readValue((byte[]) message.getPayload(), QueuedChatMessage.class);
+            // 이후 이 노드에서 보내는 메시지가 받은 메시지보다 뒤에 오도록
+            messageIdAllocator.observe(received.messageId());
+            recentMessageBuffer.append(received);
+        } catch (IOException | ClassCastException e) {
+            log.warn("노드 간 채팅 메시지 처리 실패", e);
+        }
+    }
+}
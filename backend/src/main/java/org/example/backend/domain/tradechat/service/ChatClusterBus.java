@@ -0,0 +1,13 @@
+package org.example.backend.domain.tradechat.service;
+
+import org.example.backend.domain.tradechat.dto.QueuedChatMessage;
+
+/**
+ * 채팅 메시지를 모든 서버 노드에 전달하는 버스.
+ * 각 노드는 전달받은 메시지를 최근 메시지 버퍼에 반영하고, /receive/{roomId} 구독자에게 브로드캐스트되게 한다.
+ * 브로커 모드(custom.chat.broker.mode)에 따라 구현이 선택된다.
+ */
+public interface ChatClusterBus {
+
+    void publish(QueuedChatMessage message);
+}
@@ -0,0 +1,104 @@
+package org.example.backend.domain.tradechat.service;
+
+import jakarta.annotation.PostConstruct;
+import java.util.function.LongSupplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.domain.tradechat.entity.ChatMessageSequence;
+import org.example.backend.domain.tradechat.repository.ChatMessageSequenceRepository;
+import org.example.backend.domain.tradechat.repository.TradeChatMessageRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 채팅 메시지 ID 발급기.
+ * INSERT 후 IDENTITY 값을 기다리지 않고 브로드캐스트할 수 있도록 메모리에서 시간순 ID를 발급한다.
+ * ID는 상위 비트부터 [2025-01-01 이후 밀리초 41비트 | 노드 번호 5비트 | 같은 밀리초 안의 순번 6비트] 이고,
+ * 2^53 미만이라 JavaScript 클라이언트에서도 정확히 다룰 수 있다.
+ * 노드가 달라도 ID 순서가 전송 시각 순서를 따르므로, 채팅 내역 커서/최근 메시지/읽음 위치처럼 ID로 비교하는 곳이 노드와 무관하게 맞다.
+ * 다른 노드의 메시지를 받으면(observe) 논리 시각을 그 ID 이후로 맞춰서, 노드 간 시계 차이가 있어도 받은 메시지에 대한 답장은 항상 뒤에 온다.
+ * 노드 번호는 시작할 때마다 시퀀스 테이블에서 돌아가며 받는다 (32개 넘는 노드를 동시에 운영하면 custom.chat.node-id 로 지정).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageIdAllocator {
+
+    // 2025-01-01T00:00:00Z
+    private static final long EPOCH_MILLIS = 1735689600000L;
+    private static final int NODE_BITS = 5;
+    private static final int SEQUENCE_BITS = 6;
+    private static final int TIME_SHIFT = NODE_BITS + SEQUENCE_BITS;
+    private static final int NODES = 1 << NODE_BITS;
+    private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+
+    private final ChatMessageSequenceRepository sequenceRepository;
+    private final TradeChatMessageRepository chatMessageRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    // 0 ~ 31, 지정하지 않으면 시퀀스 테이블에서 발급
+    @Value("${custom.chat.node-id:-1}")
+    private int nodeId;
+
+    LongSupplier clock = System::currentTimeMillis;
+
+    private long node;
+    // 마지막으로 발급한 ID의 시각(EPOCH 기준 밀리초)과 순번
+    private long lastTime;
+    private long sequence;
+
+    @PostConstruct
+    void init() {
+        node = nodeId >= 0 ? nodeId % NODES : reserveNode();
+        // 재시작 후 시계가 뒤로 가 있어도 이미 저장된 ID보다 큰 ID만 발급
+        lastTime = chatMessageRepository.findMaxId() >>> TIME_SHIFT;
+        sequence = MAX_SEQUENCE;
+        log.info("채팅 메시지 ID 발급 노드 번호 {}", node);
+    }
+
+    public synchronized long nextId() {
+        long now = clock.getAsLong() - EPOCH_MILLIS;
+        if (now > lastTime) {
+            lastTime = now;
+            sequence = 0;
+        } else if (sequence < MAX_SEQUENCE) {
+            sequence++;
+        } else {
+            // 같은 밀리초의 순번을 다 썼거나 시계가 뒤로 가면 논리 시각을 앞당김
+            lastTime++;
+            sequence = 0;
+        }
+        return lastTime << TIME_SHIFT | node << SEQUENCE_BITS | sequence;
+    }
+
+    // 다른 노드가 발급한 ID를 받으면 이후 발급하는 ID가 그보다 크도록 논리 시각을 맞춘다
+    public synchronized void observe(long id) {
+        long time = id >>> TIME_SHIFT;
+        if (time >= lastTime && (id >>> SEQUENCE_BITS & (NODES - 1)) != node) {
+            lastTime = time;
+            sequence = MAX_SEQUENCE;
+        }
+    }
+
+    // 호출한 쪽 트랜잭션과 무관하게 바로 커밋해 잠금을 오래 잡지 않는다
+    private long reserveNode() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        try {
+            return template.execute(status -> reserve());
+        } catch (DataIntegrityViolationException e) {
+            // 다른 노드가 시퀀스 행을 먼저 만든 경우 다시 시도
+            return template.execute(status -> reserve());
+        }
+    }
+
+    private long reserve() {
+        ChatMessageSequence sequence = sequenceRepository.findForUpdate(ChatMessageSequence.NODE)
+                .orElseGet(() -> sequenceRepository.saveAndFlush(new ChatMessageSequence(ChatMessageSequence.NODE, 0L)));
+        return sequence.reserve(1) % NODES;
+    }
+}
@@ -0,0 +1,299 @@
+package org.example.backend.domain.tradechat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.domain.tradechat.dto.QueuedChatMessage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * DB 저장 전 채팅 메시지를 보관하는 로컬 저널.
+ * 메시지는 브로드캐스트 전에 현재 세그먼트 파일에 JSON 한 줄로 추가되고,
+ * 저장 작업이 세그먼트를 교체(roll)한 뒤 해당 메시지를 DB에 커밋하면 이전 세그먼트를 삭제한다.
+ * 디스크 동기화는 기록과 분리되어 있어서(sync), 동시에 기록한 메시지들은 한 번의 force 로 함께 내려간다 (group commit).
+ * 서버가 비정상 종료되면 시작 시 남아 있는 세그먼트를 읽어 다시 저장한다.
+ * DB에 저장할 수 없는 메시지는 거절 로그(rejected.log)로 옮겨 대기열을 막지 않게 한다 (복구 대상 아님).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageJournal {
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String LOCK_FILE = "journal.lock";
+    private static final String REJECTED_FILE = "rejected.log";
+
+    private final ObjectMapper objectMapper;
+
+    // 재부팅/컨테이너 재시작 후에도 남는 경로여야 하므로 기본값 없이 설정을 요구 (임시 디렉터리는 지워질 수 있음)
+    @Value("${custom.chat.journal-dir:}")
+    private String journalDir;
+    // 기록 후 디스크 동기화 (끄면 OS 장애 시 마지막 몇 건이 유실될 수 있음)
+    @Value("${custom.chat.journal-fsync:true}")
+    private boolean fsync;
+
+    private Path directory;
+    private FileChannel lockChannel;
+    private boolean instanceDirectory;
+    private FileChannel current;
+    private Path currentPath;
+    private long segmentSequence;
+    // 기록한 메시지 수와 디스크에 동기화된 메시지 수 (sync 위치)
+    private long written;
+    private volatile long synced;
+    // 교체됐지만 아직 동기화되지 않은 세그먼트 (동기화 후 닫음)
+    private final List<FileChannel> unsyncedChannels = new ArrayList<>();
+    // force 는 한 번에 한 스레드만 (기다리는 동안 쌓인 기록은 다음 force 가 함께 내려씀)
+    private final Object syncLock = new Object();
+    private final Object rejectedLock = new Object();
+
+    @PostConstruct
+    void open() throws IOException {
+        if (journalDir == null || journalDir.isBlank()) {
+            throw new IllegalStateException(
+                    "custom.chat.journal-dir 에 채팅 메시지 저널 디렉터리(재시작 후에도 유지되는 경로)를 설정해야 합니다.");
+        }
+        directory = Paths.get(journalDir);
+        Files.createDirectories(directory);
+        // 같은 디렉터리를 다른 프로세스가 쓰고 있으면 그 세그먼트를 건드리지 않도록 별도 하위 디렉터리 사용
+        if (!lockDirectory()) {
+            directory = directory.resolve("instance-" + UUID.randomUUID());
+            Files.createDirectories(directory);
+            lockDirectory();
+            instanceDirectory = true;
+            log.warn("채팅 메시지 저널 디렉터리를 다른 프로세스가 사용 중이어서 {} 를 사용합니다.", directory);
+        }
+        segmentSequence = existingSegments().stream()
+                .mapToLong(ChatMessageJournal::sequenceOf)
+                .max()
+                .orElse(0);
+        openNextSegment();
+    }
+
+    @PreDestroy
+    synchronized void close() throws IOException {
+        for (FileChannel channel : unsyncedChannels) {
+            channel.force(false);
+            channel.close();
+        }
+        unsyncedChannels.clear();
+        current.force(false);
+        current.close();
+        // 비어 있는 세그먼트는 남기지 않음
+        if (Files.size(currentPath) == 0) {
+            Files.deleteIfExists(currentPath);
+        }
+        lockChannel.close();
+        // 임시 하위 디렉터리는 남은 세그먼트가 없으면 정리
+        if (instanceDirectory && existingSegments().isEmpty()) {
+            Files.deleteIfExists(directory.resolve(LOCK_FILE));
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    /**
+     * 현재 세그먼트에 메시지를 기록하고 sync 위치를 반환한다.
+     * 기록만 하고 디스크 동기화는 하지 않으므로, 유실되면 안 되는 시점 전에 sync(위치) 를 호출한다.
+     */
+    public synchronized long append(QueuedChatMessage message) {
+        try {
+            writeLine(current, objectMapper.writeValueAsString(message));
+        } catch (IOException e) {
+            throw new UncheckedIOException("채팅 메시지 저널 기록 실패", e);
+        }
+        return ++written;
+    }
+
+    // 해당 위치까지 기록한 메시지를 디스크에 동기화 (이미 다른 스레드의 force 로 내려갔으면 바로 반환)
+    public void sync(long position) {
+        if (!fsync || synced >= position) {
+            return;
+        }
+        synchronized (syncLock) {
+            if (synced >= position) {
+                return;
+            }
+            List<FileChannel> channels;
+            long target;
+            synchronized (this) {
+                channels = new ArrayList<>(unsyncedChannels);
+                channels.add(current);
+                target = written;
+            }
+            // 기록은 force 중에도 계속 들어오고, force 이후 기록분은 다음 sync 가 내려씀
+            try {
+                for (FileChannel channel : channels) {
+                    channel.force(false);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("채팅 메시지 저널 동기화 실패", e);
+            }
+            synchronized (this) {
+                channels.remove(channels.size() - 1);
+                unsyncedChannels.removeAll(channels);
+            }
+            for (FileChannel channel : channels) {
+                closeQuietly(channel);
+            }
+            synced = target;
+        }
+    }
+
+    // 저장할 수 없는 메시지를 사유와 함께 거절 로그에 남긴다 (기록 후 세그먼트에서 지워도 됨)
+    public void reject(QueuedChatMessage message, String reason) {
+        synchronized (rejectedLock) {
+            try (FileChannel channel = FileChannel.open(rejectedLog(), StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                writeLine(channel, objectMapper.writeValueAsString(
+                        new RejectedMessage(message, reason, LocalDateTime.now())));
+                channel.force(false);
+            } catch (IOException e) {
+                throw new UncheckedIOException("채팅 메시지 거절 로그 기록 실패", e);
+            }
+        }
+    }
+
+    Path rejectedLog() {
+        return directory.resolve(REJECTED_FILE);
+    }
+
+    /**
+     * 새 세그먼트로 교체하고 이전 세그먼트 경로를 반환한다.
+     * 반환된 세그먼트의 메시지가 모두 DB에 저장되면 delete() 로 지운다.
+     */
+    public synchronized Path roll() {
+        Path closed = currentPath;
+        try {
+            // 동기화 전인 세그먼트는 sync 가 force 한 뒤 닫는다
+            if (fsync) {
+                unsyncedChannels.add(current);
+            } else {
+                current.close();
+            }
+            openNextSegment();
+        } catch (IOException e) {
+            throw new UncheckedIOException("채팅 메시지 저널 세그먼트 교체 실패", e);
+        }
+        return closed;
+    }
+
+    public void delete(List<Path> segments) {
+        for (Path segment : segments) {
+            try {
+                Files.deleteIfExists(segment);
+            } catch (IOException e) {
+                log.warn("채팅 메시지 저널 세그먼트 삭제 실패 - {}", segment, e);
+            }
+        }
+    }
+
+    // 현재 세그먼트를 제외한 남은 세그먼트 (이전 실행에서 저장되지 못한 메시지)
+    public synchronized List<Path> leftoverSegments() {
+        return existingSegments().stream()
+                .filter(segment -> !segment.equals(currentPath))
+                .toList();
+    }
+
+    public List<QueuedChatMessage> read(Path segment) {
+        List<QueuedChatMessage> messages = new ArrayList<>();
+        try (Stream<String> lines = Files.lines(segment, StandardCharsets.UTF_8)) {
+            lines.filter(line -> !line.isBlank()).forEach(line -> {
+                try {
+                    messages.add(objectMapper.readValue(line, QueuedChatMessage.class));
+                } catch (IOException e) {
+                    // 기록 도중 종료되어 잘린 마지막 줄
+                    log.warn("채팅 메시지 저널의 손상된 줄을 건너뜁니다 - {}", segment);
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException("채팅 메시지 저널 읽기 실패 - " + segment, e);
+        }
+        return messages;
+    }
+
+    private static void writeLine(FileChannel channel, String json) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap((json + "\n").getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.warn("채팅 메시지 저널 세그먼트 닫기 실패", e);
+        }
+    }
+
+    private boolean lockDirectory() throws IOException {
+        FileChannel channel = FileChannel.open(directory.resolve(LOCK_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        FileLock lock;
+        try {
+            lock = channel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            lock = null;
+        }
+        if (lock == null) {
+            channel.close();
+            return false;
+        }
+        lockChannel = channel;
+        return true;
+    }
+
+    private void openNextSegment() throws IOException {
+        segmentSequence++;
+        currentPath = directory.resolve(SEGMENT_PREFIX + segmentSequence + SEGMENT_SUFFIX);
+        current = FileChannel.open(currentPath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private List<Path> existingSegments() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(path -> path.getFileName().toString().startsWith(SEGMENT_PREFIX))
+                    .filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted((a, b) -> Long.compare(sequenceOf(a), sequenceOf(b)))
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("채팅 메시지 저널 목록 조회 실패", e);
+        }
+    }
+
+    // 거절 로그 한 줄
+    record RejectedMessage(QueuedChatMessage message, String reason, LocalDateTime rejectedAt) {
+
+    }
+
+    private static long sequenceOf(Path segment) {
+        String name = segment.getFileName().toString();
+        try {
+            return Long.parseLong(name.substring(SEGMENT_PREFIX.length(),
+                    name.length() - SEGMENT_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,313 @@
+package org.example.backend.domain.tradechat.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.domain.tradechat.dto.QueuedChatMessage;
+import org.example.backend.global.collection.LongHashSet;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 채팅 메시지 비동기 저장.
+ * 메시지는 저널에 기록한 뒤 메모리 대기열에 쌓고, 스케줄러가 주기적으로 모아서 JDBC 배치 INSERT 로 저장한다.
+ * 저장 전 메시지도 채팅 내역 조회에 포함되도록 대기열을 조회할 수 있다.
+ * 배치 저장이 실패하면 한 건씩 다시 저장해서, 저장할 수 없는 메시지(제약 조건 위반, 다른 메시지는 저장되는데 계속 실패)는
+ * 저널의 거절 로그로 옮기고 나머지 메시지는 계속 저장한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageWriter {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO trade_chat_message (message_id, room_id, sender_id, content, send_date)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+    // 채팅방 최근 메시지 갱신과 안 읽은 메시지 수 재계산 (채팅방 단위)
+    // MySQL 은 SET 을 왼쪽부터 적용하므로 비교 기준인 last_message_id 는 마지막에 바꾼다
+    private static final String ROOM_UPDATE_SQL = """
+            UPDATE trade_chat_room r SET
+                last_message_at = CASE WHEN r.last_message_id IS NULL OR r.last_message_id < ? THEN ? ELSE r.last_message_at END,
+                last_message_preview = CASE WHEN r.last_message_id IS NULL OR r.last_message_id < ? THEN ? ELSE r.last_message_preview END,
+                seller_unread_count = %s,
+                buyer_unread_count = %s,
+                last_message_id = CASE WHEN r.last_message_id IS NULL OR r.last_message_id < ? THEN ? ELSE r.last_message_id END
+            WHERE r.chat_id = ?
+            """.formatted(ChatReadReceiptWriter.SELLER_UNREAD_COUNT, ChatReadReceiptWriter.BUYER_UNREAD_COUNT);
+    private static final int PREVIEW_LENGTH = 100;
+    private static final int EXISTS_CHUNK_SIZE = 1000;
+
+    // 다른 메시지는 저장되는데 혼자 실패하는 메시지를 거절하기까지의 횟수
+    @Value("${custom.chat.max-save-attempts:5}")
+    private int maxSaveAttempts;
+
+    private final ChatMessageJournal journal;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    // 대기열/저장 중 목록/세그먼트 교체는 같은 락으로 묶어 세그먼트와 대기열 내용이 항상 일치하게 한다
+    private final Object lock = new Object();
+    private List<QueuedChatMessage> pending = new ArrayList<>();
+    // 저장 중인 메시지 (커밋 전까지 조회 결과에 계속 포함)
+    private List<QueuedChatMessage> flushing = List.of();
+    // 메시지가 아직 모두 커밋되지 않은 세그먼트
+    private final List<Path> unsavedSegments = new ArrayList<>();
+    // 복구한 메시지나 결과를 알 수 없는 실패가 있으면 이미 저장된 ID를 걸러낸다
+    private boolean deduplicate;
+    // 한 건씩 저장할 때 실패한 횟수 (저장 스레드에서만 사용)
+    private final Map<Long, Integer> failedAttempts = new HashMap<>();
+
+    @PostConstruct
+    void recover() {
+        List<Path> leftovers = journal.leftoverSegments();
+        if (leftovers.isEmpty()) {
+            return;
+        }
+
+        int recovered = 0;
+        synchronized (lock) {
+            for (Path segment : leftovers) {
+                List<QueuedChatMessage> messages = journal.read(segment);
+                pending.addAll(messages);
+                unsavedSegments.add(segment);
+                recovered += messages.size();
+            }
+            deduplicate = true;
+        }
+        log.info("채팅 메시지 저널 복구 - 세그먼트 {}개, 메시지 {}건", leftovers.size(), recovered);
+    }
+
+    /*
+    저널 기록 후 대기열에 추가 (반환되면 서버가 비정상 종료되어도 유실되지 않음)
+        - 세그먼트와 대기열이 어긋나지 않도록 기록과 추가는 같은 락 안에서 처리
+        - 디스크 동기화는 락 밖에서 해서 동시에 보낸 메시지를 한 번의 force 로 묶고, 조회/저장 작업이 force 를 기다리지 않게 함
+     */
+    public void enqueue(QueuedChatMessage message) {
+        long position;
+        synchronized (lock) {
+            position = journal.append(message);
+            pending.add(message);
+        }
+        journal.sync(position);
+    }
+
+    // 아직 DB에 저장되지 않은 채팅방 메시지 (ID 오름차순)
+    public List<QueuedChatMessage> pendingMessages(Long roomId) {
+        List<QueuedChatMessage> messages = new ArrayList<>();
+        synchronized (lock) {
+            for (QueuedChatMessage message : flushing) {
+                if (message.roomId().equals(roomId)) {
+                    messages.add(message);
+                }
+            }
+            for (QueuedChatMessage message : pending) {
+                if (message.roomId().equals(roomId)) {
+                    messages.add(message);
+                }
+            }
+        }
+        messages.sort((a, b) -> Long.compare(a.messageId(), b.messageId()));
+        return messages;
+    }
+
+    // 아직 DB에 저장되지 않은 채팅방 메시지 중 가장 큰 ID (없으면 0)
+    public long maxPendingId(Long roomId) {
+        long max = 0;
+        synchronized (lock) {
+            for (QueuedChatMessage message : flushing) {
+                if (message.roomId().equals(roomId)) {
+                    max = Math.max(max, message.messageId());
+                }
+            }
+            for (QueuedChatMessage message : pending) {
+                if (message.roomId().equals(roomId)) {
+                    max = Math.max(max, message.messageId());
+                }
+            }
+        }
+        return max;
+    }
+
+    @Scheduled(fixedDelayString = "${custom.chat.flush-interval-ms:200}")
+    public void flush() {
+        List<QueuedChatMessage> drained;
+        List<Path> segments;
+        boolean checkExisting;
+        synchronized (lock) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            drained = pending;
+            flushing = drained;
+            pending = new ArrayList<>();
+            unsavedSegments.add(journal.roll());
+            segments = List.copyOf(unsavedSegments);
+            checkExisting = deduplicate;
+        }
+
+        List<QueuedChatMessage> retry;
+        try {
+            retry = save(checkExisting ? excludeSaved(drained) : drained);
+        } catch (RuntimeException e) {
+            // 저장 여부 확인조차 실패하면 (DB 연결 문제 등) 전부 다음 주기에 다시 저장
+            log.warn("채팅 메시지 저장 실패 - {}건 재시도 예정", drained.size(), e);
+            retry = drained;
+        }
+
+        if (retry.isEmpty()) {
+            synchronized (lock) {
+                unsavedSegments.removeAll(segments);
+                deduplicate = false;
+                flushing = List.of();
+            }
+            journal.delete(segments);
+            return;
+        }
+        // 남은 메시지는 다음 주기에 다시 저장 (커밋 여부가 불확실하므로 중복 확인), 세그먼트는 그때까지 유지
+        synchronized (lock) {
+            List<QueuedChatMessage> requeued = new ArrayList<>(retry.size() + pending.size());
+            requeued.addAll(retry);
+            requeued.addAll(pending);
+            pending = requeued;
+            deduplicate = true;
+            flushing = List.of();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // 저장하고 다시 시도할 메시지를 반환 (배치가 실패하면 한 건씩 저장하고 저장할 수 없는 메시지는 거절 로그로)
+    private List<QueuedChatMessage> save(List<QueuedChatMessage> messages) {
+        if (messages.isEmpty()) {
+            return List.of();
+        }
+        try {
+            insert(messages);
+            return List.of();
+        } catch (RuntimeException e) {
+            log.warn("채팅 메시지 일괄 저장 실패 - {}건을 한 건씩 다시 저장합니다.", messages.size(), e);
+        }
+
+        // 롤백됐어도 커밋 결과를 알 수 없는 경우가 있으므로 이미 저장된 메시지는 제외
+        List<QueuedChatMessage> failed = new ArrayList<>();
+        boolean anySaved = false;
+        for (QueuedChatMessage message : excludeSaved(messages)) {
+            try {
+                insert(List.of(message));
+                anySaved = true;
+                failedAttempts.remove(message.messageId());
+            } catch (DuplicateKeyException e) {
+                // 같은 메시지가 이미 저장됨
+                failedAttempts.remove(message.messageId());
+            } catch (DataIntegrityViolationException e) {
+                // 다시 시도해도 저장할 수 없는 메시지 (채팅방/회원 삭제, 컬럼 제약 위반 등)
+                reject(message, e);
+            } catch (RuntimeException e) {
+                failed.add(message);
+            }
+        }
+
+        // 다른 메시지는 저장되는데 계속 실패하는 메시지는 횟수를 세서 거절 (전부 실패하면 DB 문제로 보고 세지 않음)
+        List<QueuedChatMessage> retry = new ArrayList<>(failed.size());
+        for (QueuedChatMessage message : failed) {
+            int attempts = anySaved ? failedAttempts.merge(message.messageId(), 1, Integer::sum) : 0;
+            if (attempts >= maxSaveAttempts) {
+                reject(message, new IllegalStateException("저장 " + attempts + "회 실패"));
+            } else {
+                retry.add(message);
+            }
+        }
+        return retry;
+    }
+
+    private void insert(List<QueuedChatMessage> messages) {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(INSERT_SQL, toBatchArgs(messages));
+            jdbcTemplate.batchUpdate(ROOM_UPDATE_SQL, toRoomUpdateArgs(messages));
+        });
+    }
+
+    private void reject(QueuedChatMessage message, Exception cause) {
+        log.error("저장할 수 없는 채팅 메시지를 거절 로그로 옮깁니다 - messageId={}, roomId={}",
+                message.messageId(), message.roomId(), cause);
+        journal.reject(message, cause.getMessage());
+        failedAttempts.remove(message.messageId());
+    }
+
+    private List<QueuedChatMessage> excludeSaved(List<QueuedChatMessage> messages) {
+        LongHashSet saved = new LongHashSet();
+        for (int from = 0; from < messages.size(); from += EXISTS_CHUNK_SIZE) {
+            List<QueuedChatMessage> chunk = messages.subList(from,
+                    Math.min(from + EXISTS_CHUNK_SIZE, messages.size()));
+            String placeholders = String.join(",", Collections.nCopies(chunk.size(), "?"));
+            jdbcTemplate.queryForList(
+                    "SELECT message_id FROM trade_chat_message WHERE message_id IN (" + placeholders + ")",
+                    Long.class, chunk.stream().map(QueuedChatMessage::messageId).toArray())
+                    .forEach(saved::add);
+        }
+
+        List<QueuedChatMessage> unsaved = new ArrayList<>(messages.size());
+        for (QueuedChatMessage message : messages) {
+            if (!saved.contains(message.messageId())) {
+                unsaved.add(message);
+            }
+        }
+        return unsaved;
+    }
+
+    private static List<Object[]> toRoomUpdateArgs(List<QueuedChatMessage> messages) {
+        // 채팅방별 가장 최근 메시지
+        Map<Long, QueuedChatMessage> latest = new LinkedHashMap<>();
+        for (QueuedChatMessage message : messages) {
+            latest.merge(message.roomId(), message,
+                    (a, b) -> a.messageId() > b.messageId() ? a : b);
+        }
+
+        List<Object[]> batchArgs = new ArrayList<>(latest.size());
+        for (QueuedChatMessage message : latest.values()) {
+            batchArgs.add(new Object[]{
+                    message.messageId(), Timestamp.valueOf(message.sendDate()),
+                    message.messageId(), preview(message.content()),
+                    message.messageId(), message.messageId(),
+                    message.roomId()
+            });
+        }
+        return batchArgs;
+    }
+
+    private static String preview(String content) {
+        return content.length() <= PREVIEW_LENGTH ? content : content.substring(0, PREVIEW_LENGTH);
+    }
+
+    private static List<Object[]> toBatchArgs(List<QueuedChatMessage> messages) {
+        List<Object[]> batchArgs = new ArrayList<>(messages.size());
+        for (QueuedChatMessage message : messages) {
+            batchArgs.add(new Object[]{
+                    message.messageId(),
+                    message.roomId(),
+                    message.senderId(),
+                    message.content(),
+                    Timestamp.valueOf(message.sendDate())
+            });
+        }
+        return batchArgs;
+    }
+}
@@ -0,0 +1,229 @@
+package org.example.backend.domain.tradechat.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import org.example.backend.domain.tradechat.dto.ChatPresenceDto;
+import org.example.backend.global.collection.LongHashSet;
+import org.example.backend.global.exception.BusinessException;
+import org.example.backend.global.websocketconfig.StompHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+/**
+ * 채팅방 접속/입력 중 상태 관리.
+ * STOMP 구독(/receive/{roomId}), 구독 해제, 연결 종료 이벤트로 채팅방별 접속 회원을 추적하고,
+ * 입력 중 상태는 typing-ttl-ms 동안 갱신이 없으면 만료된다.
+ * 상태가 바뀐 채팅방은 표시만 해 두고, interval-ms 마다 채팅방당 한 번 이전 전송과 달라진 경우에만 /receive/{roomId}/presence 로 보낸다.
+ * 상태는 노드별로 관리하므로 다른 노드에 연결된 회원은 포함되지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatPresenceTracker {
+
+    private static final Pattern ROOM_DESTINATION = Pattern.compile("^/receive/(\\d+)(/presence)?$");
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ChatRoomParticipantCache participantCache;
+
+    @Value("${custom.chat.presence.typing-ttl-ms:5000}")
+    private long typingTtlMillis;
+
+    private final Object lock = new Object();
+    private final Map<String, SessionSubscriptions> sessions = new HashMap<>();
+    private final Map<Long, RoomPresence> rooms = new HashMap<>();
+    // 마지막 전송 이후 상태가 바뀐 채팅방
+    private LongHashSet changedRooms = new LongHashSet();
+    // 입력 중인 회원이 있는 채팅방 (만료 확인 대상)
+    private final LongHashSet typingRooms = new LongHashSet();
+
+    /*
+    구독 시작
+        - /receive/{roomId}: 참여자면 접속 회원에 추가
+        - /receive/{roomId}/presence: 새 구독자가 현재 상태를 받도록 다음 주기에 다시 전송
+     */
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Matcher matcher = accessor.getDestination() == null
+                ? null : ROOM_DESTINATION.matcher(accessor.getDestination());
+        Long memberId = memberIdOf(accessor);
+        if (matcher == null || !matcher.matches() || memberId == null) {
+            return;
+        }
+
+        Long roomId = Long.valueOf(matcher.group(1));
+        if (!isParticipant(roomId, memberId)) {
+            return;
+        }
+        boolean presenceChannel = matcher.group(2) != null;
+
+        synchronized (lock) {
+            RoomPresence presence = rooms.computeIfAbsent(roomId, id -> new RoomPresence());
+            if (presenceChannel) {
+                presence.lastSent = null;
+            } else {
+                sessions.computeIfAbsent(accessor.getSessionId(), id -> new SessionSubscriptions(memberId))
+                        .rooms.put(accessor.getSubscriptionId(), roomId);
+                presence.online.merge(memberId, 1, Integer::sum);
+            }
+            changedRooms.add(roomId);
+        }
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        synchronized (lock) {
+            SessionSubscriptions session = sessions.get(accessor.getSessionId());
+            if (session == null) {
+                return;
+            }
+            Long roomId = session.rooms.remove(accessor.getSubscriptionId());
+            if (roomId != null) {
+                leave(roomId, session.memberId);
+            }
+            if (session.rooms.isEmpty()) {
+                sessions.remove(accessor.getSessionId());
+            }
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        synchronized (lock) {
+            SessionSubscriptions session = sessions.remove(event.getSessionId());
+            if (session != null) {
+                session.rooms.values().forEach(roomId -> leave(roomId, session.memberId));
+            }
+        }
+    }
+
+    // 입력 중 상태 변경 (참여자 검증은 호출하는 쪽에서)
+    public void typing(Long roomId, Long memberId, boolean typing) {
+        synchronized (lock) {
+            if (typing) {
+                RoomPresence presence = rooms.computeIfAbsent(roomId, id -> new RoomPresence());
+                if (presence.typingUntil.put(memberId, System.currentTimeMillis() + typingTtlMillis) == null) {
+                    changedRooms.add(roomId);
+                }
+                typingRooms.add(roomId);
+                return;
+            }
+
+            RoomPresence presence = rooms.get(roomId);
+            if (presence != null && presence.typingUntil.remove(memberId) != null) {
+                changedRooms.add(roomId);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${custom.chat.presence.interval-ms:500}")
+    public void broadcast() {
+        List<ChatPresenceDto> updates = new ArrayList<>();
+        synchronized (lock) {
+            expireTyping(System.currentTimeMillis());
+            if (changedRooms.isEmpty()) {
+                return;
+            }
+
+            LongHashSet changed = changedRooms;
+            changedRooms = new LongHashSet();
+            changed.forEach(roomId -> {
+                RoomPresence presence = rooms.get(roomId);
+                if (presence == null) {
+                    return;
+                }
+                ChatPresenceDto snapshot = presence.snapshot(roomId);
+                if (!snapshot.equals(presence.lastSent)) {
+                    presence.lastSent = snapshot;
+                    updates.add(snapshot);
+                }
+                // 아무도 없으면 마지막 상태를 보낸 뒤 정리
+                if (presence.online.isEmpty() && presence.typingUntil.isEmpty()) {
+                    rooms.remove(roomId);
+                }
+            });
+        }
+
+        for (ChatPresenceDto update : updates) {
+            messagingTemplate.convertAndSend("/receive/" + update.roomId() + "/presence", update);
+        }
+    }
+
+    private void expireTyping(long now) {
+        for (long roomId : typingRooms.toArray()) {
+            RoomPresence presence = rooms.get(roomId);
+            if (presence != null && presence.typingUntil.values().removeIf(until -> until <= now)) {
+                changedRooms.add(roomId);
+            }
+            if (presence == null || presence.typingUntil.isEmpty()) {
+                typingRooms.remove(roomId);
+            }
+        }
+    }
+
+    // 회원의 구독 하나가 끝남 (같은 회원의 다른 구독이 없으면 퇴장 처리)
+    private void leave(Long roomId, Long memberId) {
+        RoomPresence presence = rooms.get(roomId);
+        if (presence == null) {
+            return;
+        }
+        presence.online.computeIfPresent(memberId, (id, count) -> count > 1 ? count - 1 : null);
+        if (!presence.online.containsKey(memberId)) {
+            presence.typingUntil.remove(memberId);
+            changedRooms.add(roomId);
+        }
+    }
+
+    private boolean isParticipant(Long roomId, Long memberId) {
+        try {
+            return participantCache.get(roomId).isParticipant(memberId);
+        } catch (BusinessException e) {
+            return false;
+        }
+    }
+
+    private static Long memberIdOf(StompHeaderAccessor accessor) {
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        return attributes != null && attributes.get(StompHandler.SESSION_MEMBER_ID) instanceof Long memberId
+                ? memberId : null;
+    }
+
+    private static class SessionSubscriptions {
+
+        private final Long memberId;
+        // 구독 ID → 채팅방 ID
+        private final Map<String, Long> rooms = new HashMap<>();
+
+        SessionSubscriptions(Long memberId) {
+            this.memberId = memberId;
+        }
+    }
+
+    private static class RoomPresence {
+
+        // 회원 ID → 구독 수 (같은 회원이 여러 탭으로 접속 가능)
+        private final Map<Long, Integer> online = new HashMap<>();
+        // 회원 ID → 입력 중 상태 만료 시각
+        private final Map<Long, Long> typingUntil = new HashMap<>();
+        private ChatPresenceDto lastSent;
+
+        ChatPresenceDto snapshot(Long roomId) {
+            return new ChatPresenceDto(roomId,
+                    online.keySet().stream().sorted().toList(),
+                    typingUntil.keySet().stream().sorted().toList());
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package org.example.backend.domain.tradechat.service;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.global.collection.LongHashSet;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 채팅 읽음 처리 비동기 저장.
+ * 읽음 확인(ack)은 (채팅방, 회원)별 가장 큰 메시지 ID 만 메모리에 모아 두고,
+ * 스케줄러가 주기적으로 읽음 위치를 JDBC 배치 UPDATE 로 올린 뒤 해당 채팅방의 안 읽은 메시지 수를 다시 계산한다.
+ * 클라이언트가 보낸 ID는 채팅방에 실제로 발급된 가장 큰 ID(저장된 최근 메시지와 이 노드의 저장 대기 메시지 중 큰 값)를 넘지 않게 잘라서,
+ * 아직 오지 않은 메시지까지 읽은 것으로 처리되지 않게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatReadReceiptWriter {
+
+    // 읽음 위치 이후 상대방이 보낸 메시지 수 (trade_chat_room 별칭 r 기준, (room_id, message_id) 인덱스 범위 조회)
+    static final String SELLER_UNREAD_COUNT = """
+            (SELECT COUNT(*) FROM trade_chat_message m
+             WHERE m.room_id = r.chat_id
+               AND m.message_id > COALESCE(r.seller_last_read_message_id, 0)
+               AND m.sender_id <> r.seller_id)""";
+    static final String BUYER_UNREAD_COUNT = """
+            (SELECT COUNT(*) FROM trade_chat_message m
+             WHERE m.room_id = r.chat_id
+               AND m.message_id > COALESCE(r.buyer_last_read_message_id, 0)
+               AND m.sender_id <> r.buyer_id)""";
+
+    // 읽은 메시지 ID를 채팅방의 최근 메시지 ID와 저장 대기 메시지 ID 중 큰 값으로 제한 (읽은 ID, 저장 대기 최대 ID)
+    private static final String ACKED_MESSAGE_ID = "LEAST(?, GREATEST(COALESCE(r.last_message_id, 0), ?))";
+    // 읽음 위치는 앞으로만 이동
+    private static final String WATERMARK_SQL = """
+            UPDATE trade_chat_room r SET
+                seller_last_read_message_id = CASE
+                    WHEN r.seller_id = ? AND COALESCE(r.seller_last_read_message_id, 0) < %1$s THEN %1$s
+                    ELSE r.seller_last_read_message_id END,
+                buyer_last_read_message_id = CASE
+                    WHEN r.buyer_id = ? AND COALESCE(r.buyer_last_read_message_id, 0) < %1$s THEN %1$s
+                    ELSE r.buyer_last_read_message_id END
+            WHERE r.chat_id = ?
+            """.formatted(ACKED_MESSAGE_ID);
+    private static final String UNREAD_COUNT_SQL = """
+            UPDATE trade_chat_room r SET
+                seller_unread_count = %s,
+                buyer_unread_count = %s
+            WHERE r.chat_id = ?
+            """.formatted(SELLER_UNREAD_COUNT, BUYER_UNREAD_COUNT);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ChatMessageWriter chatMessageWriter;
+
+    private final Object lock = new Object();
+    private Map<ReadPosition, Long> pending = new HashMap<>();
+
+    // 참여자 검증은 호출하는 쪽에서
+    public void acknowledge(Long roomId, Long memberId, long messageId) {
+        if (messageId <= 0) {
+            return;
+        }
+        synchronized (lock) {
+            pending.merge(new ReadPosition(roomId, memberId), messageId, Math::max);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${custom.chat.read-ack.flush-interval-ms:1000}")
+    public void flush() {
+        Map<ReadPosition, Long> drained;
+        synchronized (lock) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            drained = pending;
+            pending = new HashMap<>();
+        }
+
+        try {
+            List<Object[]> watermarkArgs = new ArrayList<>(drained.size());
+            LongHashSet roomIds = new LongHashSet(drained.size());
+            drained.forEach((position, messageId) -> {
+                // 이 노드에서 보낸 메시지는 DB에 저장되기 전에도 읽을 수 있음
+                long pendingMax = chatMessageWriter.maxPendingId(position.roomId());
+                watermarkArgs.add(new Object[]{
+                        position.memberId(), messageId, pendingMax, messageId, pendingMax,
+                        position.memberId(), messageId, pendingMax, messageId, pendingMax,
+                        position.roomId()
+                });
+                roomIds.add(position.roomId());
+            });
+            List<Object[]> roomArgs = new ArrayList<>(roomIds.size());
+            roomIds.forEach(roomId -> roomArgs.add(new Object[]{roomId}));
+
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(WATERMARK_SQL, watermarkArgs);
+                jdbcTemplate.batchUpdate(UNREAD_COUNT_SQL, roomArgs);
+            });
+        } catch (RuntimeException e) {
+            // 실패한 읽음 위치는 다음 주기에 다시 저장 (더 큰 값이 들어왔으면 그 값 유지)
+            log.warn("채팅 읽음 위치 저장 실패 - {}건 재시도 예정", drained.size(), e);
+            synchronized (lock) {
+                drained.forEach((position, messageId) -> pending.merge(position, messageId, Math::max));
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private record ReadPosition(Long roomId, Long memberId) {
+
+    }
+}
@@ -0,0 +1,171 @@
+package org.example.backend.domain.tradechat.service;
+
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.example.backend.domain.tradechat.dto.QueuedChatMessage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 활성 채팅방별 최근 메시지 링 버퍼.
+ * 채팅방을 처음 열 때 DB와 저장 대기 메시지로 채우고, 이후 전송되는 메시지를 이어 붙여서
+ * 최근 메시지 조회는 DB를 거치지 않고 버퍼에서 처리한다.
+ * 버퍼는 가장 오래된 메시지 이후의 메시지를 빠짐없이 가지고 있으며, 채팅방 수가 한도를 넘으면 가장 오래 사용하지 않은 채팅방부터 제거한다.
+ * 다른 노드에서 보낸 메시지는 그 노드가 DB에 저장하기 전까지 이 노드의 DB 조회에 보이지 않으므로,
+ * 버퍼를 만든 뒤 settle-ms 가 지나서 시작한 DB 조회로 채워진 다음부터 버퍼를 사용한다.
+ */
+@Component
+public class ChatRecentMessageBuffer {
+
+    @Value("${custom.chat.recent-buffer.size:100}")
+    private int bufferSize;
+    @Value("${custom.chat.recent-buffer.max-rooms:1000}")
+    private int maxRooms;
+    // 저장 주기(custom.chat.flush-interval-ms)보다 충분히 길게
+    @Value("${custom.chat.recent-buffer.settle-ms:1000}")
+    private long settleMillis;
+
+    private Map<Long, RoomMessages> rooms;
+
+    @PostConstruct
+    void initRooms() {
+        rooms = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, RoomMessages> eldest) {
+                return size() > maxRooms;
+            }
+        };
+    }
+
+    public int bufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * before 이전 메시지 최대 limit 개 (ID 오름차순).
+     * 버퍼만으로 결과를 확정할 수 없으면 null (DB 조회 필요)
+     */
+    public List<QueuedChatMessage> find(Long roomId, Long before, int limit) {
+        RoomMessages messages;
+        synchronized (rooms) {
+            messages = rooms.get(roomId);
+        }
+        return messages == null ? null : messages.find(before, limit);
+    }
+
+    /**
+     * 채팅방 버퍼를 만들고(이미 있으면 그대로) 반환한다.
+     * 버퍼는 DB 조회 전에 만들어야 조회 도중 전송된 메시지가 버퍼에 쌓인다.
+     */
+    public RoomMessages open(Long roomId) {
+        synchronized (rooms) {
+            return rooms.computeIfAbsent(roomId,
+                    key -> new RoomMessages(bufferSize, System.currentTimeMillis() + settleMillis));
+        }
+    }
+
+    // 버퍼가 있는 채팅방에만 추가 (버퍼가 없으면 다음 조회 시 DB에서 채움)
+    public void append(QueuedChatMessage message) {
+        RoomMessages messages;
+        synchronized (rooms) {
+            messages = rooms.get(message.roomId());
+        }
+        if (messages != null) {
+            messages.add(message);
+        }
+    }
+
+    public static class RoomMessages {
+
+        private final QueuedChatMessage[] ring;
+        // 이 시각 이후에 시작한 DB 조회로 채워져야 버퍼 사용
+        private final long settledAt;
+        private int head;
+        private int count;
+        // 대기 시간 이후의 DB 조회로 채워졌는지 (채워지기 전에는 조회에 사용하지 않음)
+        private boolean loaded;
+        // DB에서 읽은 메시지가 채팅방의 전체 메시지였는지
+        private boolean loadedFromBeginning;
+        // 버퍼가 가득 차서 밀려난 메시지가 있는지
+        private boolean truncated;
+
+        RoomMessages(int capacity, long settledAt) {
+            this.ring = new QueuedChatMessage[capacity];
+            this.settledAt = settledAt;
+        }
+
+        /**
+         * DB에서 읽은 최근 메시지로 채운다.
+         * fromBeginning: 읽은 메시지가 채팅방의 전체 메시지인지, loadStartedAt: DB 조회 시작 시각
+         */
+        public synchronized void load(List<QueuedChatMessage> messages, boolean fromBeginning, long loadStartedAt) {
+            for (QueuedChatMessage message : messages) {
+                add(message);
+            }
+            if (!loaded && loadStartedAt >= settledAt) {
+                loadedFromBeginning = fromBeginning;
+                loaded = true;
+            }
+        }
+
+        synchronized List<QueuedChatMessage> find(Long before, int limit) {
+            if (!loaded) {
+                return null;
+            }
+
+            // before 보다 작은 마지막 위치
+            int end = count;
+            if (before != null) {
+                while (end > 0 && at(end - 1).messageId() >= before) {
+                    end--;
+                }
+            }
+            int start = Math.max(0, end - limit);
+            // 개수가 모자라도 채팅방의 첫 메시지부터 가지고 있으면 결과 확정
+            if (end - start < limit && (!loadedFromBeginning || truncated)) {
+                return null;
+            }
+
+            List<QueuedChatMessage> result = new ArrayList<>(end - start);
+            for (int i = start; i < end; i++) {
+                result.add(at(i));
+            }
+            return result;
+        }
+
+        // ID 순서를 유지하며 추가 (동시 전송이나 노드 간 전달 지연으로 순서가 바뀐 경우만 뒤에서부터 자리를 찾음)
+        synchronized void add(QueuedChatMessage message) {
+            long id = message.messageId();
+            int position = count;
+            while (position > 0 && at(position - 1).messageId() > id) {
+                position--;
+            }
+            if (position > 0 && at(position - 1).messageId() == id) {
+                return;
+            }
+
+            if (count == ring.length) {
+                // 가장 오래된 메시지를 밀어냄
+                truncated = true;
+                if (position == 0) {
+                    return;
+                }
+                head = (head + 1) % ring.length;
+                count--;
+                position--;
+            }
+            for (int i = count; i > position; i--) {
+                ring[(head + i) % ring.length] = at(i - 1);
+            }
+            ring[(head + position) % ring.length] = message;
+            count++;
+        }
+
+        private QueuedChatMessage at(int index) {
+            return ring[(head + index) % ring.length];
+        }
+    }
+}
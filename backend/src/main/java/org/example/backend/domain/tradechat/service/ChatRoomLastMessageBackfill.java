@@ -0,0 +1,50 @@
+package org.example.backend.domain.tradechat.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 최근 메시지/읽음 위치 컬럼이 추가되기 전에 만들어진 채팅방의 값을 채운다.
+ * 읽음 위치가 없는 기존 채팅방은 최근 메시지까지 읽은 것으로 본다.
+ * 이미 채워진 채팅방은 건드리지 않으므로 매 시작 시 실행해도 된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRoomLastMessageBackfill {
+
+    private static final String BACKFILL_SQL = """
+            UPDATE trade_chat_room r SET
+                last_message_id = (SELECT MAX(m.message_id) FROM trade_chat_message m WHERE m.room_id = r.chat_id),
+                last_message_at = COALESCE(
+                    (SELECT MAX(m.send_date) FROM trade_chat_message m WHERE m.room_id = r.chat_id),
+                    r.create_date)
+            WHERE r.last_message_at IS NULL
+            """;
+    private static final String READ_BACKFILL_SQL = """
+            UPDATE trade_chat_room SET
+                seller_last_read_message_id = COALESCE(last_message_id, 0),
+                buyer_last_read_message_id = COALESCE(last_message_id, 0),
+                seller_unread_count = 0,
+                buyer_unread_count = 0
+            WHERE seller_last_read_message_id IS NULL OR buyer_last_read_message_id IS NULL
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int updated = jdbcTemplate.update(BACKFILL_SQL);
+        if (updated > 0) {
+            log.info("채팅방 최근 메시지 정보 보정 - {}개", updated);
+        }
+        int readUpdated = jdbcTemplate.update(READ_BACKFILL_SQL);
+        if (readUpdated > 0) {
+            log.info("채팅방 읽음 위치 보정 - {}개", readUpdated);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package org.example.backend.domain.tradechat.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.example.backend.domain.tradechat.dto.ChatRoomParticipants;
+import org.example.backend.domain.tradechat.repository.TradeChatRoomRepository;
+import org.example.backend.global.cache.ExpiringLruCache;
+import org.example.backend.global.exception.BusinessException;
+import org.example.backend.global.exception.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅방 참여자 캐시.
+ * 채팅방의 판매자/구매자는 생성 후 바뀌지 않으므로 메시지마다 채팅방/회원을 조회하지 않고 캐시에서 검증한다.
+ * 닉네임 변경은 TTL 이 지나면 반영된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatRoomParticipantCache {
+
+    private final TradeChatRoomRepository chatRoomRepository;
+
+    @Value("${custom.chat.participant-cache.ttl-ms:600000}")
+    private long ttlMillis;
+    @Value("${custom.chat.participant-cache.max-size:10000}")
+    private int maxSize;
+
+    private ExpiringLruCache<Long, ChatRoomParticipants> cache;
+
+    @PostConstruct
+    void initCache() {
+        cache = new ExpiringLruCache<>(maxSize);
+    }
+
+    public ChatRoomParticipants get(Long roomId) {
+        ChatRoomParticipants cached = cache.get(roomId);
+        if (cached != null) {
+            return cached;
+        }
+
+        ChatRoomParticipants loaded = chatRoomRepository.findParticipants(roomId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.TRADE_CHAT_ROOM_NOT_FOUND));
+        cache.put(roomId, loaded, System.currentTimeMillis() + ttlMillis);
+        return loaded;
+    }
+
+    // 참여자가 아니면 예외
+    public ChatRoomParticipants getForParticipant(Long roomId, Long memberId) {
+        ChatRoomParticipants participants = get(roomId);
+        if (!participants.isParticipant(memberId)) {
+            throw new BusinessException(ErrorCode.FORBIDDEN_ACCESS);
+        }
+        return participants;
+    }
+}
@@ -0,0 +1,70 @@
+package org.example.backend.domain.tradechat.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import lombok.RequiredArgsConstructor;
+import org.example.backend.domain.tradechat.dto.QueuedChatMessage;
+import org.example.backend.domain.tradechat.dto.TradeChatMessageDto;
+import org.example.backend.global.websocketconfig.WebSocketConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 내장 브로커(simple) 모드의 클러스터 버스.
+ * 같은 JVM 안에서 같은 클러스터 이름(custom.chat.cluster.name)으로 참여한 노드들에 메시지를 직접 전달한다.
+ * 단일 서버 운영과, 한 JVM 에 애플리케이션 컨텍스트를 여러 개 띄워 다중 노드를 확인하는 로컬 테스트(외부 브로커 대역)에 사용한다.
+ * 클러스터 이름이 없으면 자기 자신에게만 전달한다.
+ */
+@Component
+@RequiredArgsConstructor
+// relay 가 아니면 모두 내장 브로커로 보는 WebSocketConfig 와 같은 기준 (잘못된 값은 WebSocketConfig 가 시작할 때 거부)
+@ConditionalOnExpression("!'${" + WebSocketConfig.BROKER_MODE_PROPERTY + ":" + WebSocketConfig.SIMPLE_MODE
+        + "}'.equalsIgnoreCase('" + WebSocketConfig.RELAY_MODE + "')")
+public class InProcessChatClusterBus implements ChatClusterBus {
+
+    private static final Map<String, List<InProcessChatClusterBus>> CLUSTERS = new ConcurrentHashMap<>();
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ChatRecentMessageBuffer recentMessageBuffer;
+    private final ChatMessageIdAllocator messageIdAllocator;
+
+    @Value("${custom.chat.cluster.name:}")
+    private String clusterName;
+
+    private List<InProcessChatClusterBus> nodes = List.of(this);
+
+    @PostConstruct
+    void join() {
+        if (!clusterName.isBlank()) {
+            nodes = CLUSTERS.computeIfAbsent(clusterName, name -> new CopyOnWriteArrayList<>());
+            nodes.add(this);
+        }
+    }
+
+    @PreDestroy
+    void leave() {
+        if (!clusterName.isBlank()) {
+            nodes.remove(this);
+        }
+    }
+
+    @Override
+    public void publish(QueuedChatMessage message) {
+        TradeChatMessageDto payload = TradeChatMessageDto.from(message);
+        for (InProcessChatClusterBus node : nodes) {
+            node.deliver(message, payload);
+        }
+    }
+
+    private void deliver(QueuedChatMessage message, TradeChatMessageDto payload) {
+        messageIdAllocator.observe(message.messageId());
+        recentMessageBuffer.append(message);
+        messagingTemplate.convertAndSend("/receive/" + message.roomId(), payload);
+    }
+}
@@ -6,68 +6,107 @@ import org.example.backend.domain.member.entity.Member;
 import org.example.backend.domain.member.repository.MemberRepository;
 import org.example.backend.domain.trade.entity.Trade;
 import org.example.backend.domain.trade.repository.TradeRepository;
+import org.example.backend.domain.tradechat.dto.ChatHistoryRequestDto;
+import org.example.backend.domain.tradechat.dto.ChatReadAckDto;
+import org.example.backend.domain.tradechat.dto.ChatRoomParticipants;
+import org.example.backend.domain.tradechat.dto.ChatTypingDto;
+import org.example.backend.domain.tradechat.dto.QueuedChatMessage;
 import org.example.backend.domain.tradechat.dto.TradeChatMessageDto;
 import org.example.backend.domain.tradechat.dto.TradeChatRoomDto;
 import org.example.backend.domain.tradechat.entity.ChatStatus;
-import org.example.backend.domain.tradechat.entity.TradeChatMessage;
 import org.example.backend.domain.tradechat.entity.TradeChatRoom;
 import org.example.backend.domain.tradechat.repository.TradeChatMessageRepository;
 import org.example.backend.domain.tradechat.repository.TradeChatRoomRepository;
+import org.example.backend.global.collection.LongHashSet;
 import org.example.backend.global.exception.BusinessException;
 import org.example.backend.global.exception.ErrorCode;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class TradeChatService {
 
+    // trade_chat_message.content 컬럼 길이 (문자 수)
+    static final int MAX_CONTENT_LENGTH = 255;
+
     private final TradeChatRoomRepository chatRoomRepository;
     private final TradeChatMessageRepository chatMessageRepository;
     private final TradeRepository tradeRepository;
     private final MemberRepository memberRepository;
-    private final SimpMessagingTemplate messagingTemplate;
-
-
-    // 메세지 전송
-    @Transactional
+    private final ChatRoomParticipantCache participantCache;
+    private final ChatMessageIdAllocator messageIdAllocator;
+    private final ChatMessageWriter chatMessageWriter;
+    private final ChatRecentMessageBuffer recentMessageBuffer;
+    private final ChatClusterBus clusterBus;
+    private final ChatPresenceTracker presenceTracker;
+    private final ChatReadReceiptWriter readReceiptWriter;
+
+
+    /*
+    메세지 전송
+        - 채팅방/발신자 조회 없이 참여자 캐시로 검증
+        - 저장할 수 없는 내용(빈 메시지, 컬럼 길이 초과)은 저널에 쓰기 전에 거절
+        - 저널 기록 후 바로 브로드캐스트하고 DB 저장은 ChatMessageWriter 가 모아서 처리
+     */
     public void sendMessage(Long roomId, TradeChatMessageDto request, Long memberId) {
-        TradeChatRoom room = chatRoomRepository.findById(roomId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.TRADE_CHAT_ROOM_NOT_FOUND));
-        // 클라이언트에서 받은 memberId로 발신자 조회
-        Member sender = memberRepository.findById(memberId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.TRADE_CHAT_SENDER_NOT_FOUND));
+        ChatRoomParticipants participants = participantCache.getForParticipant(roomId, memberId);
+        String content = request.content();
+        if (content == null || content.isBlank()
+                || content.codePointCount(0, content.length()) > MAX_CONTENT_LENGTH) {
+            throw new BusinessException(ErrorCode.TRADE_CHAT_MESSAGE_INVALID);
+        }
 
-        // 메세지 채팅 생성
-        TradeChatMessage message = TradeChatMessage.create(room, sender, request.content());
-        TradeChatMessage savedMessage = chatMessageRepository.save(message);
+        QueuedChatMessage message = new QueuedChatMessage(
+                messageIdAllocator.nextId(),
+                roomId,
+                memberId,
+                participants.nicknameOf(memberId),
+                content,
+                LocalDateTime.now()
+        );
+        chatMessageWriter.enqueue(message);
+
+        // 모든 노드의 구독자에게 브로드캐스트하고 최근 메시지 버퍼에 반영
+        // 저장 대기열에 넣은 뒤 버퍼에 추가해야 버퍼를 채우는 조회와 겹쳐도 메시지가 빠지지 않는다
+        clusterBus.publish(message);
+        presenceTracker.typing(roomId, memberId, false);
+    }
+
+    /*
+    입력 중 상태 변경
+        - 참여자 캐시로 검증
+        - 브로드캐스트는 ChatPresenceTracker 가 채팅방별로 모아서 주기적으로 처리
+     */
+    public void changeTyping(Long roomId, ChatTypingDto request, Long memberId) {
+        participantCache.getForParticipant(roomId, memberId);
+        presenceTracker.typing(roomId, memberId, request.typing());
+    }
 
-        // DB에 저장된 메시지를 DTO로 변환하여 브로드캐스트
-        TradeChatMessageDto messageDto = TradeChatMessageDto.from(savedMessage);
-        messagingTemplate.convertAndSend("/receive/" + roomId, messageDto);
+    /*
+    읽음 확인
+        - 참여자 캐시로 검증
+        - 읽음 위치 저장과 안 읽은 메시지 수 재계산은 ChatReadReceiptWriter 가 모아서 처리
+     */
+    public void acknowledgeRead(Long roomId, ChatReadAckDto request, Long memberId) {
+        participantCache.getForParticipant(roomId, memberId);
+        if (request.messageId() != null) {
+            readReceiptWriter.acknowledge(roomId, memberId, request.messageId());
+        }
     }
 
     // 로그인 사용자의 채팅방 목록 조회
     public List<TradeChatRoomDto> getMyChatRooms(Long id) {
 
-        // 현재 ONGOING 상태의 채팅방만 조회
+        // 현재 ONGOING 상태의 채팅방을 최근 메시지 시간 순으로 조회 (한 번의 쿼리)
         List<TradeChatRoom> rooms = chatRoomRepository.findAllWithMemberAndTrade(ChatStatus.ONGOING, id);
 
-        // 최근 메시지 시간 순으로 정렬
         return rooms.stream()
-                .sorted((r1, r2) -> {
-                    LocalDateTime date1 = chatRoomRepository.findLatestMessageDate(r1.getId());
-                    LocalDateTime date2 = chatRoomRepository.findLatestMessageDate(r2.getId());
-                    // 메시지가 없으면 채팅방 생성 시간 사용
-                    date1 = date1 != null ? date1 : r1.getCreateDate();
-                    date2 = date2 != null ? date2 : r2.getCreateDate();
-                    // 최신순 정렬 (내림차순)
-                    return date2.compareTo(date1);
-                })
-                .map(TradeChatRoomDto::from)
+                .map(room -> TradeChatRoomDto.from(room, id))
                 .toList();
     }
 
@@ -83,11 +122,13 @@ public class TradeChatService {
         return chatRoomRepository.findByTradeAndSellerIdAndBuyerId(trade, seller, buyer)
                 .map(TradeChatRoom::getId)
                 .orElseGet(() -> {
+                    LocalDateTime now = LocalDateTime.now();
                     TradeChatRoom newRoom = TradeChatRoom.builder()
                             .trade(trade)
                             .sellerId(seller)
                             .buyerId(buyer)
-                            .createDate(LocalDateTime.now())
+                            .createDate(now)
+                            .lastMessageAt(now)
                             .status(ChatStatus.ONGOING)
                             .build();
                     chatRoomRepository.save(newRoom);
@@ -108,25 +149,65 @@ public class TradeChatService {
             throw new BusinessException(ErrorCode.FORBIDDEN_ACCESS);
         }
 
-        return TradeChatRoomDto.from(room);
+        return TradeChatRoomDto.from(room, memberId);
     }
 
-    // 이전 채팅내역 조회
-    public List<TradeChatMessageDto> getMessages(Long roomId, Long memberId) {
-        TradeChatRoom room = chatRoomRepository.findById(roomId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.TRADE_CHAT_ROOM_NOT_FOUND));
-        Long sellerId = room.getSellerId().getMemberId();
-        Long buyerId = room.getBuyerId().getMemberId();
-
+    /*
+    이전 채팅내역 조회 (before 이전 메시지 limit 개, 오래된 순)
+        - 최근 메시지는 채팅방 링 버퍼에서 DB 조회 없이 응답
+        - 버퍼로 확정할 수 없으면 저장된 메시지와 저장 대기 메시지를 합쳐서 조회
+     */
+    @Transactional
+    public List<TradeChatMessageDto> getMessages(Long roomId, ChatHistoryRequestDto request, Long memberId) {
         // 현재 채팅방의 구매자, 판매자 아이디 모두 아닐 경우 접근 제한 (참여자 검증)
-        if (!sellerId.equals(memberId) && !buyerId.equals(memberId)) {
-            throw new BusinessException(ErrorCode.FORBIDDEN_ACCESS);
+        participantCache.getForParticipant(roomId, memberId);
+
+        List<QueuedChatMessage> messages = recentMessageBuffer.find(roomId, request.before(), request.limit());
+        if (messages == null) {
+            messages = request.isLatestPage()
+                    ? loadLatest(roomId, request.limit())
+                    : loadBefore(roomId, request.before(), request.limit());
         }
 
-        // 최신순이 위로가도록 정렬
-        List<TradeChatMessage> messages = chatMessageRepository.findByChatRoomOrderBySendDateAsc(room);
+        // 최근 메시지를 열었으면 마지막 메시지까지 읽음 처리
+        if (request.isLatestPage() && !messages.isEmpty()) {
+            readReceiptWriter.acknowledge(roomId, memberId, messages.get(messages.size() - 1).messageId());
+        }
         return messages.stream()
                 .map(TradeChatMessageDto::from)
                 .toList();
     }
+
+    // 최근 메시지를 읽어서 채팅방 버퍼를 채움 (버퍼를 먼저 만들어야 조회 중 전송된 메시지도 버퍼에 쌓인다)
+    private List<QueuedChatMessage> loadLatest(Long roomId, int limit) {
+        ChatRecentMessageBuffer.RoomMessages buffer = recentMessageBuffer.open(roomId);
+        int size = Math.max(limit, recentMessageBuffer.bufferSize());
+        long loadStartedAt = System.currentTimeMillis();
+        List<QueuedChatMessage> latest = loadBefore(roomId, Long.MAX_VALUE, size);
+        buffer.load(latest, latest.size() < size, loadStartedAt);
+        return latest.subList(Math.max(0, latest.size() - limit), latest.size());
+    }
+
+    private List<QueuedChatMessage> loadBefore(Long roomId, long before, int limit) {
+        // 저장 대기 메시지를 먼저 읽어야 조회 도중 저장이 끝난 메시지가 빠지지 않는다
+        List<QueuedChatMessage> pendingMessages = chatMessageWriter.pendingMessages(roomId);
+        List<QueuedChatMessage> savedMessages = chatMessageRepository.findPageBefore(
+                roomId, before, PageRequest.of(0, limit));
+
+        List<QueuedChatMessage> merged = new ArrayList<>(savedMessages.size() + pendingMessages.size());
+        LongHashSet savedIds = new LongHashSet(savedMessages.size());
+        for (QueuedChatMessage message : savedMessages) {
+            merged.add(message);
+            savedIds.add(message.messageId());
+        }
+        // 아직 저장되지 않은 메시지를 합침 (이미 저장된 메시지는 제외)
+        for (QueuedChatMessage pending : pendingMessages) {
+            if (pending.messageId() < before && !savedIds.contains(pending.messageId())) {
+                merged.add(pending);
+            }
+        }
+
+        merged.sort((a, b) -> Long.compare(a.messageId(), b.messageId()));
+        return merged.subList(Math.max(0, merged.size() - limit), merged.size());
+    }
 }
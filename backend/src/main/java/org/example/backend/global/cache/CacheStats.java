@@ -0,0 +1,14 @@
+package org.example.backend.global.cache;
+
+// 캐시 적중/미스 횟수와 현재 크기 (hitRate 는 0~1)
+public record CacheStats(
+    long hits,
+    long misses,
+    int size
+) {
+
+    public double hitRate() {
+        long total = hits + misses;
+        return total == 0 ? 0 : (double) hits / total;
+    }
+}
@@ -0,0 +1,9 @@
+package org.example.backend.global.cache;
+
+// 목록 전체 개수 (exact=false 이면 마지막 갱신 이후 변경이 반영되지 않았을 수 있는 근사값)
+public record CachedCount(
+    long count,
+    boolean exact
+) {
+
+}
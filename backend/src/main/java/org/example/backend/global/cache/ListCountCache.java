@@ -0,0 +1,239 @@
+package org.example.backend.global.cache;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.global.transaction.AfterCommit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 목록 페이지의 전체 개수(totalElements) 캐시.
+ * 키는 (그룹, 필터 시그니처) 조합이며 그룹은 "trade:FISH", "post:SHOWOFF" 처럼 도메인과 게시판 단위로 나눈다.
+ * - 필터가 없는 개수(시그니처 ALL)는 등록/삭제 시 증감으로 정확하게 유지한다.
+ * - 필터가 있는 개수는 변경 여부를 알 수 없으므로 근사값으로 표시하고, 근사값이 된 뒤 조회된 항목만 주기적으로 다시 센다.
+ * - idle-ms 동안 조회되지 않은 항목은 제거한다.
+ * 처음 세는 동안 들어온 증감도 놓치지 않도록 항목을 먼저 등록한 뒤 센다.
+ * 다시 세는 작업은 전용 가상 스레드에서 하므로 다른 스케줄 작업을 붙잡지 않는다.
+ */
+@Slf4j
+@Component
+public class ListCountCache {
+
+    public static final String ALL = "all";
+
+    private static final int MAX_ENTRIES = 1000;
+
+    // 접근 순서 기반 LRU (키워드 검색처럼 시그니처가 많아도 크기가 제한됨)
+    private final Map<String, Entry> entries = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    @Value("${custom.count-cache.idle-ms:600000}")
+    private long idleMillis;
+
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private final ExecutorService refresher = Executors.newSingleThreadExecutor(
+        Thread.ofVirtual().name("count-cache-refresh").factory());
+
+    public CachedCount get(String group, String signature, LongSupplier loader) {
+        String key = key(group, signature);
+
+        Entry entry;
+        boolean created = false;
+        synchronized (entries) {
+            entry = entries.get(key);
+            if (entry == null) {
+                // 세는 동안의 증감이 이 항목에 기록되도록 먼저 등록
+                entry = new Entry(group, signature, loader);
+                entries.put(key, entry);
+                created = true;
+            }
+        }
+
+        if (!created) {
+            CachedCount cached = entry.snapshot();
+            // 다른 요청이 아직 처음 세는 중이면 직접 센다 (저장은 하지 않음)
+            return cached != null ? cached : new CachedCount(loader.getAsLong(), true);
+        }
+
+        try {
+            return entry.load(true);
+        } catch (RuntimeException e) {
+            synchronized (entries) {
+                entries.remove(key, entry);
+            }
+            throw e;
+        }
+    }
+
+    // 목록 개수 캐시 키의 필터 시그니처 ("이름=값|이름=값", null 이나 빈 값은 빈 문자열)
+    public static String signature(Object... namesAndValues) {
+        StringBuilder signature = new StringBuilder();
+        for (int i = 0; i + 1 < namesAndValues.length; i += 2) {
+            Object value = namesAndValues[i + 1];
+            String text = value == null ? "" : value.toString();
+            if (i > 0) {
+                signature.append('|');
+            }
+            signature.append(namesAndValues[i]).append('=').append(text.isBlank() ? "" : text);
+        }
+        return signature.toString();
+    }
+
+    // 현재 트랜잭션 커밋 후 그룹 전체 개수를 증감하고, 필터 개수는 근사값으로 전환
+    public void adjustAfterCommit(String group, long delta) {
+        AfterCommit.run(() -> adjust(group, delta));
+    }
+
+    // 필터 조건(상태, 가격 등)에만 영향을 주는 변경
+    public void markApproximateAfterCommit(String group) {
+        AfterCommit.run(() -> adjust(group, 0));
+    }
+
+    @Scheduled(fixedDelayString = "${custom.count-cache.refresh-interval-ms:60000}")
+    public void refresh() {
+        if (refreshing.compareAndSet(false, true)) {
+            refresher.execute(() -> {
+                try {
+                    reloadStale();
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    // 오래 조회되지 않은 항목은 제거하고, 지난 갱신 이후 조회된 근사값 항목만 다시 센다 (전체 개수 포함)
+    void reloadStale() {
+        long idleBefore = System.currentTimeMillis() - idleMillis;
+        List<Entry> stale = new ArrayList<>();
+        synchronized (entries) {
+            Iterator<Entry> iterator = entries.values().iterator();
+            while (iterator.hasNext()) {
+                Entry entry = iterator.next();
+                if (entry.lastUsedBefore(idleBefore)) {
+                    iterator.remove();
+                } else if (entry.takeStale()) {
+                    stale.add(entry);
+                }
+            }
+        }
+
+        for (Entry entry : stale) {
+            try {
+                entry.load(false);
+            } catch (RuntimeException e) {
+                log.warn("개수 캐시 갱신 실패 - key: {}", key(entry.group, entry.signature), e);
+            }
+        }
+    }
+
+    private void adjust(String group, long delta) {
+        synchronized (entries) {
+            for (Entry entry : entries.values()) {
+                if (!entry.group.equals(group)) {
+                    continue;
+                }
+                if (ALL.equals(entry.signature)) {
+                    entry.add(delta);
+                } else {
+                    entry.markApproximate();
+                }
+            }
+        }
+    }
+
+    private static String key(String group, String signature) {
+        return group + "|" + signature;
+    }
+
+    private static class Entry {
+
+        private final String group;
+        private final String signature;
+        private final LongSupplier loader;
+
+        private long count;
+        private boolean exact = true;
+        // 처음 세기가 끝났는지
+        private boolean loaded;
+        private long version;
+        private long lastUsedAt = System.currentTimeMillis();
+        // 지난 갱신 이후 조회됐는지
+        private boolean used;
+
+        Entry(String group, String signature, LongSupplier loader) {
+            this.group = group;
+            this.signature = signature;
+            this.loader = loader;
+        }
+
+        // 아직 처음 세는 중이면 null
+        synchronized CachedCount snapshot() {
+            if (!loaded) {
+                return null;
+            }
+            lastUsedAt = System.currentTimeMillis();
+            used = true;
+            return new CachedCount(count, exact);
+        }
+
+        synchronized boolean lastUsedBefore(long time) {
+            return lastUsedAt < time;
+        }
+
+        // 근사값이면서 지난 갱신 이후 조회된 항목인지 (확인하면서 조회 표시는 초기화)
+        synchronized boolean takeStale() {
+            boolean stale = loaded && !exact && used;
+            used = false;
+            return stale;
+        }
+
+        synchronized void add(long delta) {
+            count = Math.max(count + delta, 0);
+            version++;
+        }
+
+        synchronized void markApproximate() {
+            exact = false;
+            version++;
+        }
+
+        // used: 조회 요청에서 센 경우 (갱신 작업에서 다시 센 것은 조회로 치지 않음)
+        CachedCount load(boolean used) {
+            long versionBeforeLoad;
+            synchronized (this) {
+                versionBeforeLoad = version;
+            }
+
+            long counted = loader.getAsLong();
+
+            synchronized (this) {
+                count = counted;
+                // 세는 동안 변경이 있었다면 반영 여부를 알 수 없으므로 근사값으로 두고 다음 갱신에서 다시 센다
+                exact = version == versionBeforeLoad;
+                this.used |= used;
+                loaded = true;
+                return new CachedCount(count, exact);
+            }
+        }
+    }
+}
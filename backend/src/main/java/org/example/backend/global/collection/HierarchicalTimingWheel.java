@@ -0,0 +1,169 @@
+package org.example.backend.global.collection;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongConsumer;
+
+/**
+ * long 키 타이머를 위한 계층형 타이밍 휠.
+ * 레벨마다 64칸이고 한 칸의 길이는 아래 레벨 한 바퀴와 같다 (레벨 0 한 칸 = tickMillis).
+ * 타이머는 남은 시간에 맞는 레벨의 칸에 넣고, 아래 레벨이 한 바퀴 돌 때마다 윗 레벨의 다음 칸을 아래로 내려 다시 배치한다.
+ * 등록/취소는 O(1)이고, advance 는 지난 틱 수만큼 칸을 넘기면서 만료된 타이머만 꺼낸다 (아래 레벨이 비어 있으면 다음 칸까지 건너뜀).
+ * 타이머는 만료 시각 이후 한 틱 안에 만료된다.
+ * 스레드 안전하지 않으므로 공유할 때는 외부에서 동기화해야 한다.
+ */
+public class HierarchicalTimingWheel {
+
+    private static final int BITS = 6;
+    private static final int SLOTS = 1 << BITS;
+    private static final int MASK = SLOTS - 1;
+    private static final int LEVELS = 6;
+    // 이보다 먼 타이머는 가장 윗 레벨에 두고 내려올 때마다 다시 배치
+    private static final long MAX_DELTA = (1L << (BITS * LEVELS)) - 1;
+
+    private final long tickMillis;
+    private final Node[][] buckets = new Node[LEVELS][SLOTS];
+    private final int[] levelSizes = new int[LEVELS];
+    private final Map<Long, Node> nodes = new HashMap<>();
+    // 아직 처리하지 않은 다음 틱
+    private long nextTick;
+
+    public HierarchicalTimingWheel(long tickMillis, long startMillis) {
+        this.tickMillis = tickMillis;
+        this.nextTick = Math.floorDiv(startMillis, tickMillis);
+    }
+
+    // 같은 키의 타이머가 있으면 교체 (이미 지난 시각이면 다음 advance 에서 만료)
+    public void schedule(long key, long deadlineMillis) {
+        cancel(key);
+        Node node = new Node(key, Math.max(-Math.floorDiv(-deadlineMillis, tickMillis), nextTick));
+        nodes.put(key, node);
+        place(node);
+    }
+
+    public boolean cancel(long key) {
+        Node node = nodes.remove(key);
+        if (node == null) {
+            return false;
+        }
+        unlink(node);
+        return true;
+    }
+
+    public boolean contains(long key) {
+        return nodes.containsKey(key);
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+
+    // nowMillis 까지 만료된 타이머를 꺼내서 전달 (꺼낸 타이머는 휠에서 제거)
+    public void advance(long nowMillis, LongConsumer expired) {
+        long nowTick = Math.floorDiv(nowMillis, tickMillis);
+        while (nextTick <= nowTick) {
+            int emptyLevels = 0;
+            while (emptyLevels < LEVELS && levelSizes[emptyLevels] == 0) {
+                emptyLevels++;
+            }
+            if (emptyLevels == LEVELS) {
+                nextTick = nowTick + 1;
+                return;
+            }
+            if (emptyLevels > 0) {
+                // 비어 있는 레벨에는 처리할 타이머가 없으므로 윗 레벨의 다음 칸이 내려오는 틱까지 건너뜀
+                int shift = BITS * emptyLevels;
+                long boundary = -Math.floorDiv(-nextTick, 1L << shift) << shift;
+                if (boundary > nowTick) {
+                    nextTick = nowTick + 1;
+                    return;
+                }
+                nextTick = boundary;
+            }
+
+            int index = (int) (nextTick & MASK);
+            if (index == 0) {
+                cascade();
+            }
+
+            Node node = buckets[0][index];
+            buckets[0][index] = null;
+            while (node != null) {
+                Node next = node.next;
+                levelSizes[0]--;
+                nodes.remove(node.key);
+                node.prev = node.next = null;
+                expired.accept(node.key);
+                node = next;
+            }
+            nextTick++;
+        }
+    }
+
+    // 아래 레벨이 한 바퀴 돌았으면 윗 레벨의 현재 칸을 꺼내서 다시 배치 (위 레벨도 한 바퀴 돌았으면 이어서)
+    private void cascade() {
+        for (int level = 1; level < LEVELS; level++) {
+            int index = (int) ((nextTick >>> (BITS * level)) & MASK);
+            Node node = buckets[level][index];
+            buckets[level][index] = null;
+            while (node != null) {
+                Node next = node.next;
+                levelSizes[level]--;
+                node.prev = node.next = null;
+                place(node);
+                node = next;
+            }
+            if (index != 0) {
+                return;
+            }
+        }
+    }
+
+    private void place(Node node) {
+        long dueTick = Math.min(node.dueTick, nextTick + MAX_DELTA);
+        long delta = dueTick - nextTick;
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= 1L << (BITS * (level + 1))) {
+            level++;
+        }
+        int index = (int) ((dueTick >>> (BITS * level)) & MASK);
+
+        node.level = level;
+        node.index = index;
+        node.prev = null;
+        node.next = buckets[level][index];
+        if (node.next != null) {
+            node.next.prev = node;
+        }
+        buckets[level][index] = node;
+        levelSizes[level]++;
+    }
+
+    private void unlink(Node node) {
+        levelSizes[node.level]--;
+        if (node.prev != null) {
+            node.prev.next = node.next;
+        } else if (buckets[node.level][node.index] == node) {
+            buckets[node.level][node.index] = node.next;
+        }
+        if (node.next != null) {
+            node.next.prev = node.prev;
+        }
+        node.prev = node.next = null;
+    }
+
+    private static class Node {
+
+        private final long key;
+        private final long dueTick;
+        private int level;
+        private int index;
+        private Node prev;
+        private Node next;
+
+        Node(long key, long dueTick) {
+            this.key = key;
+            this.dueTick = dueTick;
+        }
+    }
+}
@@ -30,6 +30,7 @@ public enum ErrorCode {
     TRADE_BOARD_TYPE_MISMATCH("T003", HttpStatus.BAD_REQUEST, "해당 게시판의 게시글이 아닙니다."),
     TRADE_OWNER_MISMATCH("T004", HttpStatus.FORBIDDEN, "게시글 작성자만 수정/삭제할 수 있습니다."),
     TRADE_ALREADY_SOLD("T005", HttpStatus.BAD_REQUEST, "해당 물픔은 이미 판매되었습니다."),
+    TRADE_CURSOR_INVALID("T006", HttpStatus.BAD_REQUEST, "유효하지 않은 커서입니다."),
     // ========== TradeComment 도메인 에러 ==========
     TRADE_COMMENT_NOT_FOUND("TC001", HttpStatus.NOT_FOUND, "존재하지 않는 댓글입니다."),
     TRADE_COMMENT_POST_MISMATCH("TC002", HttpStatus.BAD_REQUEST, "해당 게시글의 댓글이 아닙니다."),
@@ -73,6 +74,7 @@ public enum ErrorCode {
     TRADE_CHAT_SENDER_NOT_FOUND("TC002", HttpStatus.NOT_FOUND, "보낸 사용자가 존재하지 않습니다."),
     TRADE_CHAT_TRADE_NOT_FOUND("TC003", HttpStatus.NOT_FOUND, "거래글이 존재하지 않습니다."),
     TRADE_CHAT_BUYER_NOT_FOUND("TC004", HttpStatus.NOT_FOUND, "구매자가 존재하지 않습니다."),
+    TRADE_CHAT_MESSAGE_INVALID("TC005", HttpStatus.BAD_REQUEST, "메시지는 1자 이상 255자 이하로 입력해주세요."),
 
     // ========== Post 도메인 에러 ==========
     POST_FORBIDDEN_ACCESS("PS001", HttpStatus.FORBIDDEN, "비공개 글입니다.");
@@ -68,33 +68,33 @@ public class RequestContext {
         setCookie(name, null);
     }
 
-    // 현재 인증된 사용자 정보 가져오기
-    public Member getCurrentMember() {
+    // 현재 인증된 사용자의 비영속 회원 참조 (CustomUserDetails.getMemberRef)
+    public Member getCurrentMemberRef() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication == null || !(authentication.getPrincipal() instanceof CustomUserDetails)) {
             throw new ServiceException("401", "인증되지 않은 사용자입니다.", org.springframework.http.HttpStatus.UNAUTHORIZED);
         }
         
         CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
-        return userDetails.getMember();
+        return userDetails.getMemberRef();
     }
 
     // 편의 메서드들
     public Long getCurrentMemberId() {
-        return getCurrentMember().getMemberId();
+        return getCurrentMemberRef().getMemberId();
     }
 
     public String getCurrentMemberEmail() {
-        return getCurrentMember().getEmail();
+        return getCurrentMemberRef().getEmail();
     }
 
     public String getCurrentMemberNickname() {
-        return getCurrentMember().getNickname();
+        return getCurrentMemberRef().getNickname();
     }
 
     public boolean isAuthenticated() {
         try {
-            getCurrentMember();
+            getCurrentMemberRef();
             return true;
         } catch (ServiceException e) {
             return false;
@@ -7,11 +7,8 @@ import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
-import org.example.backend.domain.member.entity.Member;
-import org.example.backend.domain.member.repository.MemberRepository;
 import org.example.backend.domain.member.service.AuthTokenService;
 import org.example.backend.global.exception.BusinessException;
 import org.example.backend.global.exception.ErrorCode;
@@ -29,7 +26,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 public class CustomAuthenticationFilter extends OncePerRequestFilter {
 
     private final AuthTokenService authTokenService;
-    private final MemberRepository memberRepository;
+    private final PrincipalCache principalCache;
     private final RequestContext rq;
 
     @Override
@@ -108,15 +105,11 @@ public class CustomAuthenticationFilter extends OncePerRequestFilter {
 
         long id = (long) payload.get("id");
 
-        // 데이터베이스에서 실제 Member 조회
-        Optional<Member> optionalMember = memberRepository.findById(id);
-        if (optionalMember.isEmpty()) {
-            throw new BusinessException(ErrorCode.MEMBER_NOT_FOUND);
-        }
-
-        Member member = optionalMember.get();
+        // 회원 정보 조회 (캐시에 없을 때만 DB 조회)
+        MemberPrincipal principal = principalCache.find(id)
+            .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
 
-        UserDetails user = new CustomUserDetails(member);
+        UserDetails user = new CustomUserDetails(principal);
 
         Authentication authentication = new UsernamePasswordAuthenticationToken(
             user,
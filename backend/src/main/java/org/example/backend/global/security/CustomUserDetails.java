@@ -9,22 +9,33 @@ import org.springframework.security.core.userdetails.UserDetails;
 
 @Getter
 public class CustomUserDetails implements UserDetails {
-  private final Member member;
+  private final MemberPrincipal principal;
 
   public CustomUserDetails(Member member) {
-    this.member = member;
+    this(MemberPrincipal.from(member));
+  }
+
+  public CustomUserDetails(MemberPrincipal principal) {
+    this.principal = principal;
+  }
+
+  // 연관관계 지정/ID 비교용 비영속 회원 참조 (요청마다 새로 만들어 공유하지 않음)
+  // ID/이메일/닉네임/프로필 이미지만 채워져 있고 비밀번호와 포인트/팔로우 수 등은 비어 있으므로, 다른 값이 필요하면 DB에서 조회할 것
+  public Member getMemberRef() {
+    return Member.reference(principal.memberId(), principal.email(), principal.nickname(),
+        principal.profileImage());
   }
 
   public Long getId() {
-    return member.getMemberId();
+    return principal.memberId();
   }
 
   public String getEmail() {
-    return member.getEmail();
+    return principal.email();
   }
 
   public String getNickname() {
-    return member.getNickname();
+    return principal.nickname();
   }
 
   @Override
@@ -32,13 +43,14 @@ public class CustomUserDetails implements UserDetails {
     return List.of();
   }
 
+  // 인증은 JWT로 처리하므로 비밀번호는 보관하지 않는다
   @Override
   public String getPassword() {
-    return member.getPassword();
+    return null;
   }
 
   @Override
   public String getUsername() {
-    return member.getEmail();
+    return principal.email();
   }
 }
@@ -57,7 +57,8 @@ public class JwtUtil {
 
             SecretKey secretKey = Keys.hmacShaKeyFor(secretPattern.getBytes(StandardCharsets.UTF_8));
 
-            if(isValid(jwt, secretPattern)) {
+            // 검증과 클레임 조회를 한 번의 파싱으로 처리
+            try {
                 Claims claims = (Claims) Jwts
                     .parser()
                     .verifyWith(secretKey)
@@ -65,9 +66,9 @@ public class JwtUtil {
                     .parse(jwt)
                     .getPayload();
                 return new HashMap<>(claims);
+            } catch (Exception e) {
+                return null;
             }
-
-            return null;
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,88 @@
+package org.example.backend.global.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import org.example.backend.global.cache.CacheStats;
+import org.example.backend.global.cache.ExpiringLruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * JWT 서명 검증기.
+ * 서명 키와 파서를 한 번만 만들어 재사용하고, 토큰은 한 번만 파싱한다.
+ * 검증에 성공한 토큰의 클레임은 토큰 SHA-256 해시를 키로 만료 시각까지 캐시해
+ * 같은 토큰으로 들어오는 요청마다 HMAC 검증과 JSON 파싱을 반복하지 않는다.
+ */
+@Component
+public class JwtVerifier {
+
+    @Value("${custom.jwt.secretPattern}")
+    private String secretPattern;
+    @Value("${custom.jwt.verified-cache-size:10000}")
+    private int cacheSize;
+
+    private JwtParser parser;
+    private ExpiringLruCache<String, Map<String, Object>> verifiedClaims;
+
+    @PostConstruct
+    void init() {
+        parser = Jwts.parser()
+            .verifyWith(Keys.hmacShaKeyFor(secretPattern.getBytes(StandardCharsets.UTF_8)))
+            .build();
+        verifiedClaims = new ExpiringLruCache<>(cacheSize);
+    }
+
+    // 유효하지 않거나 만료된 토큰이면 null
+    public Map<String, Object> claimsOrNull(String jwt) {
+        if (jwt == null || jwt.isBlank()) {
+            return null;
+        }
+
+        String key = hash(jwt);
+        Map<String, Object> cached = verifiedClaims.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims;
+        try {
+            claims = parser.parseSignedClaims(jwt).getPayload();
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+
+        Map<String, Object> payload = Map.copyOf(new HashMap<>(claims));
+        Date expiration = claims.getExpiration();
+        // 만료 시각이 없는 토큰은 캐시하지 않음
+        if (expiration != null) {
+            verifiedClaims.put(key, payload, expiration.getTime());
+        }
+        return payload;
+    }
+
+    public CacheStats stats() {
+        return verifiedClaims.stats();
+    }
+
+    // 토큰 원문 대신 해시를 보관
+    private static String hash(String jwt) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                .digest(jwt.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.backend.global.security;
+
+import org.example.backend.domain.member.entity.Member;
+
+// 인증된 회원의 불변 스냅샷 (비밀번호는 보관하지 않음)
+public record MemberPrincipal(
+    Long memberId,
+    String email,
+    String nickname,
+    String profileImage
+) {
+
+    public static MemberPrincipal from(Member member) {
+        return new MemberPrincipal(
+            member.getMemberId(),
+            member.getEmail(),
+            member.getNickname(),
+            member.getProfileImage()
+        );
+    }
+}
@@ -0,0 +1,75 @@
+package org.example.backend.global.security;
+
+import jakarta.annotation.PostConstruct;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.domain.member.repository.MemberRepository;
+import org.example.backend.global.cache.CacheStats;
+import org.example.backend.global.cache.ExpiringLruCache;
+import org.example.backend.global.transaction.AfterCommit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인증 필터에서 사용하는 회원 정보 캐시.
+ * 요청마다 회원을 DB에서 다시 읽지 않도록 회원 ID별 스냅샷을 TTL 동안 보관하고,
+ * 회원 정보가 수정되면 커밋 후 해당 항목을 지운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PrincipalCache {
+
+    private final MemberRepository memberRepository;
+
+    @Value("${custom.auth.principal-cache.ttl-ms:60000}")
+    private long ttlMillis;
+    @Value("${custom.auth.principal-cache.max-size:10000}")
+    private int maxSize;
+
+    private ExpiringLruCache<Long, MemberPrincipal> cache;
+    private long lastLoggedRequests;
+
+    @PostConstruct
+    void initCache() {
+        cache = new ExpiringLruCache<>(maxSize);
+    }
+
+    public Optional<MemberPrincipal> find(Long memberId) {
+        MemberPrincipal cached = cache.get(memberId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        // 존재하지 않는 회원은 캐시하지 않음
+        Optional<MemberPrincipal> loaded = memberRepository.findById(memberId)
+            .map(MemberPrincipal::from);
+        loaded.ifPresent(principal -> cache.put(memberId, principal,
+            System.currentTimeMillis() + ttlMillis));
+        return loaded;
+    }
+
+    // 회원 정보 수정 커밋 후 캐시 제거
+    public void invalidateAfterCommit(Long memberId) {
+        AfterCommit.run(() -> cache.invalidate(memberId));
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    // 적중률 확인용 주기 로그 (요청이 없던 구간은 생략)
+    @Scheduled(fixedDelayString = "${custom.auth.principal-cache.stats-log-ms:300000}")
+    public void logStats() {
+        CacheStats stats = cache.stats();
+        long requests = stats.hits() + stats.misses();
+        if (requests == lastLoggedRequests) {
+            return;
+        }
+        lastLoggedRequests = requests;
+        log.info("인증 회원 캐시 - hit: {}, miss: {}, 적중률: {}%, 크기: {}", stats.hits(),
+            stats.misses(), Math.round(stats.hitRate() * 1000) / 10.0, stats.size());
+    }
+}
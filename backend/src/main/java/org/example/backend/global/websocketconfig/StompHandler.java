@@ -1,10 +1,10 @@
 package org.example.backend.global.websocketconfig;
 
 import lombok.RequiredArgsConstructor;
-import org.example.backend.domain.member.entity.Member;
-import org.example.backend.domain.member.repository.MemberRepository;
 import org.example.backend.domain.member.service.AuthTokenService;
 import org.example.backend.global.security.CustomUserDetails;
+import org.example.backend.global.security.MemberPrincipal;
+import org.example.backend.global.security.PrincipalCache;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.simp.stomp.StompCommand;
@@ -22,8 +22,11 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class StompHandler implements ChannelInterceptor {
 
+    // CONNECT 시 인증된 회원 ID (STOMP 세션 속성)
+    public static final String SESSION_MEMBER_ID = "memberId";
+
     private final AuthTokenService authTokenService;
-    private final MemberRepository memberRepository;
+    private final PrincipalCache principalCache;
 
     /*
     STOMP 메세지 전송 전 JWT 인증을 처리
@@ -55,18 +58,25 @@ public class StompHandler implements ChannelInterceptor {
 
             // 사용자 정보 조회
             Long memberId = ((Number) payload.get("id")).longValue();
-            Member member = memberRepository.findById(memberId)
+            MemberPrincipal principal = principalCache.find(memberId)
                     .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."));
 
             // 인증 객체를 SecurityContext에 저장
-            CustomUserDetails userDetails = new CustomUserDetails(member);
+            CustomUserDetails userDetails = new CustomUserDetails(principal);
             Authentication auth = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
             SecurityContextHolder.getContext().setAuthentication(auth);
 
             accessor.setUser(auth);
 
             // STOMP 세션에 memberId 저장 (이후 메시지 전송 시 사용)
-            accessor.getSessionAttributes().put("memberId", memberId);
+            accessor.getSessionAttributes().put(SESSION_MEMBER_ID, memberId);
+        }
+
+        // 노드 간 이벤트 목적지는 클라이언트가 구독/발행할 수 없음
+        if ((StompCommand.SUBSCRIBE.equals(accessor.getCommand()) || StompCommand.SEND.equals(accessor.getCommand()))
+                && accessor.getDestination() != null
+                && accessor.getDestination().startsWith(WebSocketConfig.CLUSTER_DESTINATION_PREFIX)) {
+            throw new IllegalArgumentException("허용되지 않은 경로입니다.");
         }
 
         return message;
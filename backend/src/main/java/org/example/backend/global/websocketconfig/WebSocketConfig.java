@@ -1,6 +1,8 @@
 package org.example.backend.global.websocketconfig;
 
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
@@ -13,14 +15,53 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 @RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    public static final String BROKER_MODE_PROPERTY = "custom.chat.broker.mode";
+    public static final String SIMPLE_MODE = "simple";
+    public static final String RELAY_MODE = "relay";
+    // 노드 간 이벤트 전달용 목적지 (클라이언트 구독 불가)
+    public static final String CLUSTER_DESTINATION_PREFIX = "/cluster";
+
     private final StompHandler stompHandler;
 
+    // simple: 서버 내장 브로커 (단일 노드), relay: 외부 STOMP 브로커(ActiveMQ 등)로 중계 (다중 노드)
+    @Value("${" + BROKER_MODE_PROPERTY + ":" + SIMPLE_MODE + "}")
+    private String brokerMode;
+    @Value("${custom.chat.broker.relay.host:localhost}")
+    private String relayHost;
+    @Value("${custom.chat.broker.relay.port:61613}")
+    private int relayPort;
+    @Value("${custom.chat.broker.relay.login:guest}")
+    private String relayLogin;
+    @Value("${custom.chat.broker.relay.passcode:guest}")
+    private String relayPasscode;
+
+    // 오타 등으로 잘못된 값이면 내장 브로커로 조용히 떨어지지 않도록 시작할 때 실패
+    @PostConstruct
+    void validateBrokerMode() {
+        if (!SIMPLE_MODE.equalsIgnoreCase(brokerMode) && !RELAY_MODE.equalsIgnoreCase(brokerMode)) {
+            throw new IllegalStateException(BROKER_MODE_PROPERTY + " 는 " + SIMPLE_MODE + " 또는 " + RELAY_MODE
+                    + " 이어야 합니다: " + brokerMode);
+        }
+    }
+
     /* 메세지 수신/발신 경로 지정
         - 채팅방 번호별로 구독 주소를 달리 해서 충돌 방지
+        - relay 모드에서는 구독/발행을 외부 브로커가 처리하므로 다른 노드에 연결된 참여자에게도 전달됨
+          (브로커는 /receive/{roomId} 같은 임의 목적지를 topic 으로 처리해야 함, 예: ActiveMQ Artemis STOMP acceptor)
      */
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
-        registry.enableSimpleBroker("/receive");  // 서버 -> 클라이언트
+        if (RELAY_MODE.equalsIgnoreCase(brokerMode)) {
+            registry.enableStompBrokerRelay("/receive", CLUSTER_DESTINATION_PREFIX)  // 서버 -> 클라이언트
+                    .setRelayHost(relayHost)
+                    .setRelayPort(relayPort)
+                    .setClientLogin(relayLogin)
+                    .setClientPasscode(relayPasscode)
+                    .setSystemLogin(relayLogin)
+                    .setSystemPasscode(relayPasscode);
+        } else {
+            registry.enableSimpleBroker("/receive");  // 서버 -> 클라이언트
+        }
         registry.setApplicationDestinationPrefixes("/send");         // 클라이언트 -> 서버
     }
 
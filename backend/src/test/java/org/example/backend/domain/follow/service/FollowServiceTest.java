@@ -0,0 +1,126 @@
+package org.example.backend.domain.follow.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.example.backend.domain.follow.repository.FollowRepository;
+import org.example.backend.domain.member.entity.Member;
+import org.example.backend.domain.member.repository.MemberRepository;
+import org.example.backend.global.exception.BusinessException;
+import org.example.backend.global.exception.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+// 동시 요청은 각자 트랜잭션을 커밋해야 하므로 테스트 트랜잭션으로 감싸지 않고 직접 정리한다
+@SpringBootTest
+@ActiveProfiles("test")
+public class FollowServiceTest {
+
+    private static final int THREADS = 4;
+
+    @Autowired
+    private FollowService followService;
+    @Autowired
+    private FollowRepository followRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private Member follower;
+    private Member followee;
+
+    @BeforeEach
+    void setUp() {
+        follower = memberRepository.save(Member.builder()
+            .email("follower@test.com")
+            .password("password")
+            .nickname("follower")
+            .build());
+        followee = memberRepository.save(Member.builder()
+            .email("followee@test.com")
+            .password("password")
+            .nickname("followee")
+            .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        followRepository.deleteAll(followRepository.findFollowersWithMemberInfo(followee.getMemberId()));
+        memberRepository.delete(follower);
+        memberRepository.delete(followee);
+    }
+
+    @Test
+    @DisplayName("t1: 같은 팔로우를 동시에 요청하면 하나만 성공하고 나머지는 F002, 팔로우 수는 1")
+    void t1_concurrentDuplicateFollowIsRejected() throws Exception {
+        List<Object> results = runConcurrently(
+            () -> followService.follow(follower.getMemberId(), followee.getMemberId()));
+
+        assertThat(results).filteredOn(result -> !(result instanceof BusinessException)).hasSize(1);
+        assertThat(results).filteredOn(BusinessException.class::isInstance)
+            .allSatisfy(result -> assertThat(((BusinessException) result).getErrorCode())
+                .isEqualTo(ErrorCode.FOLLOW_ALREADY_EXISTS));
+        assertFollowCounts(1);
+    }
+
+    @Test
+    @DisplayName("t2: 같은 언팔로우를 동시에 요청해도 팔로우 수는 한 번만 감소")
+    void t2_concurrentUnfollowDecrementsOnce() throws Exception {
+        followService.follow(follower.getMemberId(), followee.getMemberId());
+
+        List<Object> results = runConcurrently(
+            () -> followService.unfollow(follower.getMemberId(), followee.getMemberId()));
+
+        assertThat(results).filteredOn(result -> !(result instanceof BusinessException)).hasSize(1);
+        assertThat(results).filteredOn(BusinessException.class::isInstance)
+            .allSatisfy(result -> assertThat(((BusinessException) result).getErrorCode())
+                .isEqualTo(ErrorCode.FOLLOW_NOT_FOUND));
+        assertFollowCounts(0);
+    }
+
+    // 같은 요청을 THREADS 개 스레드에서 동시에 실행하고 결과 또는 BusinessException 을 모은다
+    private List<Object> runConcurrently(Callable<Object> request) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Object>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        return request.call();
+                    } catch (BusinessException e) {
+                        return e;
+                    }
+                }));
+            }
+            start.countDown();
+
+            List<Object> results = new ArrayList<>();
+            for (Future<Object> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void assertFollowCounts(long expected) {
+        assertThat(memberRepository.findById(follower.getMemberId()).orElseThrow()
+            .getFollowingCount()).isEqualTo(expected);
+        assertThat(memberRepository.findById(followee.getMemberId()).orElseThrow()
+            .getFollowerCount()).isEqualTo(expected);
+        assertThat(followRepository.countByFolloweeMemberId(followee.getMemberId())).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,178 @@
+package org.example.backend.domain.like.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.example.backend.domain.like.entity.Like;
+import org.example.backend.domain.like.repository.LikeRepository;
+import org.example.backend.domain.member.entity.Member;
+import org.example.backend.domain.member.repository.MemberRepository;
+import org.example.backend.domain.post.dto.PostWriteRequestDto;
+import org.example.backend.domain.post.entity.Post;
+import org.example.backend.domain.post.repository.PostRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 좋아요 트랜잭션의 커밋/롤백과 반영을 확인하므로 테스트 트랜잭션으로 감싸지 않고 직접 정리한다
+@SpringBootTest
+@ActiveProfiles("test")
+public class PostLikeCounterTest {
+
+    @Autowired
+    private PostLikeCounter postLikeCounter;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private LikeRepository likeRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final List<Member> members = new ArrayList<>();
+    private final List<Post> posts = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 2; i++) {
+            members.add(memberRepository.save(Member.builder()
+                .email("like" + i + "@test.com")
+                .password("password")
+                .nickname("like" + i)
+                .build()));
+        }
+        Member author = members.get(0);
+        for (int i = 0; i < 2; i++) {
+            posts.add(postRepository.save(new Post(new PostWriteRequestDto(
+                "게시글 " + i, "내용", Post.BoardType.SHOWOFF, List.of(), Post.Category.FISH), author)));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        postLikeCounter.flush();
+        for (Post post : posts) {
+            jdbcTemplate.update("DELETE FROM likes WHERE post_id = ?", post.getId());
+            jdbcTemplate.update("DELETE FROM post WHERE id = ?", post.getId());
+        }
+        members.forEach(memberRepository::delete);
+    }
+
+    @Test
+    @DisplayName("t1: 읽어 온 DB 값에 미반영 증감분을 한 번만 더해서 조회")
+    void t1_pendingDeltaIsAddedToStoredCount() {
+        Long postId = posts.get(0).getId();
+        setLikeCount(postId, 5);
+
+        postLikeCounter.register(postId, 1);
+        postLikeCounter.register(postId, 1);
+        postLikeCounter.register(postId, -1);
+        assertThat(postLikeCounter.currentCount(postId, likeCountOf(postId))).isEqualTo(6);
+
+        postLikeCounter.flush();
+        assertThat(likeCountOf(postId)).isEqualTo(6);
+        assertThat(postLikeCounter.currentCount(postId, likeCountOf(postId))).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("t2: DB 반영이 오래 걸려도 좋아요 등록과 조회는 기다리지 않음")
+    void t2_slowFlushDoesNotBlockLikesOrReads() throws Exception {
+        Long postId = posts.get(0).getId();
+        postLikeCounter.register(postId, 3);
+
+        // 다른 트랜잭션이 post 행을 잠가서 반영 UPDATE 가 기다리게 만든다
+        CountDownLatch locked = new CountDownLatch(1);
+        AtomicBoolean released = new AtomicBoolean();
+        CompletableFuture<Void> locker = CompletableFuture.runAsync(() ->
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.update("UPDATE post SET title = title WHERE id = ?", postId);
+                locked.countDown();
+                sleep(800);
+                released.set(true);
+            }));
+        assertThat(locked.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Void> flush = CompletableFuture.runAsync(postLikeCounter::flush);
+        sleep(200);
+
+        postLikeCounter.register(postId, 1);
+        assertThat(postLikeCounter.currentCount(postId, 0)).isEqualTo(4);
+        assertThat(released).isFalse();
+
+        locker.get(5, TimeUnit.SECONDS);
+        flush.get(5, TimeUnit.SECONDS);
+        postLikeCounter.flush();
+        assertThat(likeCountOf(postId)).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("t3: 좋아요 커밋과 증감분 반영 사이에 보정이 실행돼도 두 번 세지 않고, 다른 게시글은 보정")
+    void t3_reconcileBetweenCommitAndCallbackDoesNotDoubleCount() {
+        Post post = posts.get(0);
+        Long driftedPostId = posts.get(1).getId();
+        setLikeCount(driftedPostId, 7);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            // 이 트랜잭션 커밋 직후, 카운터의 커밋 처리보다 먼저 보정 실행
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int completionStatus) {
+                    CompletableFuture.runAsync(postLikeCounter::reconcile).join();
+                }
+            });
+            likeRepository.save(new Like(members.get(1), post));
+            postLikeCounter.register(post.getId(), 1);
+        });
+        postLikeCounter.flush();
+
+        assertThat(likeCountOf(post.getId())).isEqualTo(1);
+        assertThat(likeCountOf(driftedPostId)).isZero();
+    }
+
+    @Test
+    @DisplayName("t4: 롤백된 좋아요의 증감분은 반영하지 않음")
+    void t4_rolledBackDeltaIsDropped() {
+        Post post = posts.get(0);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            likeRepository.save(new Like(members.get(1), post));
+            postLikeCounter.register(post.getId(), 1);
+            status.setRollbackOnly();
+        });
+        postLikeCounter.flush();
+
+        assertThat(postLikeCounter.currentCount(post.getId(), likeCountOf(post.getId()))).isZero();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void setLikeCount(Long postId, int likeCount) {
+        jdbcTemplate.update("UPDATE post SET like_count = ? WHERE id = ?", likeCount, postId);
+    }
+
+    private int likeCountOf(Long postId) {
+        return jdbcTemplate.queryForObject("SELECT like_count FROM post WHERE id = ?", Integer.class,
+            postId);
+    }
+}
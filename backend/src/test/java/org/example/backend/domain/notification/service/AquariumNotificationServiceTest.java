@@ -0,0 +1,128 @@
+package org.example.backend.domain.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import org.example.backend.domain.aquarium.dto.AquariumReminderDto;
+import org.example.backend.domain.aquarium.entity.Aquarium;
+import org.example.backend.domain.aquarium.repository.AquariumRepository;
+import org.example.backend.domain.member.entity.Member;
+import org.example.backend.domain.member.repository.MemberRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.AopTestUtils;
+
+// 알림일 변경과 아웃박스 저장은 서비스가 직접 커밋하므로 테스트 트랜잭션으로 감싸지 않고 직접 정리한다
+@SpringBootTest
+@ActiveProfiles("test")
+public class AquariumNotificationServiceTest {
+
+    private static final int CYCLE_DAYS = 7;
+
+    @Autowired
+    private AquariumNotificationService notificationService;
+    @Autowired
+    private AquariumRepository aquariumRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Member member;
+    private Aquarium aquarium;
+    private LocalDateTime dueDate;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(Member.builder()
+            .email("reminder@test.com")
+            .password("password")
+            .nickname("reminder")
+            .build());
+        dueDate = LocalDateTime.now().minusHours(1).truncatedTo(ChronoUnit.SECONDS);
+        aquarium = new Aquarium(member, "알림 어항");
+        aquarium.changeSchedule(CYCLE_DAYS, dueDate.minusDays(CYCLE_DAYS), dueDate);
+        aquarium = aquariumRepository.save(aquarium);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM notification_outbox WHERE aquarium_id = ?", aquarium.getId());
+        aquariumRepository.deleteById(aquarium.getId());
+        memberRepository.delete(member);
+    }
+
+    @Test
+    @DisplayName("t1: 알림일이 도래한 어항은 다음 알림일을 넘기고 아웃박스에 한 번만 저장")
+    void t1_dueAquariumIsAdvancedAndQueuedOnce() {
+        Map<Long, LocalDateTime> nextDates = notificationService.enqueueReminders(List.of(aquarium.getId()));
+
+        LocalDateTime nextDate = storedNextDate();
+        assertThat(nextDate).isAfter(LocalDateTime.now().plusDays(CYCLE_DAYS - 1));
+        assertThat(nextDates).containsOnlyKeys(aquarium.getId());
+        assertThat(outboxDueDates()).containsExactly(dueDate);
+
+        // 이미 넘긴 알림일은 다시 처리하지 않음
+        notificationService.enqueueReminders(List.of(aquarium.getId()));
+
+        assertThat(storedNextDate()).isEqualTo(nextDate);
+        assertThat(outboxDueDates()).containsExactly(dueDate);
+    }
+
+    @Test
+    @DisplayName("t2: 조회한 알림일이 이미 바뀌었으면 (수정 건수 0) 아웃박스에 저장하지 않음")
+    void t2_staleDueDateIsSkipped() {
+        // 다른 노드/이전 실행이 조회 이후 알림일을 넘긴 상황
+        AquariumReminderDto stale = new AquariumReminderDto(aquarium.getId(), aquarium.getName(), CYCLE_DAYS,
+            dueDate.minusDays(CYCLE_DAYS), member.getEmail(), member.getNickname());
+
+        Map<Long, LocalDateTime> nextDates = target().enqueue(List.of(stale));
+
+        assertThat(nextDates).isEmpty();
+        assertThat(storedNextDate()).isEqualTo(dueDate);
+        assertThat(outboxDueDates()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("t3: 같은 어항/알림일의 메일이 이미 있으면 유니크 키로 막고 알림일 변경도 롤백")
+    void t3_duplicateOutboxRowRollsBackAdvance() {
+        jdbcTemplate.update("INSERT INTO notification_outbox (aquarium_id, due_date, recipient, subject, "
+                + "html_content, status, attempts, next_attempt_at, created_at, version) "
+                + "VALUES (?, ?, 'reminder@test.com', 'subject', 'body', 'PENDING', 0, ?, ?, 0)",
+            aquarium.getId(), Timestamp.valueOf(dueDate), Timestamp.valueOf(dueDate), Timestamp.valueOf(dueDate));
+        AquariumReminderDto due = new AquariumReminderDto(aquarium.getId(), aquarium.getName(), CYCLE_DAYS,
+            dueDate, member.getEmail(), member.getNickname());
+
+        assertThatThrownBy(() -> target().enqueue(List.of(due)))
+            .isInstanceOf(DataIntegrityViolationException.class);
+
+        assertThat(storedNextDate()).isEqualTo(dueDate);
+        assertThat(outboxDueDates()).containsExactly(dueDate);
+    }
+
+    private AquariumNotificationService target() {
+        return AopTestUtils.getTargetObject(notificationService);
+    }
+
+    private LocalDateTime storedNextDate() {
+        return jdbcTemplate.queryForObject("SELECT next_date FROM aquarium WHERE id = ?",
+            LocalDateTime.class, aquarium.getId());
+    }
+
+    private List<LocalDateTime> outboxDueDates() {
+        return jdbcTemplate.queryForList("SELECT due_date FROM notification_outbox WHERE aquarium_id = ?",
+            LocalDateTime.class, aquarium.getId());
+    }
+}
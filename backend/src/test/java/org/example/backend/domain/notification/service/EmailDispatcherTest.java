@@ -0,0 +1,95 @@
+package org.example.backend.domain.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.internet.MimeMessage;
+import java.util.ArrayList;
+import java.util.List;
+import org.example.backend.domain.notification.dto.EmailDispatchResult;
+import org.example.backend.domain.notification.dto.ReminderEmail;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class EmailDispatcherTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP.dynamicPort());
+
+    private JavaMailSenderImpl mailSender;
+    private EmailDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        mailSender = spy(new JavaMailSenderImpl());
+        mailSender.setHost("localhost");
+        mailSender.setPort(greenMail.getSmtp().getPort());
+
+        dispatcher = new EmailDispatcher(new EmailService(mailSender, new EmailTemplates()));
+        ReflectionTestUtils.setField(dispatcher, "concurrency", 4);
+        ReflectionTestUtils.setField(dispatcher, "ratePerSecond", 20d);
+        ReflectionTestUtils.setField(dispatcher, "burst", 2);
+        ReflectionTestUtils.setField(dispatcher, "maxAttempts", 3);
+        ReflectionTestUtils.setField(dispatcher, "backoffMillis", 10L);
+    }
+
+    @Test
+    @DisplayName("t1: 모든 메일 발송, 메일 서비스별로 초당 발송 수 제한")
+    void t1_dispatchesAllWithPerProviderRateLimit() {
+        List<ReminderEmail> emails = new ArrayList<>();
+        for (long i = 1; i <= 12; i++) {
+            emails.add(email(i, "user" + i + (i % 2 == 0 ? "@gmail.com" : "@naver.com")));
+        }
+
+        EmailDispatchResult result = dispatcher.dispatch(emails);
+
+        assertThat(result.sentIds()).hasSize(12);
+        assertThat(result.failedIds()).isEmpty();
+        assertThat(greenMail.getReceivedMessages()).hasSize(12);
+        // 도메인별 6건: 버킷에 쌓인 2건 이후 4건은 초당 20건 간격 (최소 200ms)
+        assertThat(result.elapsedMillis()).isGreaterThanOrEqualTo(190);
+    }
+
+    @Test
+    @DisplayName("t2: 일시적인 발송 실패는 재시도")
+    void t2_retriesTransientFailure() {
+        doThrow(new MailSendException("연결 실패"))
+            .doCallRealMethod()
+            .when(mailSender).send(any(MimeMessage.class));
+
+        EmailDispatchResult result = dispatcher.dispatch(List.of(email(1L, "user1@gmail.com")));
+
+        assertThat(result.sentIds()).containsExactly(1L);
+        assertThat(result.retries()).isEqualTo(1);
+        assertThat(greenMail.getReceivedMessages()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("t3: 재시도해도 같은 결과인 실패는 바로 실패 처리")
+    void t3_doesNotRetryPermanentFailure() {
+        doThrow(new MailAuthenticationException("인증 실패"))
+            .when(mailSender).send(any(MimeMessage.class));
+
+        EmailDispatchResult result = dispatcher.dispatch(List.of(email(1L, "user1@gmail.com")));
+
+        assertThat(result.failedIds()).containsExactly(1L);
+        assertThat(result.retries()).isZero();
+        verify(mailSender, times(1)).send(any(MimeMessage.class));
+    }
+
+    private static ReminderEmail email(Long id, String to) {
+        return new ReminderEmail(id, to, "어항 관리 알림 " + id, "<p>물 갈아 주세요</p>");
+    }
+}
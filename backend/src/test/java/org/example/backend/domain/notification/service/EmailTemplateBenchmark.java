@@ -0,0 +1,103 @@
+package org.example.backend.domain.notification.service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.springframework.core.io.ClassPathResource;
+
+/**
+ * 어항 알림 메일 본문 생성 마이크로벤치마크 (테스트 실행에는 포함되지 않음).
+ * 아웃박스 저장 한 묶음(chunk-size 500건)의 본문을 만드는 시간을 방식별로 잰다.
+ * - replace : 이전 방식 (템플릿 원문에 String.replace 를 자리표시자 수만큼)
+ * - render  : 메일마다 새 StringBuilder (EmailTemplate.render)
+ * - renderTo: 묶음 안에서 StringBuilder 하나를 재사용 (EmailService.prepareAquariumReminderEmails)
+ * JMH 가 없으므로 워밍업 후 여러 라운드를 돌려 가장 빠른 라운드의 메일당 시간을 출력한다.
+ * 한 JVM 에서 여러 방식을 번갈아 돌리면 JIT 프로파일이 섞이므로 방식마다 따로 실행한다.
+ * 실행: gradle emailTemplateBenchmark --args=renderTo (replace / render / renderTo)
+ */
+public class EmailTemplateBenchmark {
+
+    private static final int BATCH_SIZE = 500;
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int ROUNDS = 20;
+    private static final int BATCHES_PER_ROUND = 200;
+
+    public static void main(String[] args) throws IOException {
+        String mode = args.length > 0 ? args[0] : "renderTo";
+        String source = new ClassPathResource("templates/email/aquarium-reminder.html")
+            .getContentAsString(StandardCharsets.UTF_8);
+        EmailTemplate template = EmailTemplate.compile(EmailService.AQUARIUM_REMINDER_TEMPLATE, source);
+
+        List<Map<String, String>> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batch.add(Map.of(
+                "memberName", "물고기집사" + i,
+                "aquariumName", "거실 어항 " + i,
+                "cycleDate", String.valueOf(1 + i % 30),
+                "nextDate", "2025-03-" + (10 + i % 18),
+                "aquariumId", String.valueOf(1000 + i)));
+        }
+
+        // 세 방식의 결과가 같은지 먼저 확인
+        for (Map<String, String> values : batch) {
+            String replaced = replace(source, values);
+            if (!replaced.equals(template.render(values))
+                || !replaced.equals(renderTo(template, List.of(values)).get(0))) {
+                throw new IllegalStateException("렌더링 결과가 다름: " + values);
+            }
+        }
+
+        long sink = 0;
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            sink += run(mode, source, template, batch);
+        }
+
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            sink += run(mode, source, template, batch);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+
+        System.out.printf("%s : %.1f ns/email (sink %d)%n", mode,
+            best / ((double) BATCHES_PER_ROUND * BATCH_SIZE), sink);
+    }
+
+    private static long run(String mode, String source, EmailTemplate template, List<Map<String, String>> batch) {
+        long length = 0;
+        for (int i = 0; i < BATCHES_PER_ROUND; i++) {
+            List<String> bodies = switch (mode) {
+                case "replace" -> batch.stream().map(values -> replace(source, values)).toList();
+                case "render" -> batch.stream().map(template::render).toList();
+                case "renderTo" -> renderTo(template, batch);
+                default -> throw new IllegalArgumentException("알 수 없는 방식: " + mode);
+            };
+            length += bodies.get(i % bodies.size()).length();
+        }
+        return length;
+    }
+
+    // EmailService.prepareAquariumReminderEmails 와 같은 방식
+    private static List<String> renderTo(EmailTemplate template, List<Map<String, String>> batch) {
+        StringBuilder body = new StringBuilder(template.initialCapacity());
+        List<String> bodies = new ArrayList<>(batch.size());
+        for (Map<String, String> values : batch) {
+            body.setLength(0);
+            template.renderTo(body, values);
+            bodies.add(body.toString());
+        }
+        return bodies;
+    }
+
+    // 이전 EmailService.createEmailTemplate 방식
+    private static String replace(String source, Map<String, String> values) {
+        return source
+            .replace("{{memberName}}", values.get("memberName"))
+            .replace("{{aquariumName}}", values.get("aquariumName"))
+            .replace("{{cycleDate}}", values.get("cycleDate"))
+            .replace("{{nextDate}}", values.get("nextDate"))
+            .replace("{{aquariumId}}", values.get("aquariumId"));
+    }
+}
@@ -0,0 +1,72 @@
+package org.example.backend.domain.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+class EmailTemplateTest {
+
+    @Test
+    @DisplayName("t1: {{이름}} 자리표시자를 값으로 바꾸고, 닫히지 않은 {{ 는 그대로 둠")
+    void t1_compileAndRender() {
+        EmailTemplate template = EmailTemplate.compile("greeting",
+            "<p>{{ name }}님, {{count}}건 ({{name}})</p>{{unclosed");
+
+        assertThat(template.placeholders()).containsExactlyInAnyOrder("name", "count");
+        assertThat(template.render(Map.of("name", "철수", "count", "3")))
+            .isEqualTo("<p>철수님, 3건 (철수)</p>{{unclosed");
+
+        StringBuilder out = new StringBuilder("prefix:");
+        template.renderTo(out, Map.of("name", "영희", "count", "0"));
+        assertThat(out).hasToString("prefix:<p>영희님, 0건 (영희)</p>{{unclosed");
+    }
+
+    @Test
+    @DisplayName("t2: 값은 HTML 이스케이프하고 템플릿 원문은 그대로")
+    void t2_valuesAreHtmlEscaped() {
+        EmailTemplate template = EmailTemplate.compile("escape", "<a title=\"{{title}}\">{{body}}</a>");
+
+        assertThat(template.render(Map.of("title", "\"x\" & 'y'", "body", "<script>alert(1)</script>")))
+            .isEqualTo("<a title=\"&quot;x&quot; &amp; &#39;y&#39;\">&lt;script&gt;alert(1)&lt;/script&gt;</a>");
+    }
+
+    @Test
+    @DisplayName("t3: 자리표시자 값이 없으면 예외")
+    void t3_missingValueThrows() {
+        EmailTemplate template = EmailTemplate.compile("missing", "{{a}} {{b}}");
+
+        assertThatThrownBy(() -> template.render(Map.of("a", "1")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("missing")
+            .hasMessageContaining("b");
+    }
+
+    @Test
+    @DisplayName("t4: 어항 알림 템플릿 결과가 이전 방식(파일 읽기 + replace)과 바이트 단위로 같음")
+    void t4_matchesLegacyReplaceOutput() throws IOException {
+        String source = new ClassPathResource("templates/email/aquarium-reminder.html")
+            .getContentAsString(StandardCharsets.UTF_8);
+        Map<String, String> values = Map.of(
+            "memberName", "물고기집사",
+            "aquariumName", "거실 어항 🐟",
+            "cycleDate", "7",
+            "nextDate", "2025-03-08",
+            "aquariumId", "42");
+
+        String legacy = source
+            .replace("{{memberName}}", values.get("memberName"))
+            .replace("{{aquariumName}}", values.get("aquariumName"))
+            .replace("{{cycleDate}}", values.get("cycleDate"))
+            .replace("{{nextDate}}", values.get("nextDate"))
+            .replace("{{aquariumId}}", values.get("aquariumId"));
+        String rendered = EmailTemplate.compile("aquarium-reminder", source).render(values);
+
+        assertThat(rendered.getBytes(StandardCharsets.UTF_8)).isEqualTo(legacy.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,55 @@
+package org.example.backend.domain.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class EmailTemplatesTest {
+
+    @TempDir
+    Path templateDir;
+
+    @Test
+    @DisplayName("t1: 발송 코드에서 쓰는 템플릿이 모두 있고 자리표시자가 채우는 값과 같음")
+    void t1_requiredTemplatesAreLoaded() throws IOException {
+        EmailTemplates templates = new EmailTemplates();
+        templates.load();
+
+        assertThat(templates.get(EmailService.AQUARIUM_REMINDER_TEMPLATE).placeholders())
+            .isEqualTo(EmailTemplates.REQUIRED.get(EmailService.AQUARIUM_REMINDER_TEMPLATE));
+    }
+
+    @Test
+    @DisplayName("t2: 필수 템플릿 파일이 없으면 시작할 때 실패")
+    void t2_missingRequiredTemplateFailsAtStartup() throws IOException {
+        Files.writeString(templateDir.resolve("other.html"), "<p>{{name}}</p>");
+
+        assertThatThrownBy(() -> new EmailTemplates().load(location(),
+            Map.of("aquarium-reminder", Set.of("name"))))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("aquarium-reminder");
+    }
+
+    @Test
+    @DisplayName("t3: 필수 템플릿의 자리표시자가 채우는 값과 다르면 시작할 때 실패")
+    void t3_placeholderMismatchFailsAtStartup() throws IOException {
+        Files.writeString(templateDir.resolve("aquarium-reminder.html"), "<p>{{memberNmae}}</p>");
+
+        assertThatThrownBy(() -> new EmailTemplates().load(location(),
+            Map.of("aquarium-reminder", Set.of("memberName"))))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("memberNmae");
+    }
+
+    private String location() {
+        return templateDir.toUri() + "*.html";
+    }
+}
@@ -0,0 +1,125 @@
+package org.example.backend.domain.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.example.backend.domain.notification.dto.ReminderEmail;
+import org.example.backend.domain.notification.entity.NotificationOutbox;
+import org.example.backend.domain.notification.entity.OutboxStatus;
+import org.example.backend.domain.notification.repository.NotificationOutboxRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+// 가져가기와 결과 기록은 각자 트랜잭션을 커밋하므로 테스트 트랜잭션으로 감싸지 않고 직접 정리한다
+@SpringBootTest
+@ActiveProfiles("test")
+public class NotificationOutboxStoreTest {
+
+    private static final long LEASE_MILLIS = 60_000;
+
+    @Autowired
+    private NotificationOutboxStore outboxStore;
+    @Autowired
+    private NotificationOutboxRepository outboxRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${custom.mail.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    private long nextAquariumId = 1;
+
+    @AfterEach
+    void tearDown() {
+        outboxRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("t1: 가져간 메일은 임대 동안 다시 가져가지 않고, 임대가 끝나면 다시 가져감")
+    void t1_claimLeasesUntilLeaseExpires() {
+        Long id = insert(0, LocalDateTime.now().minusSeconds(1));
+
+        List<ReminderEmail> claimed = outboxStore.claim(10, LEASE_MILLIS);
+
+        assertThat(claimed).extracting(ReminderEmail::id).containsExactly(id);
+        NotificationOutbox leased = outboxRepository.findById(id).orElseThrow();
+        assertThat(leased.getAttempts()).isEqualTo(1);
+        assertThat(leased.getNextAttemptAt()).isAfter(LocalDateTime.now().plusSeconds(30));
+        assertThat(outboxStore.claim(10, LEASE_MILLIS)).isEmpty();
+
+        // 결과를 기록하지 못한 채 임대가 끝난 상황
+        expireLease(id);
+        assertThat(outboxStore.claim(10, LEASE_MILLIS)).extracting(ReminderEmail::id).containsExactly(id);
+        assertThat(outboxRepository.findById(id).orElseThrow().getAttempts()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("t2: 발송 성공은 SENT, 실패는 재시도 대기, 가져간 횟수를 다 쓴 실패는 FAILED")
+    void t2_completeRecordsSentAndFailed() {
+        Long sent = insert(0, LocalDateTime.now().minusSeconds(1));
+        Long retry = insert(0, LocalDateTime.now().minusSeconds(1));
+        Long exhausted = insert(maxAttempts - 1, LocalDateTime.now().minusSeconds(1));
+        outboxStore.claim(10, LEASE_MILLIS);
+
+        outboxStore.complete(List.of(sent), List.of(retry, exhausted));
+
+        NotificationOutbox sentRow = outboxRepository.findById(sent).orElseThrow();
+        assertThat(sentRow.getStatus()).isEqualTo(OutboxStatus.SENT);
+        assertThat(sentRow.getSentAt()).isNotNull();
+        NotificationOutbox retryRow = outboxRepository.findById(retry).orElseThrow();
+        assertThat(retryRow.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(retryRow.getNextAttemptAt()).isAfter(LocalDateTime.now());
+        assertThat(outboxRepository.findById(exhausted).orElseThrow().getStatus()).isEqualTo(OutboxStatus.FAILED);
+    }
+
+    @Test
+    @DisplayName("t3: 결과가 기록되지 않은 채 가져간 횟수를 다 쓴 메일은 다시 가져가지 않고 FAILED")
+    void t3_unrecordedExhaustedRowIsFailedAtClaim() {
+        Long exhausted = insert(maxAttempts, LocalDateTime.now().minusSeconds(1));
+        Long ready = insert(maxAttempts - 1, LocalDateTime.now().minusSeconds(1));
+
+        List<ReminderEmail> claimed = outboxStore.claim(10, LEASE_MILLIS);
+
+        assertThat(claimed).extracting(ReminderEmail::id).containsExactly(ready);
+        assertThat(outboxRepository.findById(exhausted).orElseThrow().getStatus()).isEqualTo(OutboxStatus.FAILED);
+
+        // 마지막 임대도 결과 없이 끝나면 실패 처리
+        expireLease(ready);
+        assertThat(outboxStore.claim(10, LEASE_MILLIS)).isEmpty();
+        assertThat(outboxRepository.findById(ready).orElseThrow().getStatus()).isEqualTo(OutboxStatus.FAILED);
+    }
+
+    private Long insert(int attempts, LocalDateTime nextAttemptAt) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        long aquariumId = nextAquariumId++;
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement("INSERT INTO notification_outbox (aquarium_id, due_date, "
+                + "recipient, subject, html_content, status, attempts, next_attempt_at, created_at, version) "
+                + "VALUES (?, ?, 'outbox@test.com', 'subject', 'body', 'PENDING', ?, ?, ?, 0)", new String[]{"outbox_id"});
+            statement.setLong(1, aquariumId);
+            statement.setTimestamp(2, now);
+            statement.setInt(3, attempts);
+            statement.setTimestamp(4, Timestamp.valueOf(nextAttemptAt));
+            statement.setTimestamp(5, now);
+            return statement;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+
+    private void expireLease(Long id) {
+        jdbcTemplate.update("UPDATE notification_outbox SET next_attempt_at = ? WHERE outbox_id = ?",
+            Timestamp.valueOf(LocalDateTime.now().minusSeconds(1)), id);
+    }
+}
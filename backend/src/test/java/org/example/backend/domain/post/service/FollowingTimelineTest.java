@@ -0,0 +1,126 @@
+package org.example.backend.domain.post.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.example.backend.domain.follow.repository.FollowRepository;
+import org.example.backend.domain.follow.service.FollowGraph;
+import org.example.backend.domain.member.repository.MemberRepository;
+import org.example.backend.domain.post.entity.Post.BoardType;
+import org.example.backend.domain.post.entity.Post.Displaying;
+import org.example.backend.domain.post.repository.PostRepository;
+import org.example.backend.domain.post.service.FollowingTimeline.TimelinePage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.OngoingStubbing;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class FollowingTimelineTest {
+
+    private static final Long FOLLOWER_ID = 1L;
+    private static final Long AUTHOR_ID = 2L;
+    private static final BoardType BOARD = BoardType.SHOWOFF;
+
+    private final PostRepository postRepository = mock(PostRepository.class);
+    private final FollowRepository followRepository = mock(FollowRepository.class);
+    private final FollowingTimeline timeline = new FollowingTimeline(postRepository,
+        followRepository, mock(FollowGraph.class), mock(MemberRepository.class),
+        new TransactionTemplate(mock(PlatformTransactionManager.class)));
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(timeline, "capacity", 3);
+        ReflectionTestUtils.setField(timeline, "fanOutThreshold", 1000L);
+        ReflectionTestUtils.setField(timeline, "maxCached", 100);
+        timeline.initTimelines();
+        timeline.init();
+        when(followRepository.findFollowerIds(AUTHOR_ID)).thenReturn(List.of(FOLLOWER_ID));
+    }
+
+    @Test
+    @DisplayName("t1: 타임라인을 만드는 DB 조회 중에 커밋된 작성/삭제도 반영")
+    void t1_changesCommittedDuringBuildAreKept() {
+        whenBuildQuery().thenAnswer(invocation -> {
+            // 조회 결과에는 없지만 등록 전에 커밋된 글과 조회 결과에 있지만 그 사이 삭제된 글
+            timeline.onPostCreatedAfterCommit(AUTHOR_ID, BOARD, 30L);
+            timeline.onPostDeletedAfterCommit(AUTHOR_ID, BOARD, 20L);
+            return List.of(20L, 10L);
+        });
+
+        assertThat(read(0, 3).postIds()).containsExactly(30L, 10L);
+    }
+
+    @Test
+    @DisplayName("t2: 만드는 중인 타임라인을 조회하면 DB 조회 없이 완성될 때까지 대기")
+    void t2_concurrentReaderWaitsForBuild() throws Exception {
+        CountDownLatch building = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        whenBuildQuery().thenAnswer(invocation -> {
+            building.countDown();
+            assertThat(release.await(5, TimeUnit.SECONDS)).isTrue();
+            return List.of(10L);
+        });
+
+        CompletableFuture<TimelinePage> builder = CompletableFuture.supplyAsync(() -> read(0, 3));
+        assertThat(building.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<TimelinePage> waiter = CompletableFuture.supplyAsync(() -> read(0, 3));
+        timeline.onPostCreatedAfterCommit(AUTHOR_ID, BOARD, 20L);
+        release.countDown();
+
+        assertThat(builder.get(5, TimeUnit.SECONDS).postIds()).containsExactly(20L, 10L);
+        assertThat(waiter.get(5, TimeUnit.SECONDS).postIds()).containsExactly(20L, 10L);
+        verify(postRepository, times(1)).findIdsByBoardTypeAndDisplayingAndAuthorIds(eq(BOARD),
+            eq(Displaying.PUBLIC), anyList(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("t3: 만들기에 실패한 타임라인은 남기지 않고 다음 조회에서 다시 만듦")
+    void t3_failedBuildIsNotCached() {
+        whenBuildQuery()
+            .thenThrow(new IllegalStateException("db down"))
+            .thenReturn(List.of(10L));
+
+        assertThatThrownBy(() -> read(0, 3)).isInstanceOf(IllegalStateException.class);
+        assertThat(read(0, 3).postIds()).containsExactly(10L);
+    }
+
+    @Test
+    @DisplayName("t4: 용량을 넘으면 오래된 글부터 밀려나고, 보관 범위를 넘는 페이지는 DB 조회로 넘김")
+    void t4_capacityTruncatesOldestAndFallsBack() {
+        whenBuildQuery().thenReturn(List.of(20L, 10L));
+        assertThat(read(0, 3).exact()).isTrue();
+
+        timeline.onPostCreatedAfterCommit(AUTHOR_ID, BOARD, 30L);
+        timeline.onPostCreatedAfterCommit(AUTHOR_ID, BOARD, 40L);
+
+        TimelinePage page = read(1, 2);
+        assertThat(page.postIds()).containsExactly(30L, 20L);
+        assertThat(page.totalCount()).isEqualTo(3);
+        assertThat(page.exact()).isFalse();
+        assertThat(read(2, 2)).isNull();
+    }
+
+    private OngoingStubbing<List<Long>> whenBuildQuery() {
+        return when(postRepository.findIdsByBoardTypeAndDisplayingAndAuthorIds(eq(BOARD),
+            eq(Displaying.PUBLIC), anyList(), any(Pageable.class)));
+    }
+
+    private TimelinePage read(int offset, int size) {
+        return timeline.read(FOLLOWER_ID, BOARD, List.of(AUTHOR_ID), offset, size);
+    }
+}
@@ -0,0 +1,90 @@
+package org.example.backend.domain.trade.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.zip.CRC32;
+import org.example.backend.domain.trade.entity.Trade;
+import org.example.backend.domain.trade.enums.BoardType;
+import org.example.backend.domain.trade.enums.TradeStatus;
+import org.example.backend.global.exception.BusinessException;
+import org.example.backend.global.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class TradeCursorTest {
+
+    private static final LocalDateTime CREATE_DATE = LocalDateTime.of(2025, 3, 1, 10, 30, 15, 123_000);
+
+    @Test
+    @DisplayName("t1: 정렬 기준별로 인코딩한 커서를 그대로 디코딩")
+    void t1_encodeDecodeRoundTrip() {
+        Trade trade = trade(42L, 15000L);
+
+        TradeCursor latest = TradeCursor.decode(TradeCursor.of("latest", trade).encode());
+        assertThat(latest).isEqualTo(new TradeCursor("latest", CREATE_DATE.toString(), 42L));
+        assertThat(((KeysetScrollPosition) latest.toScrollPosition()).getKeys())
+            .containsEntry("createDate", CREATE_DATE)
+            .containsEntry("tradeId", 42L);
+
+        TradeCursor priceAsc = TradeCursor.decode(TradeCursor.of("price-asc", trade).encode());
+        assertThat(priceAsc).isEqualTo(new TradeCursor("price-asc", "15000", 42L));
+        assertThat(((KeysetScrollPosition) priceAsc.toScrollPosition()).getKeys())
+            .containsEntry("price", 15000L)
+            .containsEntry("tradeId", 42L);
+    }
+
+    @Test
+    @DisplayName("t2: 수정되거나 잘린 커서는 T006")
+    void t2_tamperedCursorIsRejected() {
+        String token = TradeCursor.of("latest", trade(22L, 15000L)).encode();
+        String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+
+        assertInvalid("not base64!");
+        assertInvalid(token + "x");
+        assertInvalid(token.substring(0, token.length() - 2));
+        assertInvalid(encodeRaw(decoded.replace("|22|", "|23|")));
+        assertInvalid(encodeRaw("latest|" + CREATE_DATE + "|22"));
+    }
+
+    @Test
+    @DisplayName("t3: 체크섬이 맞아도 형식이 맞지 않으면 T006")
+    void t3_malformedCursorIsRejected() {
+        assertInvalid(encode("latest|" + CREATE_DATE));
+        assertInvalid(encode("latest|2025-13-01T00:00|1"));
+        assertInvalid(encode("price-asc|abc|1"));
+        assertInvalid(encode("price-desc|1000|1 OR 1=1"));
+        assertInvalid(encode("latest|" + CREATE_DATE + "|"));
+    }
+
+    private static void assertInvalid(String token) {
+        assertThatThrownBy(() -> TradeCursor.decode(token))
+            .isInstanceOf(BusinessException.class)
+            .extracting(e -> ((BusinessException) e).getErrorCode())
+            .isEqualTo(ErrorCode.TRADE_CURSOR_INVALID);
+    }
+
+    // 올바른 체크섬을 붙여서 인코딩
+    private static String encode(String raw) {
+        CRC32 crc = new CRC32();
+        crc.update(raw.getBytes(StandardCharsets.UTF_8));
+        return encodeRaw(raw + "|" + Long.toHexString(crc.getValue()));
+    }
+
+    private static String encodeRaw(String raw) {
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Trade trade(Long id, Long price) {
+        Trade trade = new Trade(null, BoardType.SECONDHAND, "어항", "설명", price,
+            TradeStatus.SELLING, "어항", CREATE_DATE);
+        ReflectionTestUtils.setField(trade, "tradeId", id);
+        return trade;
+    }
+}
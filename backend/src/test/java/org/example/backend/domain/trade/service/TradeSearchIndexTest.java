@@ -0,0 +1,193 @@
+package org.example.backend.domain.trade.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.example.backend.domain.member.repository.MemberRepository;
+import org.example.backend.domain.trade.dto.TradeSearchDocument;
+import org.example.backend.domain.trade.dto.TradeSearchRequestDto;
+import org.example.backend.domain.trade.entity.Trade;
+import org.example.backend.domain.trade.enums.BoardType;
+import org.example.backend.domain.trade.enums.TradeStatus;
+import org.example.backend.domain.trade.repository.TradeRepository;
+import org.example.backend.global.cache.CachedCount;
+import org.example.backend.global.cache.ListCountCache;
+import org.example.backend.global.image.ImageService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class TradeSearchIndexTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    private final TradeRepository tradeRepository = mock(TradeRepository.class);
+    private final TradeSearchIndex index = new TradeSearchIndex(tradeRepository);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("t1: 부분 일치/한 글자/대소문자는 LIKE 와 같게, 필드 경계를 넘는 일치는 제외")
+    void t1_tokenizationMatchesLikeSemantics() {
+        rebuildWith(List.of(
+            document(1L, "구피 분양합니다", "건강한 수컷 구피", "열대어"),
+            document(2L, "Betta Fish", "하프문 베타", "열대어"),
+            document(3L, "어항", "수초 어항 세트", "용품")));
+
+        assertThat(search("구피")).containsExactly(1L);
+        assertThat(search("피 분")).containsExactly(1L);
+        assertThat(search("betta")).containsExactly(2L);
+        assertThat(search("BETTA FI")).containsExactly(2L);
+        assertThat(search("어")).containsExactly(1L, 2L, 3L);
+        // 제목 "어항" 과 설명 "수초" 사이는 필드 경계
+        assertThat(search("항수")).isEmpty();
+        assertThat(search("상어")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("t2: 등록/수정/삭제는 커밋 후에만 반영, 롤백되면 반영하지 않음")
+    void t2_changesAreAppliedAfterCommit() {
+        rebuildWith(List.of(document(1L, "구피", "설명", "열대어")));
+
+        TransactionSynchronizationManager.initSynchronization();
+        index.indexAfterCommit(trade(2L, "베타 분양", "설명"));
+        index.indexAfterCommit(trade(1L, "몰리", "설명"));
+        assertThat(search("베타")).isEmpty();
+        assertThat(search("구피")).containsExactly(1L);
+
+        commit();
+        assertThat(search("베타")).containsExactly(2L);
+        assertThat(search("구피")).isEmpty();
+        assertThat(search("몰리")).containsExactly(1L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        index.removeAfterCommit(2L);
+        rollback();
+        assertThat(search("베타")).containsExactly(2L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        index.removeAfterCommit(2L);
+        commit();
+        assertThat(search("베타")).isEmpty();
+        assertThat(search("분양")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("t3: 재구성은 ID 구간별로 나눠 읽고, 재구성 중 변경도 새 인덱스에 반영")
+    void t3_chunkedRebuildKeepsConcurrentChanges() {
+        List<TradeSearchDocument> first = new ArrayList<>();
+        for (long id = 1; id <= 1000; id++) {
+            first.add(document(id, "거래 " + id, "설명", "기타"));
+        }
+        List<Long> lastIds = new ArrayList<>();
+        when(tradeRepository.findSearchDocumentsAfter(anyLong(), any(Pageable.class))).thenAnswer(
+            invocation -> {
+                Long lastId = invocation.getArgument(0);
+                lastIds.add(lastId);
+                if (lastId == 0L) {
+                    // 재구성 도중 커밋된 변경
+                    index.indexAfterCommit(trade(5000L, "재구성 중 등록", "설명"));
+                    index.removeAfterCommit(3L);
+                    return first;
+                }
+                return List.of(document(1001L, "마지막 거래", "설명", "기타"));
+            });
+
+        assertThat(index.isReady()).isFalse();
+        index.rebuild();
+
+        assertThat(index.isReady()).isTrue();
+        assertThat(lastIds).containsExactly(0L, 1000L);
+        assertThat(search("재구성")).containsExactly(5000L);
+        assertThat(search("마지막")).containsExactly(1001L);
+        assertThat(search("거래 3")).doesNotContain(3L).contains(30L, 300L);
+    }
+
+    @Test
+    @DisplayName("t4: 인덱스가 준비되기 전이나 재구성에 실패하면 LIKE 검색 사용")
+    void t4_serviceFallsBackToLikeUntilReady() {
+        when(tradeRepository.findSearchDocumentsAfter(anyLong(), any(Pageable.class)))
+            .thenThrow(new IllegalStateException("db down"));
+        index.rebuild();
+        assertThat(index.isReady()).isFalse();
+
+        ListCountCache listCountCache = mock(ListCountCache.class);
+        when(listCountCache.get(any(), any(), any())).thenReturn(new CachedCount(0, true));
+        TradeService tradeService = new TradeService(tradeRepository, mock(MemberRepository.class),
+            mock(ImageService.class), index, listCountCache);
+
+        tradeService.getAllTrade(BoardType.SECONDHAND,
+            new TradeSearchRequestDto(0, 10, "latest", "구피", null, null, null, null));
+
+        verify(tradeRepository).searchTradeIds(eq(BoardType.SECONDHAND), eq("구피"), any(), any(),
+            any(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("t5: 준비된 뒤에는 LIKE 검색 없이 인덱스 사용")
+    void t5_serviceUsesIndexWhenReady() {
+        rebuildWith(List.of(document(1L, "구피", "설명", "열대어")));
+        TradeService tradeService = new TradeService(tradeRepository, mock(MemberRepository.class),
+            mock(ImageService.class), index, mock(ListCountCache.class));
+
+        tradeService.getAllTrade(BoardType.SECONDHAND,
+            new TradeSearchRequestDto(0, 10, "latest", "구피", null, null, null, null));
+
+        verify(tradeRepository, never()).searchTradeIds(any(), any(), any(), any(), any(),
+            any(Pageable.class));
+        verify(tradeRepository).findAllWithMemberAndImagesByIdIn(List.of(1L));
+    }
+
+    private void rebuildWith(List<TradeSearchDocument> documents) {
+        when(tradeRepository.findSearchDocumentsAfter(eq(0L), any(Pageable.class)))
+            .thenReturn(documents);
+        index.rebuild();
+        assertThat(index.isReady()).isTrue();
+    }
+
+    private List<Long> search(String keyword) {
+        return index.search(BoardType.SECONDHAND, keyword, null, null, null, "latest");
+    }
+
+    private static void commit() {
+        List<TransactionSynchronization> synchronizations =
+            TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+    }
+
+    private static void rollback() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    private static TradeSearchDocument document(Long id, String title, String description,
+        String category) {
+        return new TradeSearchDocument(id, BoardType.SECONDHAND, title, description, category,
+            10000L, TradeStatus.SELLING, NOW.minusMinutes(id));
+    }
+
+    private static Trade trade(Long id, String title, String description) {
+        Trade trade = new Trade(null, BoardType.SECONDHAND, title, description, 10000L,
+            TradeStatus.SELLING, "열대어", NOW);
+        ReflectionTestUtils.setField(trade, "tradeId", id);
+        return trade;
+    }
+}
@@ -0,0 +1,118 @@
+package org.example.backend.domain.trade.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import org.example.backend.domain.member.entity.Member;
+import org.example.backend.domain.member.repository.MemberRepository;
+import org.example.backend.domain.trade.dto.CursorResponseDto;
+import org.example.backend.domain.trade.dto.TradeCursor;
+import org.example.backend.domain.trade.dto.TradeCursorRequestDto;
+import org.example.backend.domain.trade.dto.TradeResponseDto;
+import org.example.backend.domain.trade.entity.Trade;
+import org.example.backend.domain.trade.enums.BoardType;
+import org.example.backend.domain.trade.enums.TradeStatus;
+import org.example.backend.domain.trade.repository.TradeRepository;
+import org.example.backend.global.exception.BusinessException;
+import org.example.backend.global.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class TradeServiceCursorTest {
+
+    private static final int PAGE_SIZE = 4;
+    private static final LocalDateTime BASE_DATE = LocalDateTime.of(2025, 3, 1, 10, 0);
+
+    @Autowired
+    private TradeService tradeService;
+    @Autowired
+    private TradeRepository tradeRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        Member seller = memberRepository.save(Member.builder()
+            .email("cursor@test.com")
+            .password("password")
+            .nickname("cursor")
+            .build());
+
+        // 등록 시각과 가격이 겹치는 거래글을 섞어서 보조 키(tradeId)로만 순서가 정해지는 경우를 만든다
+        for (int i = 0; i < 23; i++) {
+            tradeRepository.save(new Trade(seller, BoardType.SECONDHAND, "어항 " + i, "설명",
+                10000L + (i % 5) * 1000, TradeStatus.SELLING, "어항",
+                BASE_DATE.plusMinutes(i / 3)));
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("t1: 정렬 기준마다 커서로 끝까지 넘기면 빠지거나 겹치는 글 없이 정렬 순서대로 조회")
+    void t1_walkPagesWithoutGapsOrDuplicates() {
+        List<Trade> trades = tradeRepository.findAll().stream()
+            .filter(trade -> trade.getBoardType() == BoardType.SECONDHAND)
+            .toList();
+        Comparator<Trade> byIdDesc = Comparator.comparing(Trade::getTradeId).reversed();
+
+        assertThat(walk("latest")).containsExactlyElementsOf(sortedIds(trades,
+            Comparator.comparing(Trade::getCreateDate).reversed().thenComparing(byIdDesc)));
+        assertThat(walk("price-asc")).containsExactlyElementsOf(sortedIds(trades,
+            Comparator.comparing(Trade::getPrice).thenComparing(Trade::getTradeId)));
+        assertThat(walk("price-desc")).containsExactlyElementsOf(sortedIds(trades,
+            Comparator.comparing(Trade::getPrice).reversed().thenComparing(byIdDesc)));
+    }
+
+    @Test
+    @DisplayName("t2: 다른 정렬 기준으로 발급된 커서는 T006")
+    void t2_cursorFromAnotherSortIsRejected() {
+        CursorResponseDto<TradeResponseDto> first = tradeService.getTradesByCursor(
+            BoardType.SECONDHAND, new TradeCursorRequestDto(null, PAGE_SIZE, "latest"));
+
+        assertThatThrownBy(() -> tradeService.getTradesByCursor(BoardType.SECONDHAND,
+            new TradeCursorRequestDto(first.nextCursor(), PAGE_SIZE, "price-asc")))
+            .isInstanceOf(BusinessException.class)
+            .extracting(e -> ((BusinessException) e).getErrorCode())
+            .isEqualTo(ErrorCode.TRADE_CURSOR_INVALID);
+        assertThatThrownBy(() -> tradeService.getTradesByCursor(BoardType.SECONDHAND,
+            new TradeCursorRequestDto(first.nextCursor() + "x", PAGE_SIZE, "latest")))
+            .isInstanceOf(BusinessException.class);
+    }
+
+    private List<Long> walk(String sort) {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorResponseDto<TradeResponseDto> page = tradeService.getTradesByCursor(
+                BoardType.SECONDHAND, new TradeCursorRequestDto(cursor, PAGE_SIZE, sort));
+            assertThat(page.size()).isLessThanOrEqualTo(PAGE_SIZE);
+            page.content().forEach(trade -> ids.add(trade.tradeId()));
+            cursor = page.nextCursor();
+            assertThat(cursor == null).isEqualTo(!page.hasNext());
+            if (cursor != null) {
+                assertThat(TradeCursor.decode(cursor).sort()).isEqualTo(sort);
+            }
+        } while (cursor != null);
+        return ids;
+    }
+
+    private static List<Long> sortedIds(List<Trade> trades, Comparator<Trade> order) {
+        return trades.stream().sorted(order).map(Trade::getTradeId).toList();
+    }
+}
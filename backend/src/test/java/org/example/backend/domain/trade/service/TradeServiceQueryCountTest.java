@@ -0,0 +1,132 @@
+package org.example.backend.domain.trade.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.example.backend.domain.member.entity.Member;
+import org.example.backend.domain.member.repository.MemberRepository;
+import org.example.backend.domain.trade.dto.PageResponseDto;
+import org.example.backend.domain.trade.dto.TradeResponseDto;
+import org.example.backend.domain.trade.dto.TradeSearchRequestDto;
+import org.example.backend.domain.trade.entity.Trade;
+import org.example.backend.domain.trade.enums.BoardType;
+import org.example.backend.domain.trade.enums.TradeStatus;
+import org.example.backend.domain.trade.repository.TradeRepository;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+// 스케줄러 등 다른 스레드의 쿼리가 섞이지 않도록 테스트 스레드에서 실행한 SQL만 센다
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+    + "org.example.backend.domain.trade.service.TradeServiceQueryCountTest$ThreadQueryCounter")
+@ActiveProfiles("test")
+@Transactional
+public class TradeServiceQueryCountTest {
+
+    // ID 페이지 조회 + 개수 조회 + 작성자/이미지 일괄 조회
+    private static final long MAX_LIST_QUERIES = 3;
+    private static final int PAGE_SIZE = 20;
+
+    @Autowired
+    private TradeService tradeService;
+    @Autowired
+    private TradeRepository tradeRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private Member seller;
+
+    @BeforeEach
+    void setUp() {
+        List<Member> sellers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            sellers.add(memberRepository.save(Member.builder()
+                .email("seller" + i + "@test.com")
+                .password("password")
+                .nickname("seller" + i)
+                .build()));
+        }
+        seller = sellers.get(0);
+
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            Trade trade = new Trade(sellers.get(i % sellers.size()), BoardType.SECONDHAND,
+                "어항 " + i, "설명 " + i, 10000L + i, TradeStatus.SELLING, "어항",
+                LocalDateTime.now().minusMinutes(i));
+            trade.addImage("https://image.test/" + i + "/1.png");
+            trade.addImage("https://image.test/" + i + "/2.png");
+            tradeRepository.save(trade);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        ThreadQueryCounter.reset();
+    }
+
+    @Test
+    @DisplayName("t1: 거래 목록 조회 시 작성자/이미지를 행마다 따로 조회하지 않는다")
+    void t1_listDoesNotQueryPerRow() {
+        PageResponseDto<TradeResponseDto> page = tradeService.getAllTrade(BoardType.SECONDHAND,
+            new TradeSearchRequestDto(0, PAGE_SIZE, "latest", null, null, null, null, null));
+
+        assertThat(page.getContent()).hasSize(PAGE_SIZE);
+        assertThat(page.getContent()).allSatisfy(trade -> {
+            assertThat(trade.memberNickname()).isNotNull();
+            assertThat(trade.images()).hasSize(2);
+        });
+        assertThat(ThreadQueryCounter.count()).isLessThanOrEqualTo(MAX_LIST_QUERIES);
+    }
+
+    @Test
+    @DisplayName("t2: 필터 검색 목록도 조회 쿼리 수가 페이지 크기와 무관하다")
+    void t2_filteredListQueryCountIsConstant() {
+        PageResponseDto<TradeResponseDto> page = tradeService.getAllTrade(BoardType.SECONDHAND,
+            new TradeSearchRequestDto(0, PAGE_SIZE, "price-asc", null, null, 10000, null,
+                TradeStatus.SELLING));
+
+        assertThat(page.getContent()).hasSize(PAGE_SIZE);
+        assertThat(page.getContent()).allSatisfy(trade -> assertThat(trade.images()).hasSize(2));
+        assertThat(ThreadQueryCounter.count()).isLessThanOrEqualTo(MAX_LIST_QUERIES);
+    }
+
+    @Test
+    @DisplayName("t3: 내 거래 목록 조회 시 N+1 쿼리가 발생하지 않는다")
+    void t3_myTradesDoNotTriggerNPlusOne() {
+        PageResponseDto<TradeResponseDto> page = tradeService.getMyTrades(seller.getMemberId(),
+            BoardType.SECONDHAND, 0, PAGE_SIZE);
+
+        assertThat(page.getContent()).hasSize(PAGE_SIZE / 4);
+        assertThat(page.getContent()).allSatisfy(trade -> assertThat(trade.images()).hasSize(2));
+        assertThat(ThreadQueryCounter.count()).isLessThanOrEqualTo(MAX_LIST_QUERIES);
+    }
+
+    // 현재 스레드에서 준비한 SQL 수
+    public static class ThreadQueryCounter implements StatementInspector {
+
+        private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+        static void reset() {
+            COUNT.get()[0] = 0;
+        }
+
+        static long count() {
+            return COUNT.get()[0];
+        }
+
+        @Override
+        public String inspect(String sql) {
+            COUNT.get()[0]++;
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package org.example.backend.domain.tradechat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.LongSupplier;
+import org.example.backend.domain.tradechat.repository.ChatMessageSequenceRepository;
+import org.example.backend.domain.tradechat.repository.TradeChatMessageRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+// 노드마다 발급기를 하나씩 만든 것처럼 여러 인스턴스가 같은 시퀀스 테이블에서 노드 번호를 받음
+@SpringBootTest
+@ActiveProfiles("test")
+public class ChatMessageIdAllocatorTest {
+
+    private static final int NODES = 3;
+    private static final int IDS_PER_NODE = 500;
+    // 2026-01-01T00:00:00Z
+    private static final long NOW = 1767225600000L;
+
+    @Autowired
+    private ChatMessageSequenceRepository sequenceRepository;
+    @Autowired
+    private TradeChatMessageRepository chatMessageRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("t1: 여러 노드가 동시에 발급해도 ID가 겹치지 않고 노드 안에서는 증가, JavaScript 안전 정수 범위 안")
+    void t1_concurrentNodesIssueUniqueIncreasingIds() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(NODES);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<List<Long>>> futures = new ArrayList<>();
+            for (int node = 0; node < NODES; node++) {
+                ChatMessageIdAllocator allocator = newAllocator();
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    List<Long> ids = new ArrayList<>(IDS_PER_NODE);
+                    for (int i = 0; i < IDS_PER_NODE; i++) {
+                        ids.add(allocator.nextId());
+                    }
+                    return ids;
+                }));
+            }
+            start.countDown();
+
+            List<Long> all = new ArrayList<>();
+            for (Future<List<Long>> future : futures) {
+                List<Long> ids = future.get();
+                assertThat(ids).isSorted().doesNotHaveDuplicates();
+                all.addAll(ids);
+            }
+            assertThat(all).hasSize(NODES * IDS_PER_NODE).doesNotHaveDuplicates()
+                .allSatisfy(id -> assertThat(id).isPositive().isLessThan(1L << 53));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("t2: 노드가 달라도 나중에 보낸 메시지의 ID가 더 큼")
+    void t2_idsAreOrderedByTimeAcrossNodes() {
+        long[] now = {NOW};
+        ChatMessageIdAllocator nodeA = newAllocator(() -> now[0]);
+        ChatMessageIdAllocator nodeB = newAllocator(() -> now[0]);
+
+        long first = nodeB.nextId();
+        now[0]++;
+        long second = nodeA.nextId();
+        long third = nodeB.nextId();
+
+        assertThat(List.of(first, second, third)).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("t3: 시계가 앞선 노드의 메시지를 받은 뒤 발급한 ID는 그 메시지보다 큼")
+    void t3_observedIdBoundsNextId() {
+        ChatMessageIdAllocator ahead = newAllocator(() -> NOW + 5_000);
+        ChatMessageIdAllocator behind = newAllocator(() -> NOW);
+
+        long received = ahead.nextId();
+        assertThat(behind.nextId()).isLessThan(received);
+
+        behind.observe(received);
+        assertThat(behind.nextId()).isGreaterThan(received);
+    }
+
+    @Test
+    @DisplayName("t4: 같은 밀리초의 순번을 다 쓰거나 시계가 뒤로 가도 ID는 계속 증가")
+    void t4_idsKeepIncreasingOnOverflowAndClockRollback() {
+        long[] now = {NOW};
+        ChatMessageIdAllocator allocator = newAllocator(() -> now[0]);
+
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            ids.add(allocator.nextId());
+        }
+        now[0] -= 10_000;
+        for (int i = 0; i < 200; i++) {
+            ids.add(allocator.nextId());
+        }
+
+        assertThat(ids).isSorted().doesNotHaveDuplicates();
+    }
+
+    private ChatMessageIdAllocator newAllocator() {
+        ChatMessageIdAllocator allocator = new ChatMessageIdAllocator(sequenceRepository,
+            chatMessageRepository, transactionManager);
+        ReflectionTestUtils.setField(allocator, "nodeId", -1);
+        allocator.init();
+        return allocator;
+    }
+
+    private ChatMessageIdAllocator newAllocator(LongSupplier clock) {
+        ChatMessageIdAllocator allocator = newAllocator();
+        allocator.clock = clock;
+        return allocator;
+    }
+}
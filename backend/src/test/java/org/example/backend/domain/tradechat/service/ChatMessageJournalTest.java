@@ -0,0 +1,115 @@
+package org.example.backend.domain.tradechat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.example.backend.domain.tradechat.dto.QueuedChatMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class ChatMessageJournalTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @TempDir
+    Path journalDir;
+
+    @Test
+    @DisplayName("t1: 교체한 세그먼트의 메시지를 기록 순서대로 읽고, 현재 세그먼트는 남은 세그먼트에 포함하지 않음")
+    void t1_rolledSegmentIsReadInOrder() throws IOException {
+        ChatMessageJournal journal = open();
+        journal.append(message(1L));
+        journal.append(message(2L));
+        Path rolled = journal.roll();
+        journal.append(message(3L));
+
+        assertThat(journal.leftoverSegments()).containsExactly(rolled);
+        assertThat(journal.read(rolled)).containsExactly(message(1L), message(2L));
+        journal.close();
+    }
+
+    @Test
+    @DisplayName("t2: 교체 전에 기록한 메시지도 sync 후에는 세그먼트에 남아 있음")
+    void t2_syncCoversRolledSegment() throws IOException {
+        ChatMessageJournal journal = open();
+        long first = journal.append(message(1L));
+        Path rolled = journal.roll();
+        long second = journal.append(message(2L));
+
+        assertThat(second).isGreaterThan(first);
+        journal.sync(first);
+        journal.sync(second);
+        // 이미 동기화된 위치는 바로 반환
+        journal.sync(first);
+
+        assertThat(journal.read(rolled)).containsExactly(message(1L));
+        journal.close();
+    }
+
+    @Test
+    @DisplayName("t3: 다시 열면 이전 실행의 세그먼트를 복구 대상으로 돌려주고 새 세그먼트에 이어서 기록")
+    void t3_reopenReturnsPreviousSegments() throws IOException {
+        ChatMessageJournal journal = open();
+        journal.append(message(1L));
+        Path rolled = journal.roll();
+        journal.append(message(2L));
+        journal.close();
+
+        ChatMessageJournal reopened = open();
+        List<Path> leftovers = reopened.leftoverSegments();
+        reopened.append(message(3L));
+
+        assertThat(leftovers).hasSize(2).startsWith(rolled);
+        assertThat(leftovers.stream().flatMap(segment -> reopened.read(segment).stream()))
+            .containsExactly(message(1L), message(2L));
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("t4: 기록 도중 종료되어 잘린 마지막 줄은 건너뜀")
+    void t4_truncatedLastLineIsSkipped() throws IOException {
+        ChatMessageJournal journal = open();
+        journal.append(message(1L));
+        Path rolled = journal.roll();
+        Files.writeString(rolled, "{\"messageId\":2,\"roomId\"", StandardCharsets.UTF_8,
+            StandardOpenOption.APPEND);
+
+        assertThat(journal.read(rolled)).containsExactly(message(1L));
+        journal.close();
+    }
+
+    @Test
+    @DisplayName("t5: 저널 디렉터리를 설정하지 않으면 시작할 때 실패")
+    void t5_missingJournalDirFailsAtStartup() {
+        ChatMessageJournal journal = new ChatMessageJournal(objectMapper);
+        ReflectionTestUtils.setField(journal, "journalDir", "");
+
+        assertThatThrownBy(journal::open)
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("custom.chat.journal-dir");
+    }
+
+    private ChatMessageJournal open() throws IOException {
+        ChatMessageJournal journal = new ChatMessageJournal(objectMapper);
+        ReflectionTestUtils.setField(journal, "journalDir", journalDir.toString());
+        ReflectionTestUtils.setField(journal, "fsync", true);
+        journal.open();
+        return journal;
+    }
+
+    private static QueuedChatMessage message(Long id) {
+        return new QueuedChatMessage(id, 10L, 1L, "seller", "message " + id,
+            LocalDateTime.of(2025, 1, 1, 0, 0).plusSeconds(id));
+    }
+}
@@ -0,0 +1,262 @@
+package org.example.backend.domain.tradechat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.example.backend.domain.tradechat.dto.QueuedChatMessage;
+import org.example.backend.domain.tradechat.service.ChatMessageJournal.RejectedMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class ChatMessageWriterTest {
+
+    private static final long ROOM_ID = 10L;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final TransactionTemplate transactionTemplate =
+        new TransactionTemplate(mock(PlatformTransactionManager.class));
+
+    // 가짜 trade_chat_message 테이블 (배치 중 한 건이라도 실패하면 배치 전체가 반영되지 않음)
+    private final Set<Long> saved = new HashSet<>();
+    // 제약 조건 위반으로 저장할 수 없는 메시지
+    private final Set<Long> invalid = new HashSet<>();
+    // 저장할 때마다 일시적 오류가 나는 메시지
+    private final Set<Long> flaky = new HashSet<>();
+    private boolean databaseDown;
+    // 다음 INSERT 배치에서 실행할 동작 (서버 종료 재현용)
+    private Runnable onNextInsert;
+    // 같은 ID를 두 번 INSERT 하려고 한 횟수
+    private int duplicateInserts;
+
+    @TempDir
+    Path journalDir;
+
+    private ChatMessageJournal journal;
+    private ChatMessageWriter writer;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        doAnswer(invocation -> {
+            String sql = invocation.getArgument(0);
+            List<Object[]> batchArgs = invocation.getArgument(1);
+            if (databaseDown) {
+                throw new DataAccessResourceFailureException("db down");
+            }
+            if (sql.contains("INSERT INTO trade_chat_message")) {
+                if (onNextInsert != null) {
+                    Runnable action = onNextInsert;
+                    onNextInsert = null;
+                    action.run();
+                }
+                for (Object[] args : batchArgs) {
+                    if (saved.contains((Long) args[0])) {
+                        duplicateInserts++;
+                        throw new DuplicateKeyException("duplicate: " + args[0]);
+                    }
+                    if (invalid.contains((Long) args[0])) {
+                        throw new DataIntegrityViolationException("constraint violation: " + args[0]);
+                    }
+                    if (flaky.contains((Long) args[0])) {
+                        throw new QueryTimeoutException("timeout: " + args[0]);
+                    }
+                }
+                batchArgs.forEach(args -> saved.add((Long) args[0]));
+                if (onNextInsert != null) {
+                    Runnable action = onNextInsert;
+                    onNextInsert = null;
+                    action.run();
+                }
+            }
+            return new int[batchArgs.size()];
+        }).when(jdbcTemplate).batchUpdate(anyString(), anyList());
+        doAnswer(invocation -> {
+            if (databaseDown) {
+                throw new DataAccessResourceFailureException("db down");
+            }
+            Object[] ids = Arrays.copyOfRange(invocation.getArguments(), 2, invocation.getArguments().length);
+            return Arrays.stream(ids).map(Long.class::cast).filter(saved::contains).toList();
+        }).when(jdbcTemplate).queryForList(anyString(), eq(Long.class), any(Object[].class));
+
+        journal = openJournal();
+        writer = newWriter();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        journal.close();
+    }
+
+    @Test
+    @DisplayName("t1: 배치 저장이 실패하면 한 건씩 저장하고, 저장할 수 없는 메시지만 거절 로그로 옮김")
+    void t1_invalidMessageIsRejectedAndOthersAreSaved() throws IOException {
+        invalid.add(2L);
+        enqueue(1L, 2L, 3L);
+
+        writer.flush();
+
+        assertThat(saved).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(writer.pendingMessages(ROOM_ID)).isEmpty();
+        assertThat(journal.leftoverSegments()).isEmpty();
+        assertThat(rejectedIds()).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("t2: DB 장애로 전부 실패하면 거절하지 않고 세그먼트와 대기열을 유지한 채 다음 주기에 저장")
+    void t2_transientFailureKeepsMessagesForRetry() throws IOException {
+        databaseDown = true;
+        enqueue(1L, 2L);
+        for (int i = 0; i < 10; i++) {
+            writer.flush();
+        }
+
+        assertThat(writer.pendingMessages(ROOM_ID)).extracting(QueuedChatMessage::messageId)
+            .containsExactly(1L, 2L);
+        assertThat(journal.leftoverSegments()).isNotEmpty();
+        assertThat(rejectedIds()).isEmpty();
+
+        databaseDown = false;
+        writer.flush();
+
+        assertThat(saved).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(writer.pendingMessages(ROOM_ID)).isEmpty();
+        assertThat(journal.leftoverSegments()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("t3: 다른 메시지는 저장되는데 혼자 계속 실패하는 메시지는 정해진 횟수 후 거절")
+    void t3_repeatedlyFailingMessageDoesNotBlockQueue() throws IOException {
+        flaky.add(1L);
+        enqueue(1L);
+        for (long id = 2; id <= 4; id++) {
+            enqueue(id);
+            writer.flush();
+            assertThat(writer.pendingMessages(ROOM_ID)).extracting(QueuedChatMessage::messageId)
+                .containsExactly(1L);
+        }
+
+        enqueue(5L);
+        writer.flush();
+
+        assertThat(saved).containsExactlyInAnyOrder(2L, 3L, 4L, 5L);
+        assertThat(writer.pendingMessages(ROOM_ID)).isEmpty();
+        assertThat(journal.leftoverSegments()).isEmpty();
+        assertThat(rejectedIds()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("t4: 세그먼트 교체 후 커밋 전에 종료되면 재시작 시 남은 세그먼트로 모든 메시지를 저장")
+    void t4_crashBeforeCommitIsReplayed() throws IOException {
+        enqueue(1L, 2L, 3L);
+        crashOnNextInsert(false, 4L);
+
+        restart();
+        writer.flush();
+
+        assertThat(saved).containsExactlyInAnyOrder(1L, 2L, 3L, 4L);
+        assertThat(duplicateInserts).isZero();
+        assertThat(journal.leftoverSegments()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("t5: 커밋 후 세그먼트 삭제 전에 종료되면 재시작 시 이미 저장된 메시지는 다시 저장하지 않음")
+    void t5_crashAfterCommitIsReplayedWithoutDuplicates() throws IOException {
+        enqueue(1L, 2L, 3L);
+        crashOnNextInsert(true, 4L);
+
+        restart();
+        writer.flush();
+
+        assertThat(saved).containsExactlyInAnyOrder(1L, 2L, 3L, 4L);
+        assertThat(duplicateInserts).isZero();
+        assertThat(journal.leftoverSegments()).isEmpty();
+        assertThat(rejectedIds()).isEmpty();
+    }
+
+    // 다음 flush 의 INSERT 배치 커밋 전(또는 후)에 서버가 종료된 상황 (종료 직전 새 세그먼트에 메시지 추가)
+    private void crashOnNextInsert(boolean afterCommit, Long sentDuringFlush) {
+        Runnable crash = () -> {
+            enqueue(sentDuringFlush);
+            throw new ServerKilled();
+        };
+        if (afterCommit) {
+            // 배치 반영 후 실행되도록 한 번 건너뜀
+            onNextInsert = () -> onNextInsert = crash;
+        } else {
+            onNextInsert = crash;
+        }
+        assertThatThrownBy(writer::flush).isInstanceOf(ServerKilled.class);
+    }
+
+    // 프로세스 종료처럼 세그먼트를 정리하지 않고 디렉터리 잠금만 풀린 뒤 새 저널과 저장기로 시작
+    private void restart() throws IOException {
+        ((FileChannel) ReflectionTestUtils.getField(journal, "lockChannel")).close();
+        journal = openJournal();
+        writer = newWriter();
+    }
+
+    private static class ServerKilled extends Error {
+
+    }
+
+    private ChatMessageJournal openJournal() throws IOException {
+        ChatMessageJournal journal = new ChatMessageJournal(objectMapper);
+        ReflectionTestUtils.setField(journal, "journalDir", journalDir.toString());
+        ReflectionTestUtils.setField(journal, "fsync", true);
+        journal.open();
+        return journal;
+    }
+
+    private ChatMessageWriter newWriter() {
+        ChatMessageWriter writer = new ChatMessageWriter(journal, jdbcTemplate, transactionTemplate);
+        ReflectionTestUtils.setField(writer, "maxSaveAttempts", 4);
+        writer.recover();
+        return writer;
+    }
+
+    private void enqueue(Long... ids) {
+        for (Long id : ids) {
+            writer.enqueue(new QueuedChatMessage(id, ROOM_ID, 1L, "seller", "message " + id,
+                LocalDateTime.of(2025, 1, 1, 0, 0).plusSeconds(id)));
+        }
+    }
+
+    private List<Long> rejectedIds() throws IOException {
+        List<Long> ids = new ArrayList<>();
+        if (Files.exists(journal.rejectedLog())) {
+            for (String line : Files.readAllLines(journal.rejectedLog())) {
+                ids.add(objectMapper.readValue(line, RejectedMessage.class).message().messageId());
+            }
+        }
+        return ids;
+    }
+}
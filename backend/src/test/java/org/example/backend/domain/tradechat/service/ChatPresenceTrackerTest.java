@@ -0,0 +1,129 @@
+package org.example.backend.domain.tradechat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.example.backend.domain.tradechat.dto.ChatPresenceDto;
+import org.example.backend.domain.tradechat.dto.ChatRoomParticipants;
+import org.example.backend.global.websocketconfig.StompHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+class ChatPresenceTrackerTest {
+
+    private static final long ROOM_ID = 10L;
+    private static final long SELLER_ID = 1L;
+    private static final long BUYER_ID = 2L;
+
+    private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+    private final ChatRoomParticipantCache participantCache = mock(ChatRoomParticipantCache.class);
+    private final ChatPresenceTracker tracker = new ChatPresenceTracker(messagingTemplate, participantCache);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(tracker, "typingTtlMillis", 5000L);
+        when(participantCache.get(ROOM_ID)).thenReturn(
+            new ChatRoomParticipants(ROOM_ID, SELLER_ID, "seller", BUYER_ID, "buyer"));
+    }
+
+    @Test
+    @DisplayName("t1: 한 주기 안의 여러 변경은 채팅방당 한 번만 전송")
+    void t1_updatesAreCoalescedPerInterval() {
+        subscribe("s1", "sub-1", "/receive/10", SELLER_ID);
+        subscribe("s2", "sub-1", "/receive/10", BUYER_ID);
+        for (int i = 0; i < 20; i++) {
+            tracker.typing(ROOM_ID, BUYER_ID, true);
+        }
+
+        tracker.broadcast();
+
+        ChatPresenceDto sent = captureSent();
+        assertThat(sent.onlineMemberIds()).containsExactly(SELLER_ID, BUYER_ID);
+        assertThat(sent.typingMemberIds()).containsExactly(BUYER_ID);
+    }
+
+    @Test
+    @DisplayName("t2: 상태가 그대로면 전송하지 않음")
+    void t2_unchangedStateIsNotResent() {
+        subscribe("s1", "sub-1", "/receive/10", SELLER_ID);
+        tracker.broadcast();
+        clearInvocations(messagingTemplate);
+
+        tracker.typing(ROOM_ID, SELLER_ID, true);
+        tracker.typing(ROOM_ID, SELLER_ID, false);
+        tracker.broadcast();
+
+        verify(messagingTemplate, never()).convertAndSend(any(String.class), any(Object.class));
+    }
+
+    @Test
+    @DisplayName("t3: 연결 종료 시 퇴장 처리, 참여자가 아니면 무시")
+    void t3_disconnectAndNonParticipant() {
+        subscribe("s1", "sub-1", "/receive/10", SELLER_ID);
+        subscribe("s2", "sub-1", "/receive/10", 99L);
+        tracker.broadcast();
+        clearInvocations(messagingTemplate);
+
+        tracker.onDisconnect(new SessionDisconnectEvent(this, message(StompCommand.DISCONNECT, "s1", null, null, SELLER_ID),
+            "s1", CloseStatus.NORMAL));
+        tracker.broadcast();
+
+        ChatPresenceDto sent = captureSent();
+        assertThat(sent.onlineMemberIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("t4: presence 채널을 새로 구독하면 현재 상태를 다시 전송")
+    void t4_presenceSubscriptionTriggersResend() {
+        subscribe("s1", "sub-1", "/receive/10", SELLER_ID);
+        tracker.broadcast();
+        clearInvocations(messagingTemplate);
+
+        subscribe("s2", "sub-2", "/receive/10/presence", BUYER_ID);
+        tracker.broadcast();
+
+        assertThat(captureSent().onlineMemberIds()).containsExactly(SELLER_ID);
+    }
+
+    private void subscribe(String sessionId, String subscriptionId, String destination, long memberId) {
+        tracker.onSubscribe(new SessionSubscribeEvent(this,
+            message(StompCommand.SUBSCRIBE, sessionId, subscriptionId, destination, memberId)));
+    }
+
+    private ChatPresenceDto captureSent() {
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        verify(messagingTemplate, times(1)).convertAndSend(eq("/receive/10/presence"), payload.capture());
+        return (ChatPresenceDto) payload.getValue();
+    }
+
+    private static Message<byte[]> message(StompCommand command, String sessionId, String subscriptionId,
+        String destination, long memberId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        Map<String, Object> attributes = new HashMap<>(Map.of(StompHandler.SESSION_MEMBER_ID, memberId));
+        accessor.setSessionAttributes(attributes);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
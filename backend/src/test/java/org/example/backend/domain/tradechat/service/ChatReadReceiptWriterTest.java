@@ -0,0 +1,140 @@
+package org.example.backend.domain.tradechat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import jakarta.persistence.EntityManager;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import org.example.backend.domain.member.entity.Member;
+import org.example.backend.domain.member.repository.MemberRepository;
+import org.example.backend.domain.trade.entity.Trade;
+import org.example.backend.domain.trade.enums.BoardType;
+import org.example.backend.domain.trade.enums.TradeStatus;
+import org.example.backend.domain.trade.repository.TradeRepository;
+import org.example.backend.domain.tradechat.entity.ChatStatus;
+import org.example.backend.domain.tradechat.entity.TradeChatRoom;
+import org.example.backend.domain.tradechat.repository.TradeChatRoomRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 예약된 저장 작업과 겹치지 않도록 빈 대신 테스트 트랜잭션 안에서 쓰는 인스턴스를 따로 만든다
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class ChatReadReceiptWriterTest {
+
+    private static final LocalDateTime BASE_DATE = LocalDateTime.of(2025, 3, 1, 10, 0);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private TradeRepository tradeRepository;
+    @Autowired
+    private TradeChatRoomRepository chatRoomRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private final ChatMessageWriter chatMessageWriter = mock(ChatMessageWriter.class);
+    private ChatReadReceiptWriter readReceiptWriter;
+
+    private Member seller;
+    private Member buyer;
+    private Long roomId;
+
+    @BeforeEach
+    void setUp() {
+        seller = memberRepository.save(Member.builder()
+            .email("ack-seller@test.com")
+            .password("password")
+            .nickname("ack-seller")
+            .build());
+        buyer = memberRepository.save(Member.builder()
+            .email("ack-buyer@test.com")
+            .password("password")
+            .nickname("ack-buyer")
+            .build());
+        Trade trade = tradeRepository.save(new Trade(seller, BoardType.SECONDHAND, "어항", "설명",
+            10000L, TradeStatus.SELLING, "어항", BASE_DATE));
+        roomId = chatRoomRepository.save(TradeChatRoom.builder()
+            .trade(trade)
+            .sellerId(seller)
+            .buyerId(buyer)
+            .createDate(BASE_DATE)
+            .lastMessageAt(BASE_DATE)
+            .status(ChatStatus.ONGOING)
+            .build()).getId();
+        entityManager.flush();
+
+        readReceiptWriter = new ChatReadReceiptWriter(jdbcTemplate, transactionTemplate, chatMessageWriter);
+        when(chatMessageWriter.maxPendingId(any())).thenReturn(0L);
+        for (long id = 1; id <= 3; id++) {
+            saveMessage(id, seller);
+        }
+    }
+
+    @Test
+    @DisplayName("t1: 발급된 적 없는 큰 ID로 읽음 확인해도 채팅방의 최근 메시지까지만 읽음 처리")
+    void t1_ackAboveLastMessageIsCapped() {
+        readReceiptWriter.acknowledge(roomId, buyer.getMemberId(), Long.MAX_VALUE);
+        readReceiptWriter.flush();
+
+        assertThat(buyerLastRead()).isEqualTo(3L);
+        assertThat(buyerUnreadCount()).isZero();
+
+        // 이후 온 메시지는 안 읽은 메시지로 남음
+        saveMessage(4L, seller);
+        readReceiptWriter.acknowledge(roomId, buyer.getMemberId(), 2L);
+        readReceiptWriter.flush();
+
+        assertThat(buyerLastRead()).isEqualTo(3L);
+        assertThat(buyerUnreadCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("t2: 이 노드에서 보내고 아직 저장되지 않은 메시지까지는 읽음 처리")
+    void t2_ackUpToPendingMessageIsAccepted() {
+        when(chatMessageWriter.maxPendingId(roomId)).thenReturn(5L);
+
+        readReceiptWriter.acknowledge(roomId, buyer.getMemberId(), 5L);
+        readReceiptWriter.flush();
+        assertThat(buyerLastRead()).isEqualTo(5L);
+
+        readReceiptWriter.acknowledge(roomId, buyer.getMemberId(), 9L);
+        readReceiptWriter.flush();
+        assertThat(buyerLastRead()).isEqualTo(5L);
+    }
+
+    private void saveMessage(long messageId, Member sender) {
+        jdbcTemplate.update("""
+            INSERT INTO trade_chat_message (message_id, room_id, sender_id, content, send_date)
+            VALUES (?, ?, ?, ?, ?)
+            """, messageId, roomId, sender.getMemberId(), "message " + messageId,
+            Timestamp.valueOf(BASE_DATE.plusMinutes(messageId)));
+        jdbcTemplate.update("UPDATE trade_chat_room SET last_message_id = ? WHERE chat_id = ?",
+            messageId, roomId);
+    }
+
+    private Long buyerLastRead() {
+        return jdbcTemplate.queryForObject(
+            "SELECT buyer_last_read_message_id FROM trade_chat_room WHERE chat_id = ?", Long.class, roomId);
+    }
+
+    private Integer buyerUnreadCount() {
+        return jdbcTemplate.queryForObject(
+            "SELECT buyer_unread_count FROM trade_chat_room WHERE chat_id = ?", Integer.class, roomId);
+    }
+}
@@ -0,0 +1,124 @@
+package org.example.backend.domain.tradechat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.example.backend.domain.tradechat.dto.QueuedChatMessage;
+import org.example.backend.domain.tradechat.service.ChatRecentMessageBuffer.RoomMessages;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class ChatRecentMessageBufferTest {
+
+    private static final long ROOM_ID = 10L;
+    private static final long SETTLE_MILLIS = 60_000L;
+
+    private final ChatRecentMessageBuffer buffer = new ChatRecentMessageBuffer();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(buffer, "bufferSize", 3);
+        ReflectionTestUtils.setField(buffer, "maxRooms", 2);
+        ReflectionTestUtils.setField(buffer, "settleMillis", SETTLE_MILLIS);
+        buffer.initRooms();
+    }
+
+    @Test
+    @DisplayName("t1: 대기 시간 전에 시작한 DB 조회로 채운 버퍼는 사용하지 않고, 대기 시간 이후 조회로 채워진 뒤부터 사용")
+    void t1_bufferIsUsedOnlyAfterSettledLoad() {
+        RoomMessages messages = buffer.open(ROOM_ID);
+        messages.load(List.of(message(1L)), true, System.currentTimeMillis());
+        assertThat(buffer.find(ROOM_ID, null, 10)).isNull();
+
+        messages.load(List.of(message(1L), message(2L)), true, settled());
+        assertThat(ids(buffer.find(ROOM_ID, null, 10))).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("t2: 개수가 모자라면 채팅방의 첫 메시지부터 읽은 경우에만 결과 확정")
+    void t2_shortPageIsCompleteOnlyFromBeginning() {
+        buffer.open(ROOM_ID).load(List.of(message(5L), message(6L)), false, settled());
+
+        assertThat(ids(buffer.find(ROOM_ID, null, 2))).containsExactly(5L, 6L);
+        assertThat(buffer.find(ROOM_ID, null, 3)).isNull();
+        assertThat(ids(buffer.find(ROOM_ID, 6L, 1))).containsExactly(5L);
+        assertThat(buffer.find(ROOM_ID, 6L, 2)).isNull();
+
+        buffer.open(11L).load(List.of(message(5L), message(6L)), true, settled());
+        assertThat(ids(buffer.find(11L, null, 3))).containsExactly(5L, 6L);
+        assertThat(ids(buffer.find(11L, 5L, 3))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("t3: 버퍼가 가득 차서 밀려난 메시지가 있으면 첫 메시지부터 읽었어도 모자란 결과는 DB로 넘김")
+    void t3_truncatedBufferIsIncomplete() {
+        buffer.open(ROOM_ID).load(List.of(message(1L), message(2L)), true, settled());
+        buffer.append(message(3L));
+        buffer.append(message(4L));
+
+        assertThat(ids(buffer.find(ROOM_ID, null, 3))).containsExactly(2L, 3L, 4L);
+        assertThat(buffer.find(ROOM_ID, null, 4)).isNull();
+        assertThat(buffer.find(ROOM_ID, 3L, 2)).isNull();
+    }
+
+    @Test
+    @DisplayName("t4: 순서가 바뀌어 들어온 메시지는 ID 순서 자리에 넣고, 같은 메시지는 한 번만 보관")
+    void t4_outOfOrderAddKeepsOrderAndDeduplicates() {
+        RoomMessages messages = buffer.open(ROOM_ID);
+        messages.load(List.of(), true, settled());
+
+        buffer.append(message(1L));
+        buffer.append(message(3L));
+        buffer.append(message(2L));
+        buffer.append(message(3L));
+        assertThat(ids(buffer.find(ROOM_ID, null, 3))).containsExactly(1L, 2L, 3L);
+
+        // 가득 찬 상태에서 가장 오래된 메시지보다 앞선 메시지는 보관하지 않음
+        buffer.append(message(0L));
+        assertThat(ids(buffer.find(ROOM_ID, null, 3))).containsExactly(1L, 2L, 3L);
+        assertThat(buffer.find(ROOM_ID, null, 4)).isNull();
+
+        // 중간에 들어온 메시지는 가장 오래된 메시지를 밀어냄
+        buffer.append(message(5L));
+        buffer.append(message(4L));
+        assertThat(ids(buffer.find(ROOM_ID, null, 3))).containsExactly(3L, 4L, 5L);
+    }
+
+    @Test
+    @DisplayName("t5: 채팅방 수가 한도를 넘으면 가장 오래 사용하지 않은 채팅방부터 제거")
+    void t5_leastRecentlyUsedRoomIsEvicted() {
+        buffer.open(1L).load(List.of(message(1L)), true, settled());
+        buffer.open(2L).load(List.of(message(2L)), true, settled());
+        assertThat(buffer.find(1L, null, 1)).isNotNull();
+
+        buffer.open(3L).load(List.of(message(3L)), true, settled());
+
+        assertThat(buffer.find(1L, null, 1)).isNotNull();
+        assertThat(buffer.find(2L, null, 1)).isNull();
+        assertThat(buffer.find(3L, null, 1)).isNotNull();
+        // 제거된 채팅방으로 온 메시지는 버퍼를 다시 만들지 않음
+        buffer.append(message(4L, 2L));
+        assertThat(buffer.find(2L, null, 1)).isNull();
+    }
+
+    private static long settled() {
+        return System.currentTimeMillis() + SETTLE_MILLIS * 2;
+    }
+
+    private static List<Long> ids(List<QueuedChatMessage> messages) {
+        assertThat(messages).isNotNull();
+        return messages.stream().map(QueuedChatMessage::messageId).toList();
+    }
+
+    private static QueuedChatMessage message(Long id) {
+        return message(id, ROOM_ID);
+    }
+
+    private static QueuedChatMessage message(Long id, Long roomId) {
+        return new QueuedChatMessage(id, roomId, 1L, "seller", "message " + id,
+            LocalDateTime.of(2025, 1, 1, 0, 0).plusSeconds(id));
+    }
+}
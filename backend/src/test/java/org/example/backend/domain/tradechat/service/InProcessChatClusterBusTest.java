@@ -0,0 +1,71 @@
+package org.example.backend.domain.tradechat.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDateTime;
+import org.example.backend.domain.tradechat.dto.QueuedChatMessage;
+import org.example.backend.domain.tradechat.dto.TradeChatMessageDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class InProcessChatClusterBusTest {
+
+    private final SimpMessagingTemplate templateA = mock(SimpMessagingTemplate.class);
+    private final SimpMessagingTemplate templateB = mock(SimpMessagingTemplate.class);
+    private final ChatRecentMessageBuffer bufferA = mock(ChatRecentMessageBuffer.class);
+    private final ChatRecentMessageBuffer bufferB = mock(ChatRecentMessageBuffer.class);
+    private final ChatMessageIdAllocator allocatorA = mock(ChatMessageIdAllocator.class);
+    private final ChatMessageIdAllocator allocatorB = mock(ChatMessageIdAllocator.class);
+
+    private final InProcessChatClusterBus nodeA = new InProcessChatClusterBus(templateA, bufferA, allocatorA);
+    private final InProcessChatClusterBus nodeB = new InProcessChatClusterBus(templateB, bufferB, allocatorB);
+
+    private final QueuedChatMessage message = new QueuedChatMessage(
+        1L, 10L, 100L, "seller", "안녕하세요", LocalDateTime.now());
+
+    @AfterEach
+    void tearDown() {
+        nodeA.leave();
+        nodeB.leave();
+    }
+
+    @Test
+    @DisplayName("t1: 같은 클러스터의 모든 노드 구독자에게 전달하고 각 노드의 ID 발급기가 받은 ID를 반영")
+    void t1_publishFansOutToAllNodes() {
+        join(nodeA, "cluster-t1");
+        join(nodeB, "cluster-t1");
+
+        nodeA.publish(message);
+
+        verify(templateA).convertAndSend(eq("/receive/10"), any(TradeChatMessageDto.class));
+        verify(templateB).convertAndSend(eq("/receive/10"), any(TradeChatMessageDto.class));
+        verify(bufferA).append(message);
+        verify(bufferB).append(message);
+        verify(allocatorB).observe(1L);
+    }
+
+    @Test
+    @DisplayName("t2: 클러스터 이름이 없거나 다르면 자기 노드에만 전달")
+    void t2_standaloneNodeDeliversLocally() {
+        join(nodeA, "");
+        join(nodeB, "cluster-t2");
+
+        nodeA.publish(message);
+
+        verify(templateA).convertAndSend(eq("/receive/10"), any(TradeChatMessageDto.class));
+        verify(templateB, never()).convertAndSend(any(String.class), any(Object.class));
+        verify(bufferB, never()).append(any());
+    }
+
+    private static void join(InProcessChatClusterBus node, String clusterName) {
+        ReflectionTestUtils.setField(node, "clusterName", clusterName);
+        node.join();
+    }
+}
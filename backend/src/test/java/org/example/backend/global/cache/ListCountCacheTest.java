@@ -0,0 +1,162 @@
+package org.example.backend.global.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class ListCountCacheTest {
+
+    private static final String GROUP = "trade:SECONDHAND";
+
+    private final ListCountCache cache = new ListCountCache();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(cache, "idleMillis", 600_000L);
+    }
+
+    @Test
+    @DisplayName("t1: 전체 개수는 증감으로 정확하게 유지하고 필터 개수는 근사값으로 전환")
+    void t1_adjustKeepsAllExactAndMarksFiltersApproximate() {
+        CountingLoader all = new CountingLoader(10);
+        CountingLoader filtered = new CountingLoader(3);
+        cache.get(GROUP, ListCountCache.ALL, all);
+        cache.get(GROUP, "q=구피", filtered);
+        cache.get("trade:OTHER", "q=구피", new CountingLoader(7));
+
+        cache.adjustAfterCommit(GROUP, 2);
+
+        assertThat(cache.get(GROUP, ListCountCache.ALL, all)).isEqualTo(new CachedCount(12, true));
+        assertThat(cache.get(GROUP, "q=구피", filtered)).isEqualTo(new CachedCount(3, false));
+        assertThat(cache.get("trade:OTHER", "q=구피", filtered)).isEqualTo(new CachedCount(7, true));
+        assertThat(all.calls.get()).isEqualTo(1);
+        assertThat(filtered.calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("t2: 근사값이면서 지난 갱신 이후 조회된 항목만 다시 셈")
+    void t2_reloadsOnlyUsedApproximateEntries() {
+        CountingLoader all = new CountingLoader(10);
+        CountingLoader used = new CountingLoader(3);
+        CountingLoader unused = new CountingLoader(5);
+        CountingLoader exact = new CountingLoader(1);
+        cache.get(GROUP, ListCountCache.ALL, all);
+        cache.get(GROUP, "q=used", used);
+        cache.get(GROUP, "q=unused", unused);
+        cache.get("post:SHOWOFF", "q=exact", exact);
+        cache.reloadStale();
+
+        cache.markApproximateAfterCommit(GROUP);
+        used.value.set(4);
+        unused.value.set(6);
+        cache.get(GROUP, "q=used", used);
+        cache.get("post:SHOWOFF", "q=exact", exact);
+        cache.reloadStale();
+
+        assertThat(all.calls.get()).isEqualTo(1);
+        assertThat(used.calls.get()).isEqualTo(2);
+        assertThat(unused.calls.get()).isEqualTo(1);
+        assertThat(exact.calls.get()).isEqualTo(1);
+        assertThat(cache.get(GROUP, "q=used", used)).isEqualTo(new CachedCount(4, true));
+        assertThat(cache.get(GROUP, "q=unused", unused)).isEqualTo(new CachedCount(5, false));
+
+        // 다시 센 뒤 조회가 없으면 다음 갱신에서는 건너뜀
+        cache.reloadStale();
+        cache.markApproximateAfterCommit(GROUP);
+        cache.reloadStale();
+        assertThat(used.calls.get()).isEqualTo(2);
+        assertThat(unused.calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("t3: 다시 세는 동안 변경이 있으면 근사값으로 남음")
+    void t3_changeDuringReloadStaysApproximate() {
+        AtomicInteger calls = new AtomicInteger();
+        LongSupplier loader = () -> {
+            if (calls.incrementAndGet() == 2) {
+                cache.markApproximateAfterCommit(GROUP);
+            }
+            return 8;
+        };
+        cache.get(GROUP, "q=race", loader);
+        cache.markApproximateAfterCommit(GROUP);
+        cache.get(GROUP, "q=race", loader);
+
+        cache.reloadStale();
+
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(cache.get(GROUP, "q=race", loader)).isEqualTo(new CachedCount(8, false));
+    }
+
+    @Test
+    @DisplayName("t4: 조회되지 않은 지 idle-ms 가 지난 항목은 제거")
+    void t4_idleEntriesAreEvicted() throws InterruptedException {
+        CountingLoader loader = new CountingLoader(3);
+        cache.get(GROUP, "q=idle", loader);
+        cache.reloadStale();
+        assertThat(cache.get(GROUP, "q=idle", loader)).isEqualTo(new CachedCount(3, true));
+        assertThat(loader.calls.get()).isEqualTo(1);
+
+        ReflectionTestUtils.setField(cache, "idleMillis", 0L);
+        Thread.sleep(5);
+        cache.reloadStale();
+
+        loader.value.set(9);
+        assertThat(cache.get(GROUP, "q=idle", loader)).isEqualTo(new CachedCount(9, true));
+        assertThat(loader.calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("t5: 처음 세는 동안 들어온 증감은 근사값으로 남기고 다음 갱신에서 전체 개수도 다시 셈")
+    void t5_adjustDuringFirstLoadIsNotLost() {
+        AtomicLong rows = new AtomicLong(10);
+        AtomicInteger calls = new AtomicInteger();
+        LongSupplier loader = () -> {
+            long counted = rows.get();
+            if (calls.incrementAndGet() == 1) {
+                // 센 직후 다른 트랜잭션이 커밋
+                rows.incrementAndGet();
+                cache.adjustAfterCommit(GROUP, 1);
+            }
+            return counted;
+        };
+
+        assertThat(cache.get(GROUP, ListCountCache.ALL, loader)).isEqualTo(new CachedCount(10, false));
+
+        cache.reloadStale();
+
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(cache.get(GROUP, ListCountCache.ALL, loader)).isEqualTo(new CachedCount(11, true));
+    }
+
+    @Test
+    @DisplayName("t6: 필터 시그니처는 이름=값 형식이고 null 과 빈 값은 같게 취급")
+    void t6_signatureNormalizesBlankValues() {
+        assertThat(ListCountCache.signature("q", null, "min", 100, "status", null))
+            .isEqualTo("q=|min=100|status=");
+        assertThat(ListCountCache.signature("q", "  ", "category", "ALL"))
+            .isEqualTo(ListCountCache.signature("q", null, "category", "ALL"));
+    }
+
+    private static class CountingLoader implements LongSupplier {
+
+        private final AtomicLong value;
+        private final AtomicInteger calls = new AtomicInteger();
+
+        CountingLoader(long value) {
+            this.value = new AtomicLong(value);
+        }
+
+        @Override
+        public long getAsLong() {
+            calls.incrementAndGet();
+            return value.get();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package org.example.backend.global.collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HierarchicalTimingWheelTest {
+
+    private static final long TICK = 1000;
+
+    @Test
+    @DisplayName("t1: 여러 레벨에 걸친 타이머가 만료 시각이 지난 첫 advance 에서 만료")
+    void t1_timersExpireOnFirstAdvanceAfterDeadline() {
+        long start = 5_000_000;
+        HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(TICK, start);
+        Random random = new Random(42);
+        Map<Long, Long> deadlines = new HashMap<>();
+        for (long key = 1; key <= 3000; key++) {
+            // 레벨 0 ~ 3 (최대 약 3일)
+            long deadline = start + (long) Math.pow(64, random.nextDouble() * 3.2) * TICK + random.nextInt(1000);
+            deadlines.put(key, deadline);
+            wheel.schedule(key, deadline);
+        }
+
+        long now = start;
+        while (!deadlines.isEmpty()) {
+            long previous = now;
+            now += 1 + random.nextInt(200_000);
+            long current = now;
+            List<Long> fired = new ArrayList<>();
+            wheel.advance(current, fired::add);
+
+            for (Long key : fired) {
+                long deadline = deadlines.remove(key);
+                long dueTick = -Math.floorDiv(-deadline, TICK);
+                assertThat(current / TICK).isGreaterThanOrEqualTo(dueTick);
+                assertThat(previous / TICK).isLessThan(dueTick);
+            }
+            deadlines.forEach((key, deadline) -> assertThat(deadline).isGreaterThan(current / TICK * TICK));
+        }
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("t2: 취소하거나 다시 등록한 타이머는 이전 시각에 만료되지 않음")
+    void t2_cancelAndReschedule() {
+        HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(TICK, 0);
+        wheel.schedule(1, 10 * TICK);
+        wheel.schedule(2, 10 * TICK);
+        wheel.schedule(3, 5000 * TICK);
+
+        assertThat(wheel.cancel(1)).isTrue();
+        assertThat(wheel.cancel(1)).isFalse();
+        wheel.schedule(2, 100 * TICK);
+        wheel.schedule(3, 20 * TICK);
+
+        List<Long> fired = new ArrayList<>();
+        wheel.advance(50 * TICK, fired::add);
+        assertThat(fired).containsExactly(3L);
+        assertThat(wheel.contains(2)).isTrue();
+
+        wheel.advance(100 * TICK, fired::add);
+        assertThat(fired).containsExactly(3L, 2L);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("t3: 이미 지난 시각과 아주 먼 시각의 타이머")
+    void t3_pastAndFarDeadlines() {
+        long start = 1_000 * TICK;
+        HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(TICK, start);
+        long far = start + (1L << 37) * TICK;
+        wheel.schedule(1, 0);
+        wheel.schedule(2, far);
+
+        List<Long> fired = new ArrayList<>();
+        wheel.advance(start, fired::add);
+        assertThat(fired).containsExactly(1L);
+
+        wheel.advance(far - TICK, fired::add);
+        assertThat(fired).containsExactly(1L);
+        wheel.advance(far, fired::add);
+        assertThat(fired).containsExactly(1L, 2L);
+    }
+}
@@ -0,0 +1,119 @@
+package org.example.backend.global.collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class LongHashSetTest {
+
+    @Test
+    @DisplayName("t1: 추가/포함/삭제와 0, 음수, 중복 값")
+    void t1_addContainsRemove() {
+        LongHashSet set = new LongHashSet();
+
+        assertThat(set.add(0)).isTrue();
+        assertThat(set.add(0)).isFalse();
+        assertThat(set.add(-7)).isTrue();
+        assertThat(set.add(Long.MAX_VALUE)).isTrue();
+        assertThat(set.add(Long.MIN_VALUE)).isTrue();
+        assertThat(set.size()).isEqualTo(4);
+        assertThat(set.contains(0)).isTrue();
+        assertThat(set.contains(-7)).isTrue();
+        assertThat(set.contains(7)).isFalse();
+
+        assertThat(set.remove(0)).isTrue();
+        assertThat(set.remove(0)).isFalse();
+        assertThat(set.remove(7)).isFalse();
+        assertThat(set.contains(0)).isFalse();
+        assertThat(set.size()).isEqualTo(3);
+        assertThat(set.toArray()).containsExactlyInAnyOrder(-7, Long.MAX_VALUE, Long.MIN_VALUE);
+    }
+
+    @Test
+    @DisplayName("t2: 테이블 끝에서 처음으로 이어지는 클러스터에서 삭제해도 나머지 값을 찾음")
+    void t2_removeInWrapAroundCluster() {
+        // 8칸 테이블의 마지막 칸에 모이는 값 3개와 0번 칸 값 1개로 7 → 0 → 1 → 2 칸에 걸친 클러스터를 만든다
+        List<Long> tail = new ArrayList<>(valuesWithHome(8, 7, 3));
+        tail.addAll(valuesWithHome(8, 0, 1));
+        LongHashSet set = new LongHashSet(1);
+        tail.forEach(set::add);
+        long[] slots = (long[]) ReflectionTestUtils.getField(set, "slots");
+        assertThat(slots).hasSize(8);
+        assertThat(new long[]{slots[7], slots[0], slots[1], slots[2]}).doesNotContain(0L);
+        assertThat(set.size()).isEqualTo(4);
+
+        for (Long removed : tail) {
+            LongHashSet copy = new LongHashSet(1);
+            tail.forEach(copy::add);
+
+            assertThat(copy.remove(removed)).isTrue();
+            for (Long value : tail) {
+                assertThat(copy.contains(value)).isEqualTo(!value.equals(removed));
+            }
+            // 삭제 후 다시 넣어도 중복되지 않음
+            assertThat(copy.add(removed)).isTrue();
+            assertThat(copy.add(removed)).isFalse();
+            assertThat(copy.size()).isEqualTo(4);
+        }
+    }
+
+    @Test
+    @DisplayName("t3: 크기가 늘어나도 모든 값을 유지")
+    void t3_resizeKeepsValues() {
+        LongHashSet set = new LongHashSet(2);
+        for (long value = 1; value <= 10_000; value++) {
+            assertThat(set.add(value * 31)).isTrue();
+        }
+
+        assertThat(set.size()).isEqualTo(10_000);
+        for (long value = 1; value <= 10_000; value++) {
+            assertThat(set.contains(value * 31)).isTrue();
+            assertThat(set.contains(value * 31 + 1)).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("t4: 무작위 추가/삭제/재추가 결과가 HashSet 과 같음")
+    void t4_matchesHashSetUnderRandomOperations() {
+        Random random = new Random(7);
+        LongHashSet set = new LongHashSet();
+        Set<Long> expected = new HashSet<>();
+
+        for (int i = 0; i < 200_000; i++) {
+            // 좁은 범위에서 뽑아 충돌/삭제/재추가가 자주 일어나게 한다
+            long value = random.nextInt(2_000) - 100;
+            if (random.nextInt(3) == 0) {
+                assertThat(set.remove(value)).isEqualTo(expected.remove(value));
+            } else {
+                assertThat(set.add(value)).isEqualTo(expected.add(value));
+            }
+            assertThat(set.size()).isEqualTo(expected.size());
+        }
+
+        for (long value = -100; value < 1_900; value++) {
+            assertThat(set.contains(value)).isEqualTo(expected.contains(value));
+        }
+        List<Long> values = new ArrayList<>();
+        set.forEach(values::add);
+        assertThat(values).containsExactlyInAnyOrderElementsOf(expected);
+    }
+
+    // 용량 capacity 인 테이블에서 home 칸에 해시되는 값 count 개 (LongHashSet.mix 와 같은 계산)
+    private static List<Long> valuesWithHome(int capacity, int home, int count) {
+        List<Long> values = new ArrayList<>();
+        for (long value = 1; values.size() < count; value++) {
+            long hash = value * 0x9E3779B97F4A7C15L;
+            if (((int) (hash ^ (hash >>> 32)) & (capacity - 1)) == home) {
+                values.add(value);
+            }
+        }
+        return values;
+    }
+}
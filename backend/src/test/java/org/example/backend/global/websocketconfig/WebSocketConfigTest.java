@@ -0,0 +1,30 @@
+package org.example.backend.global.websocketconfig;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class WebSocketConfigTest {
+
+    @Test
+    @DisplayName("t1: 브로커 모드는 simple/relay (대소문자 무관) 만 허용하고 그 외 값은 시작할 때 실패")
+    void t1_rejectsUnknownBrokerMode() {
+        assertThatCode(() -> configWithMode("simple").validateBrokerMode()).doesNotThrowAnyException();
+        assertThatCode(() -> configWithMode("RELAY").validateBrokerMode()).doesNotThrowAnyException();
+
+        assertThatThrownBy(() -> configWithMode("rely").validateBrokerMode())
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining(WebSocketConfig.BROKER_MODE_PROPERTY)
+            .hasMessageContaining("rely");
+    }
+
+    private WebSocketConfig configWithMode(String mode) {
+        WebSocketConfig config = new WebSocketConfig(mock(StompHandler.class));
+        ReflectionTestUtils.setField(config, "brokerMode", mode);
+        return config;
+    }
+}
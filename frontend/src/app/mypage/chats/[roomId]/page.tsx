@@ -3,7 +3,7 @@
 import { useEffect, useState, useRef } from 'react';
 import { useRouter, useParams } from 'next/navigation';
 import { api } from '@/lib/client';
-import { getWebSocketClient, ChatMessage } from '@/lib/websocket';
+import { getWebSocketClient, ChatMessage, ChatPresence } from '@/lib/websocket';
 import { TradeChatMessage } from '@/type/chat';
 
 interface ApiResponse<T> {
@@ -30,6 +30,11 @@ interface ChatRoomDetail {
   status: string;
 }
 
+// 채팅 내역 한 번에 불러올 메시지 수
+const MESSAGE_PAGE_SIZE = 50;
+// 입력 중 상태 재전송 간격 (서버는 5초 동안 갱신이 없으면 만료)
+const TYPING_SEND_INTERVAL_MS = 2000;
+
 export default function ChatRoomPage() {
   const router = useRouter();
   const params = useParams();
@@ -42,10 +47,16 @@ export default function ChatRoomPage() {
   const [currentUser, setCurrentUser] = useState<User | null>(null);
   const [wsConnected, setWsConnected] = useState(false);
   const [chatRoomInfo, setChatRoomInfo] = useState<ChatRoomDetail | null>(null);
+  const [hasOlderMessages, setHasOlderMessages] = useState(false);
+  const [loadingOlder, setLoadingOlder] = useState(false);
+  const [presence, setPresence] = useState<ChatPresence | null>(null);
 
   const messagesEndRef = useRef<HTMLDivElement>(null);
+  const lastMessageIdRef = useRef<number | null>(null);
   const wsClient = useRef(getWebSocketClient());
   const unsubscribeRef = useRef<(() => void) | null>(null);
+  const unsubscribePresenceRef = useRef<(() => void) | null>(null);
+  const lastTypingSentRef = useRef(0);
 
   // 현재 로그인한 사용자 정보 가져오기
   useEffect(() => {
@@ -73,11 +84,20 @@ export default function ChatRoomPage() {
         
         if (mounted) {
           setWsConnected(true);
+
+          // 접속/입력 중 상태 구독 (채팅방 구독보다 먼저 해야 현재 상태를 받음)
+          unsubscribePresenceRef.current = wsClient.current.subscribePresence(roomId, (update) => {
+            if (mounted) {
+              setPresence(update);
+            }
+          });
           
           // 메시지 수신 구독
           const unsubscribe = wsClient.current.subscribe(roomId, (message: ChatMessage) => {
             if (mounted) {
               setMessages(prev => [...prev, message as TradeChatMessage]);
+              // 채팅방을 보고 있으므로 받은 메시지까지 읽음 처리
+              wsClient.current.sendReadAck(roomId, message.messageId);
             }
           });
           
@@ -98,6 +118,9 @@ export default function ChatRoomPage() {
       if (unsubscribeRef.current) {
         unsubscribeRef.current();
       }
+      if (unsubscribePresenceRef.current) {
+        unsubscribePresenceRef.current();
+      }
     };
   }, [roomId]);
 
@@ -122,9 +145,10 @@ export default function ChatRoomPage() {
       try {
         setLoading(true);
         const response = await api.get<ApiResponse<TradeChatMessage[]>>(
-          `/api/chat/rooms/messages/${roomId}`
+          `/api/chat/rooms/messages/${roomId}?limit=${MESSAGE_PAGE_SIZE}`
         );
         setMessages(response.data);
+        setHasOlderMessages(response.data.length === MESSAGE_PAGE_SIZE);
       } catch (err) {
         setError(err instanceof Error ? err.message : '메시지를 불러오는데 실패했습니다.');
       } finally {
@@ -134,9 +158,31 @@ export default function ChatRoomPage() {
     loadMessages();
   }, [roomId]);
 
-  // 메시지가 추가될 때마다 스크롤을 아래로
+  // 이전 메시지 더 불러오기 (현재 가장 오래된 메시지 이전)
+  const loadOlderMessages = async () => {
+    if (loadingOlder || messages.length === 0) return;
+
+    try {
+      setLoadingOlder(true);
+      const response = await api.get<ApiResponse<TradeChatMessage[]>>(
+        `/api/chat/rooms/messages/${roomId}?before=${messages[0].messageId}&limit=${MESSAGE_PAGE_SIZE}`
+      );
+      setMessages(prev => [...response.data, ...prev]);
+      setHasOlderMessages(response.data.length === MESSAGE_PAGE_SIZE);
+    } catch (err) {
+      console.error('이전 메시지 조회 실패:', err);
+    } finally {
+      setLoadingOlder(false);
+    }
+  };
+
+  // 새 메시지가 추가될 때만 스크롤을 아래로 (이전 메시지를 불러올 때는 유지)
   useEffect(() => {
-    messagesEndRef.current?.scrollIntoView({ behavior: 'smooth' });
+    const lastMessageId = messages.length > 0 ? messages[messages.length - 1].messageId : null;
+    if (lastMessageId !== lastMessageIdRef.current) {
+      lastMessageIdRef.current = lastMessageId;
+      messagesEndRef.current?.scrollIntoView({ behavior: 'smooth' });
+    }
   }, [messages]);
 
   const sendMessage = () => {
@@ -144,6 +190,25 @@ export default function ChatRoomPage() {
 
     wsClient.current.sendMessage(roomId, inputMessage, currentUser.memberId);
     setInputMessage('');
+    // 메시지를 보내면 서버가 입력 중 상태를 해제
+    lastTypingSentRef.current = 0;
+  };
+
+  // 입력 중 상태는 일정 간격으로만 전송 (키 입력마다 보내지 않음)
+  const handleInputChange = (value: string) => {
+    setInputMessage(value);
+    if (!wsConnected) return;
+
+    const now = Date.now();
+    if (value.trim()) {
+      if (now - lastTypingSentRef.current >= TYPING_SEND_INTERVAL_MS) {
+        wsClient.current.sendTyping(roomId, true);
+        lastTypingSentRef.current = now;
+      }
+    } else if (lastTypingSentRef.current > 0) {
+      wsClient.current.sendTyping(roomId, false);
+      lastTypingSentRef.current = 0;
+    }
   };
 
   const handleKeyPress = (e: React.KeyboardEvent) => {
@@ -218,6 +283,8 @@ export default function ChatRoomPage() {
   }
 
   const messageGroups = groupMessagesByDate(messages);
+  const isOtherOnline = presence?.onlineMemberIds.some(id => id !== currentUser?.memberId) ?? false;
+  const isOtherTyping = presence?.typingMemberIds.some(id => id !== currentUser?.memberId) ?? false;
 
   return (
     <div className="flex flex-col h-screen bg-gray-50">
@@ -245,6 +312,9 @@ export default function ChatRoomPage() {
               <span className="text-gray-600">
                 {wsConnected ? '연결됨' : '연결 중...'}
               </span>
+              {isOtherOnline && (
+                <span className="text-green-600 ml-2">상대방 접속 중</span>
+              )}
             </div>
           </div>
         </div>
@@ -252,6 +322,17 @@ export default function ChatRoomPage() {
 
       {/* 메시지 영역 */}
       <div className="flex-1 overflow-y-auto p-4 space-y-4">
+        {hasOlderMessages && (
+          <div className="flex justify-center">
+            <button
+              onClick={loadOlderMessages}
+              disabled={loadingOlder}
+              className="text-xs text-gray-600 bg-white border border-gray-200 px-3 py-1 rounded-full hover:bg-gray-100 disabled:opacity-50"
+            >
+              {loadingOlder ? '불러오는 중...' : '이전 메시지 더 보기'}
+            </button>
+          </div>
+        )}
         {Object.keys(messageGroups).length === 0 ? (
           <div className="flex items-center justify-center h-full">
             <div className="text-center text-gray-500">
@@ -317,10 +398,13 @@ export default function ChatRoomPage() {
 
       {/* 입력 영역 */}
       <div className="bg-white border-t border-gray-200 p-4">
+        {isOtherTyping && (
+          <div className="text-xs text-gray-500 mb-2">상대방이 입력 중입니다...</div>
+        )}
         <div className="flex gap-2">
           <textarea
             value={inputMessage}
-            onChange={(e) => setInputMessage(e.target.value)}
+            onChange={(e) => handleInputChange(e.target.value)}
             onKeyPress={handleKeyPress}
             placeholder="메시지를 입력하세요..."
             disabled={!wsConnected}
@@ -16,7 +16,14 @@ interface ChatMessage {
   sendDate: string;
 }
 
+interface ChatPresence {
+  roomId: number;
+  onlineMemberIds: number[];
+  typingMemberIds: number[];
+}
+
 type MessageCallback = (message: ChatMessage) => void;
+type PresenceCallback = (presence: ChatPresence) => void;
 
 class WebSocketClient {
   private client: Client | null = null;
@@ -124,6 +131,50 @@ class WebSocketClient {
     };
   }
 
+  /**
+   * 채팅방 접속/입력 중 상태 구독 (서버가 모아서 변경 시에만 전송)
+   */
+  subscribePresence(roomId: number, callback: PresenceCallback): (() => void) | null {
+    if (!this.client?.connected) {
+      console.error('❌ 웹소켓이 연결되지 않았습니다.');
+      return null;
+    }
+
+    const subscription = this.client.subscribe(`/receive/${roomId}/presence`, (message: IMessage) => {
+      try {
+        callback(JSON.parse(message.body) as ChatPresence);
+      } catch (error) {
+        console.error('접속 상태 파싱 실패:', error);
+      }
+    });
+
+    return () => subscription.unsubscribe();
+  }
+
+  /**
+   * 입력 중 상태 전송 (입력하는 동안 주기적으로 true, 멈추면 false)
+   */
+  sendTyping(roomId: number, typing: boolean): void {
+    if (!this.client?.connected) return;
+
+    this.client.publish({
+      destination: `/send/${roomId}/typing`,
+      body: JSON.stringify({ typing }),
+    });
+  }
+
+  /**
+   * 읽음 확인 전송 (이 메시지까지 읽음)
+   */
+  sendReadAck(roomId: number, messageId: number): void {
+    if (!this.client?.connected) return;
+
+    this.client.publish({
+      destination: `/send/${roomId}/read`,
+      body: JSON.stringify({ messageId }),
+    });
+  }
+
   /**
    * 메시지 전송 (senderId와 content 전송)
    */
@@ -176,5 +227,5 @@ export function getWebSocketClient(): WebSocketClient {
   return wsClient;
 }
 
-export type { ChatMessage, MessageCallback };
+export type { ChatMessage, ChatPresence, MessageCallback, PresenceCallback };
 